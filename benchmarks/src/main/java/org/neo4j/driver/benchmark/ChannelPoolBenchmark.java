@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
+import org.neo4j.driver.internal.async.pool.LocalChannelPools;
+
+/**
+ * Acquire and release of pooled channels by many threads sharing one pool. Channels are in-VM local channels, so
+ * the benchmark measures the pool itself rather than any network.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@Threads( 16 )
+public class ChannelPoolBenchmark
+{
+    private static final long ACQUIRE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis( 1 );
+
+    @Param( {"LOCK_FREE", "NETTY"} )
+    private PoolType poolType;
+
+    @Param( {"4", "100"} )
+    private int maxConnections;
+
+    private LocalChannelPools pools;
+    private ExtendedChannelPool pool;
+
+    @Setup
+    public void setup()
+    {
+        pools = new LocalChannelPools( 4 );
+        pool = poolType == PoolType.LOCK_FREE
+               ? pools.newLockFreePool( maxConnections, ACQUIRE_TIMEOUT_MILLIS )
+               : pools.newNettyPool( maxConnections, ACQUIRE_TIMEOUT_MILLIS );
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        pool.close().toCompletableFuture().join();
+        pools.close();
+    }
+
+    @Benchmark
+    public void acquireAndRelease()
+    {
+        pool.acquire().thenCompose( pool::release ).toCompletableFuture().join();
+    }
+
+    public enum PoolType
+    {
+        LOCK_FREE,
+        NETTY
+    }
+}
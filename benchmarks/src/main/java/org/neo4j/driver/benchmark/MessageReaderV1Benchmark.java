@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.benchmark.util.ByteArrayPackInput;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.ResponseMessageHandler;
+import org.neo4j.driver.internal.messaging.v1.MessageReaderV1;
+
+/**
+ * Decoding of a stream of RECORD messages with {@link MessageReaderV1}, reported per record.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class MessageReaderV1Benchmark
+{
+    private static final int RECORDS = 100;
+
+    @Param( {"WIDE_ROW", "DEEP_MAP", "NODE", "PATH", "VECTOR"} )
+    private RecordShape shape;
+
+    private ByteArrayPackInput input;
+    private MessageFormat.Reader reader;
+    private ResponseMessageHandler handler;
+
+    @Setup
+    public void setup( Blackhole blackhole ) throws IOException
+    {
+        input = new ByteArrayPackInput( shape.encodeRecordMessages( RECORDS ) );
+        reader = new MessageReaderV1( input );
+        handler = new ConsumingResponseMessageHandler( blackhole );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( RECORDS )
+    public void readRecords() throws IOException
+    {
+        input.reset();
+        while ( input.hasMoreData() )
+        {
+            reader.read( handler );
+        }
+    }
+
+    private static class ConsumingResponseMessageHandler implements ResponseMessageHandler
+    {
+        final Blackhole blackhole;
+
+        ConsumingResponseMessageHandler( Blackhole blackhole )
+        {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void handleSuccessMessage( Map<String,Value> meta )
+        {
+            blackhole.consume( meta );
+        }
+
+        @Override
+        public void handleRecordMessage( Value[] fields )
+        {
+            blackhole.consume( fields );
+        }
+
+        @Override
+        public void handleFailureMessage( String code, String message )
+        {
+            blackhole.consume( code );
+        }
+
+        @Override
+        public void handleIgnoredMessage()
+        {
+        }
+    }
+}
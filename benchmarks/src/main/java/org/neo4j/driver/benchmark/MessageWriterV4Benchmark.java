@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.benchmark.util.ByteArrayPackOutput;
+import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.v4.MessageWriterV4;
+import org.neo4j.driver.internal.value.MapValue;
+
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.autoCommitTxRunMessage;
+
+/**
+ * Encoding of the request messages sent for every query with {@link MessageWriterV4}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class MessageWriterV4Benchmark
+{
+    private static final String QUERY = "MATCH (p:Person {id: $p0}) SET p += $props RETURN p.name AS name, p.createdAt AS createdAt";
+    private static final Bookmark BOOKMARK = InternalBookmark.parse( "FB:kcwQhRyDJB3IQBiNKBPQHkjF1gaQ" );
+
+    @Param( {"WIDE_ROW", "DEEP_MAP", "TEMPORAL", "SPATIAL"} )
+    private RecordShape shape;
+
+    private ByteArrayPackOutput output;
+    private MessageFormat.Writer writer;
+    private Message run;
+    private Message preparedRun;
+    private Message begin;
+
+    @Setup
+    public void setup()
+    {
+        output = new ByteArrayPackOutput( 8192 );
+        writer = new MessageWriterV4( output );
+        Query query = new Query( QUERY, new MapValue( shape.parameters() ) );
+        run = autoCommitTxRunMessage( query, TransactionConfig.empty(), database( "neo4j" ), AccessMode.WRITE, BOOKMARK );
+        preparedRun = autoCommitTxRunMessage( query.prepare(), TransactionConfig.empty(), database( "neo4j" ), AccessMode.WRITE, BOOKMARK );
+        begin = new BeginMessage( BOOKMARK, TransactionConfig.empty(), database( "neo4j" ), AccessMode.WRITE );
+    }
+
+    @Benchmark
+    public int writeRunAndPull() throws IOException
+    {
+        output.reset();
+        writer.write( run );
+        writer.write( PullMessage.PULL_ALL );
+        return output.size();
+    }
+
+    @Benchmark
+    public int writePreparedRunAndPull() throws IOException
+    {
+        output.reset();
+        writer.write( preparedRun );
+        writer.write( PullMessage.PULL_ALL );
+        return output.size();
+    }
+
+    @Benchmark
+    public int writeBegin() throws IOException
+    {
+        output.reset();
+        writer.write( begin );
+        return output.size();
+    }
+}
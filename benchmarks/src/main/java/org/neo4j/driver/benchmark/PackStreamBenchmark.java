@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.benchmark.util.ByteArrayPackInput;
+import org.neo4j.driver.benchmark.util.ByteArrayPackOutput;
+import org.neo4j.driver.internal.packstream.PackStream;
+
+/**
+ * Raw {@link PackStream.Packer} and {@link PackStream.Unpacker} throughput for the primitives that dominate Bolt traffic:
+ * short repeated map keys, long strings and integers of every encoded width.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PackStreamBenchmark
+{
+    private static final String[] KEYS = {"name", "id", "createdAt", "updatedAt", "email", "score", "active", "tags"};
+    private static final String LONG_STRING = longString( 4096 );
+    private static final long[] LONGS = {0, 42, -16, 127, -17, -128, 200, -129, 32_767, -32_768, 40_000, -70_000,
+            2_147_483_647L, 3_000_000_000L, Long.MIN_VALUE, Long.MAX_VALUE};
+
+    private ByteArrayPackOutput output;
+    private PackStream.Packer packer;
+
+    private ByteArrayPackInput keysInput;
+    private PackStream.Unpacker keysUnpacker;
+    private ByteArrayPackInput longStringInput;
+    private PackStream.Unpacker longStringUnpacker;
+    private ByteArrayPackInput longsInput;
+    private PackStream.Unpacker longsUnpacker;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        output = new ByteArrayPackOutput( 8192 );
+        packer = new PackStream.Packer( output );
+
+        keysInput = new ByteArrayPackInput( encode( this::packKeys ) );
+        keysUnpacker = new PackStream.Unpacker( keysInput );
+        longStringInput = new ByteArrayPackInput( encode( this::packLongString ) );
+        longStringUnpacker = new PackStream.Unpacker( longStringInput );
+        longsInput = new ByteArrayPackInput( encode( this::packLongs ) );
+        longsUnpacker = new PackStream.Unpacker( longsInput );
+    }
+
+    @Benchmark
+    public int packKeys() throws IOException
+    {
+        output.reset();
+        for ( String key : KEYS )
+        {
+            packer.pack( key );
+        }
+        return output.size();
+    }
+
+    @Benchmark
+    public int packLongString() throws IOException
+    {
+        output.reset();
+        packer.pack( LONG_STRING );
+        return output.size();
+    }
+
+    @Benchmark
+    public int packLongs() throws IOException
+    {
+        output.reset();
+        for ( long value : LONGS )
+        {
+            packer.pack( value );
+        }
+        return output.size();
+    }
+
+    @Benchmark
+    public void unpackKeys( Blackhole blackhole ) throws IOException
+    {
+        keysInput.reset();
+        for ( int i = 0; i < KEYS.length; i++ )
+        {
+            blackhole.consume( keysUnpacker.unpackString() );
+        }
+    }
+
+    @Benchmark
+    public String unpackLongString() throws IOException
+    {
+        longStringInput.reset();
+        return longStringUnpacker.unpackString();
+    }
+
+    @Benchmark
+    public long unpackLongs() throws IOException
+    {
+        longsInput.reset();
+        long sum = 0;
+        for ( int i = 0; i < LONGS.length; i++ )
+        {
+            sum += longsUnpacker.unpackLong();
+        }
+        return sum;
+    }
+
+    private byte[] encode( PackAction action ) throws IOException
+    {
+        action.pack();
+        byte[] bytes = output.toByteArray();
+        output.reset();
+        return bytes;
+    }
+
+    private static String longString( int length )
+    {
+        StringBuilder sb = new StringBuilder( length );
+        while ( sb.length() < length )
+        {
+            sb.append( "{\"id\":" ).append( sb.length() ).append( ",\"name\":\"Ä json-like blob\"}" );
+        }
+        return sb.substring( 0, length );
+    }
+
+    private interface PackAction
+    {
+        Object pack() throws IOException;
+    }
+}
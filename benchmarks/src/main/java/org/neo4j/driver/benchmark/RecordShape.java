@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.benchmark.util.ByteArrayPackOutput;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalPath;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
+import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.MapValue;
+import org.neo4j.driver.internal.value.NodeValue;
+import org.neo4j.driver.internal.value.PathValue;
+import org.neo4j.driver.types.Entity;
+
+import static java.util.Arrays.asList;
+import static org.neo4j.driver.Values.isoDuration;
+import static org.neo4j.driver.Values.point;
+import static org.neo4j.driver.Values.value;
+
+/**
+ * Realistic shapes of records returned by the database. Every shape produces the fields of a single record.
+ */
+public enum RecordShape
+{
+    /**
+     * A record with 20 columns of mixed scalar types, like a typical tabular projection.
+     */
+    WIDE_ROW( false )
+            {
+                @Override
+                Value[] fields()
+                {
+                    Value[] fields = new Value[20];
+                    for ( int i = 0; i < fields.length; i += 5 )
+                    {
+                        fields[i] = value( 1_000_000L + i );
+                        fields[i + 1] = value( "string column value number " + i );
+                        fields[i + 2] = value( i * 3.14 );
+                        fields[i + 3] = value( i % 2 == 0 );
+                        fields[i + 4] = value( (Object) null );
+                    }
+                    return fields;
+                }
+            },
+
+    /**
+     * A single column with a map nested six levels deep, every level has a few scalar entries.
+     */
+    DEEP_MAP( false )
+            {
+                @Override
+                Value[] fields()
+                {
+                    Value map = new MapValue( scalarProperties( 5 ) );
+                    for ( int level = 0; level < 6; level++ )
+                    {
+                        Map<String,Value> parent = scalarProperties( 5 );
+                        parent.put( "child", map );
+                        map = new MapValue( parent );
+                    }
+                    return new Value[]{map};
+                }
+            },
+
+    /**
+     * A single column with a node with two labels and 30 properties.
+     */
+    NODE( false )
+            {
+                @Override
+                Value[] fields()
+                {
+                    return new Value[]{new NodeValue( node( 42 ) )};
+                }
+            },
+
+    /**
+     * A single column with a path of 5 hops, nodes and relationships carry properties.
+     */
+    PATH( false )
+            {
+                @Override
+                Value[] fields()
+                {
+                    List<Entity> entities = new ArrayList<>();
+                    entities.add( node( 0 ) );
+                    for ( int i = 1; i <= 5; i++ )
+                    {
+                        entities.add( new InternalRelationship( 100 + i, i - 1, i, "KNOWS", scalarProperties( 3 ) ) );
+                        entities.add( node( i ) );
+                    }
+                    return new Value[]{new PathValue( new InternalPath( entities ) )};
+                }
+            },
+
+    /**
+     * A record with a column of every temporal type.
+     */
+    TEMPORAL( true )
+            {
+                @Override
+                Value[] fields()
+                {
+                    return new Value[]{
+                            value( LocalDate.of( 2020, 6, 1 ) ),
+                            value( OffsetTime.of( 12, 30, 15, 1234, ZoneOffset.ofHours( 2 ) ) ),
+                            value( LocalTime.of( 23, 59, 59, 999_999_999 ) ),
+                            value( LocalDateTime.of( 2020, 6, 1, 12, 30, 15, 1234 ) ),
+                            value( ZonedDateTime.of( 2020, 6, 1, 12, 30, 15, 1234, ZoneOffset.ofHours( -5 ) ) ),
+                            value( ZonedDateTime.of( 2020, 6, 1, 12, 30, 15, 1234, ZoneId.of( "Europe/Stockholm" ) ) ),
+                            isoDuration( 14, 3, 7200, 500 )};
+                }
+            },
+
+    /**
+     * A record with 2D and 3D points and a list of 100 2D points.
+     */
+    SPATIAL( true )
+            {
+                @Override
+                Value[] fields()
+                {
+                    Value[] points = new Value[100];
+                    for ( int i = 0; i < points.length; i++ )
+                    {
+                        points[i] = point( 4326, 12.0 + i / 100.0, 56.0 - i / 100.0 );
+                    }
+                    return new Value[]{
+                            point( 7203, 1.5, 2.5 ),
+                            point( 9157, 1.5, 2.5, 3.5 ),
+                            new ListValue( points )};
+                }
+            },
+
+    /**
+     * An id column and two numeric vectors, like embeddings and time series read back from properties.
+     */
+    VECTOR( false )
+            {
+                @Override
+                Value[] fields()
+                {
+                    double[] embedding = new double[768];
+                    long[] timestamps = new long[256];
+                    for ( int i = 0; i < embedding.length; i++ )
+                    {
+                        embedding[i] = Math.sin( i ) / 3.0;
+                    }
+                    for ( int i = 0; i < timestamps.length; i++ )
+                    {
+                        timestamps[i] = 1_600_000_000_000L + i * 60_000L;
+                    }
+                    return new Value[]{value( 42L ), value( embedding ), value( timestamps )};
+                }
+            };
+
+    private final boolean requiresV2;
+
+    RecordShape( boolean requiresV2 )
+    {
+        this.requiresV2 = requiresV2;
+    }
+
+    abstract Value[] fields();
+
+    /**
+     * @return {@code true} when this shape contains types only available in Bolt V2 and later.
+     */
+    boolean requiresV2()
+    {
+        return requiresV2;
+    }
+
+    /**
+     * @return the fields of this shape keyed by column name, suitable as query parameters.
+     */
+    Map<String,Value> parameters()
+    {
+        Value[] fields = fields();
+        Map<String,Value> parameters = new HashMap<>();
+        for ( int i = 0; i < fields.length; i++ )
+        {
+            parameters.put( "p" + i, fields[i] );
+        }
+        return parameters;
+    }
+
+    /**
+     * Encode the given number of RECORD messages of this shape like the database would, back to back without chunking.
+     */
+    byte[] encodeRecordMessages( int count ) throws IOException
+    {
+        ByteArrayPackOutput output = new ByteArrayPackOutput( 8192 );
+        MessageFormat.Writer writer = new KnowledgeableMessageFormat().newWriter( output );
+        RecordMessage message = new RecordMessage( fields() );
+        for ( int i = 0; i < count; i++ )
+        {
+            writer.write( message );
+        }
+        return output.toByteArray();
+    }
+
+    private static InternalNode node( long id )
+    {
+        return new InternalNode( id, asList( "Person", "Employee" ), scalarProperties( 30 ) );
+    }
+
+    private static Map<String,Value> scalarProperties( int count )
+    {
+        Map<String,Value> properties = new HashMap<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            switch ( i % 3 )
+            {
+            case 0:
+                properties.put( "name" + i, value( "property value " + i ) );
+                break;
+            case 1:
+                properties.put( "id" + i, value( 31_337L * i ) );
+                break;
+            default:
+                properties.put( "score" + i, value( i / 7.0 ) );
+            }
+        }
+        return properties;
+    }
+}
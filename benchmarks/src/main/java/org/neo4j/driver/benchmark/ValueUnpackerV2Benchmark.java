@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.benchmark.util.ByteArrayPackInput;
+import org.neo4j.driver.internal.messaging.ValueUnpacker;
+import org.neo4j.driver.internal.messaging.v2.ValueUnpackerV2;
+
+/**
+ * Decoding of record fields with {@link ValueUnpackerV2}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ValueUnpackerV2Benchmark
+{
+    @Param( {"WIDE_ROW", "DEEP_MAP", "NODE", "PATH", "TEMPORAL", "SPATIAL"} )
+    private RecordShape shape;
+
+    private ByteArrayPackInput input;
+    private ValueUnpacker unpacker;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        input = new ByteArrayPackInput( shape.encodeRecordMessages( 1 ) );
+        unpacker = new ValueUnpackerV2( input );
+    }
+
+    @Benchmark
+    public Value[] unpackRecordFields() throws IOException
+    {
+        input.reset();
+        unpacker.unpackStructHeader();
+        unpacker.unpackStructSignature();
+        return unpacker.unpackArray();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark.util;
+
+import java.nio.ByteBuffer;
+
+import org.neo4j.driver.internal.packstream.PackInput;
+
+/**
+ * A {@link PackInput} over a fixed heap array that can be {@link #reset() rewound}, so that the same encoded bytes can be
+ * decoded in every benchmark invocation.
+ */
+public class ByteArrayPackInput implements PackInput
+{
+    private final ByteBuffer buffer;
+
+    public ByteArrayPackInput( byte[] bytes )
+    {
+        this.buffer = ByteBuffer.wrap( bytes );
+    }
+
+    public void reset()
+    {
+        buffer.rewind();
+    }
+
+    public boolean hasMoreData()
+    {
+        return buffer.hasRemaining();
+    }
+
+    @Override
+    public byte readByte()
+    {
+        return buffer.get();
+    }
+
+    @Override
+    public short readShort()
+    {
+        return buffer.getShort();
+    }
+
+    @Override
+    public int readInt()
+    {
+        return buffer.getInt();
+    }
+
+    @Override
+    public long readLong()
+    {
+        return buffer.getLong();
+    }
+
+    @Override
+    public double readDouble()
+    {
+        return buffer.getDouble();
+    }
+
+    @Override
+    public void readBytes( byte[] into, int offset, int toRead )
+    {
+        buffer.get( into, offset, toRead );
+    }
+
+    @Override
+    public byte peekByte()
+    {
+        return buffer.get( buffer.position() );
+    }
+}
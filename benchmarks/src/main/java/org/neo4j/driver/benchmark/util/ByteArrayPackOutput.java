@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.neo4j.driver.internal.packstream.PackOutput;
+
+/**
+ * A {@link PackOutput} that writes into a growable heap array and can be {@link #reset() reset} between benchmark invocations,
+ * so that the measured cost is the cost of encoding and not the cost of the sink.
+ */
+public class ByteArrayPackOutput implements PackOutput
+{
+    private ByteBuffer buffer;
+
+    public ByteArrayPackOutput( int initialCapacity )
+    {
+        this.buffer = ByteBuffer.allocate( initialCapacity );
+    }
+
+    public void reset()
+    {
+        buffer.clear();
+    }
+
+    public int size()
+    {
+        return buffer.position();
+    }
+
+    public byte[] toByteArray()
+    {
+        return Arrays.copyOf( buffer.array(), buffer.position() );
+    }
+
+    @Override
+    public PackOutput writeByte( byte value )
+    {
+        ensure( 1 );
+        buffer.put( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeBytes( byte[] data )
+    {
+        ensure( data.length );
+        buffer.put( data );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeShort( short value )
+    {
+        ensure( 2 );
+        buffer.putShort( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeInt( int value )
+    {
+        ensure( 4 );
+        buffer.putInt( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeLong( long value )
+    {
+        ensure( 8 );
+        buffer.putLong( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeDouble( double value )
+    {
+        ensure( 8 );
+        buffer.putDouble( value );
+        return this;
+    }
+
+    private void ensure( int size )
+    {
+        if ( buffer.remaining() < size )
+        {
+            int newCapacity = Math.max( buffer.capacity() * 2, buffer.position() + size );
+            ByteBuffer newBuffer = ByteBuffer.allocate( newCapacity );
+            buffer.flip();
+            newBuffer.put( buffer );
+            buffer = newBuffer;
+        }
+    }
+}
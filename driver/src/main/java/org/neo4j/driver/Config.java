@@ -32,12 +32,14 @@ import org.neo4j.driver.exceptions.SessionExpiredException;
 import org.neo4j.driver.exceptions.TransientException;
 import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.SecuritySettings;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.retry.RetrySettings;
 import org.neo4j.driver.net.ServerAddressResolver;
 import org.neo4j.driver.reactive.RxSession;
+import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Immutable;
 import org.neo4j.driver.util.Resource;
 
@@ -81,8 +83,10 @@ public class Config
     private final boolean logLeakedSessions;
 
     private final int maxConnectionPoolSize;
+    private final int minIdleConnections;
 
     private final long idleTimeBeforeConnectionTest;
+    private final long idleConnectionValidationIntervalMillis;
     private final long maxConnectionLifetimeMillis;
     private final long connectionAcquisitionTimeoutMillis;
 
@@ -99,6 +103,23 @@ public class Config
 
     private final boolean isMetricsEnabled;
     private final int eventLoopThreads;
+    private final NetworkTransport networkTransport;
+    private final boolean tcpNoDelay;
+    private final int socketReceiveBufferSize;
+    private final int socketSendBufferSize;
+    private final int writeBufferLowWatermark;
+    private final int writeBufferHighWatermark;
+    private final int readBufferMinimumSize;
+    private final int readBufferInitialSize;
+    private final int readBufferMaximumSize;
+    private final BufferAllocator bufferAllocator;
+    private final BufferLeakDetection bufferLeakDetection;
+    private final boolean flushConsolidation;
+    private final boolean pipelinedTransactionFunctions;
+    private final long recordBufferLowWatermark;
+    private final long recordBufferHighWatermark;
+    private final boolean compression;
+    private final int compressionMinimumMessageSize;
     private final String userAgent;
 
     private Config( ConfigBuilder builder )
@@ -107,8 +128,10 @@ public class Config
         this.logLeakedSessions = builder.logLeakedSessions;
 
         this.idleTimeBeforeConnectionTest = builder.idleTimeBeforeConnectionTest;
+        this.idleConnectionValidationIntervalMillis = builder.idleConnectionValidationIntervalMillis;
         this.maxConnectionLifetimeMillis = builder.maxConnectionLifetimeMillis;
         this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.minIdleConnections = builder.minIdleConnections;
         this.connectionAcquisitionTimeoutMillis = builder.connectionAcquisitionTimeoutMillis;
         this.userAgent = builder.userAgent;
 
@@ -123,6 +146,23 @@ public class Config
         this.fetchSize = builder.fetchSize;
 
         this.eventLoopThreads = builder.eventLoopThreads;
+        this.networkTransport = builder.networkTransport;
+        this.tcpNoDelay = builder.tcpNoDelay;
+        this.socketReceiveBufferSize = builder.socketReceiveBufferSize;
+        this.socketSendBufferSize = builder.socketSendBufferSize;
+        this.writeBufferLowWatermark = builder.writeBufferLowWatermark;
+        this.writeBufferHighWatermark = builder.writeBufferHighWatermark;
+        this.readBufferMinimumSize = builder.readBufferMinimumSize;
+        this.readBufferInitialSize = builder.readBufferInitialSize;
+        this.readBufferMaximumSize = builder.readBufferMaximumSize;
+        this.bufferAllocator = builder.bufferAllocator;
+        this.bufferLeakDetection = builder.bufferLeakDetection;
+        this.flushConsolidation = builder.flushConsolidation;
+        this.pipelinedTransactionFunctions = builder.pipelinedTransactionFunctions;
+        this.recordBufferLowWatermark = builder.recordBufferLowWatermark;
+        this.recordBufferHighWatermark = builder.recordBufferHighWatermark;
+        this.compression = builder.compression;
+        this.compressionMinimumMessageSize = builder.compressionMinimumMessageSize;
         this.isMetricsEnabled = builder.isMetricsEnabled;
     }
 
@@ -156,6 +196,17 @@ public class Config
         return idleTimeBeforeConnectionTest;
     }
 
+    /**
+     * Pooled connections that have been idle for this interval are tested in the background.
+     *
+     * @return validation interval in milliseconds, negative when background validation is disabled.
+     */
+    @Experimental
+    public long idleConnectionValidationIntervalMillis()
+    {
+        return idleConnectionValidationIntervalMillis;
+    }
+
     /**
      * Pooled connections older than this threshold will be closed and removed from the pool.
      *
@@ -179,6 +230,15 @@ public class Config
         return maxConnectionPoolSize;
     }
 
+    /**
+     * @return the amount of idle connections kept open towards every known database server.
+     */
+    @Experimental
+    public int minIdleConnections()
+    {
+        return minIdleConnections;
+    }
+
     public long connectionAcquisitionTimeoutMillis()
     {
         return connectionAcquisitionTimeoutMillis;
@@ -256,6 +316,159 @@ public class Config
         return eventLoopThreads;
     }
 
+    /**
+     * @return the network transport used for the driver's event loop.
+     */
+    @Experimental
+    public NetworkTransport networkTransport()
+    {
+        return networkTransport;
+    }
+
+    /**
+     * @return {@code true} when Nagle's algorithm is disabled on driver connections.
+     */
+    @Experimental
+    public boolean tcpNoDelay()
+    {
+        return tcpNoDelay;
+    }
+
+    /**
+     * @return size of the socket receive buffer in bytes, {@code 0} when the operating system default is used.
+     */
+    @Experimental
+    public int socketReceiveBufferSize()
+    {
+        return socketReceiveBufferSize;
+    }
+
+    /**
+     * @return size of the socket send buffer in bytes, {@code 0} when the operating system default is used.
+     */
+    @Experimental
+    public int socketSendBufferSize()
+    {
+        return socketSendBufferSize;
+    }
+
+    /**
+     * @return number of pending outbound bytes below which a connection becomes writable again, {@code 0} when the default is used.
+     */
+    @Experimental
+    public int writeBufferLowWatermark()
+    {
+        return writeBufferLowWatermark;
+    }
+
+    /**
+     * @return number of pending outbound bytes above which a connection stops being writable, {@code 0} when the default is used.
+     */
+    @Experimental
+    public int writeBufferHighWatermark()
+    {
+        return writeBufferHighWatermark;
+    }
+
+    /**
+     * @return minimum size in bytes of the buffers used to read from connections, {@code 0} when the default is used.
+     */
+    @Experimental
+    public int readBufferMinimumSize()
+    {
+        return readBufferMinimumSize;
+    }
+
+    /**
+     * @return initial size in bytes of the buffers used to read from connections, {@code 0} when the default is used.
+     */
+    @Experimental
+    public int readBufferInitialSize()
+    {
+        return readBufferInitialSize;
+    }
+
+    /**
+     * @return maximum size in bytes of the buffers used to read from connections, {@code 0} when the default is used.
+     */
+    @Experimental
+    public int readBufferMaximumSize()
+    {
+        return readBufferMaximumSize;
+    }
+
+    /**
+     * @return the allocator of network buffers.
+     */
+    @Experimental
+    public BufferAllocator bufferAllocator()
+    {
+        return bufferAllocator;
+    }
+
+    /**
+     * @return the level of detection of leaked network buffers.
+     */
+    @Experimental
+    public BufferLeakDetection bufferLeakDetection()
+    {
+        return bufferLeakDetection;
+    }
+
+    /**
+     * @return {@code true} when flushes issued during the same event loop iteration are merged into a single flush.
+     */
+    @Experimental
+    public boolean flushConsolidation()
+    {
+        return flushConsolidation;
+    }
+
+    /**
+     * @return {@code true} when transaction functions send BEGIN, queries and COMMIT without waiting for responses in between.
+     */
+    @Experimental
+    public boolean pipelinedTransactionFunctions()
+    {
+        return pipelinedTransactionFunctions;
+    }
+
+    /**
+     * @return number of buffered bytes of received records per connection below which the driver resumes receiving records.
+     */
+    @Experimental
+    public long recordBufferLowWatermark()
+    {
+        return recordBufferLowWatermark;
+    }
+
+    /**
+     * @return number of buffered bytes of received records per connection above which the driver stops receiving records.
+     */
+    @Experimental
+    public long recordBufferHighWatermark()
+    {
+        return recordBufferHighWatermark;
+    }
+
+    /**
+     * @return {@code true} when traffic after the handshake is compressed for a proxy that decompresses it.
+     */
+    @Experimental
+    public boolean isCompressionEnabled()
+    {
+        return compression;
+    }
+
+    /**
+     * @return minimum size in bytes of an outbound message to be compressed.
+     */
+    @Experimental
+    public int compressionMinimumMessageSize()
+    {
+        return compressionMinimumMessageSize;
+    }
+
     /**
      * @return if the metrics is enabled or not on this driver.
      */
@@ -280,7 +493,9 @@ public class Config
         private Logging logging = javaUtilLogging( Level.INFO );
         private boolean logLeakedSessions;
         private int maxConnectionPoolSize = PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private int minIdleConnections = PoolSettings.DEFAULT_MIN_IDLE_CONNECTIONS;
         private long idleTimeBeforeConnectionTest = PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
+        private long idleConnectionValidationIntervalMillis = PoolSettings.DEFAULT_IDLE_CONNECTION_VALIDATION_INTERVAL;
         private long maxConnectionLifetimeMillis = PoolSettings.DEFAULT_MAX_CONNECTION_LIFETIME;
         private long connectionAcquisitionTimeoutMillis = PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
         private String userAgent = format( "neo4j-java/%s", driverVersion() );
@@ -294,6 +509,23 @@ public class Config
         private boolean isMetricsEnabled = false;
         private long fetchSize = FetchSizeUtil.DEFAULT_FETCH_SIZE;
         private int eventLoopThreads = 0;
+        private NetworkTransport networkTransport = NetworkTransport.NIO;
+        private boolean tcpNoDelay = true;
+        private int socketReceiveBufferSize;
+        private int socketSendBufferSize;
+        private int writeBufferLowWatermark;
+        private int writeBufferHighWatermark;
+        private int readBufferMinimumSize;
+        private int readBufferInitialSize;
+        private int readBufferMaximumSize;
+        private BufferAllocator bufferAllocator = BufferAllocator.DEFAULT;
+        private BufferLeakDetection bufferLeakDetection = BufferLeakDetection.DEFAULT;
+        private boolean flushConsolidation;
+        private boolean pipelinedTransactionFunctions;
+        private long recordBufferLowWatermark = InboundFlowControl.DEFAULT_LOW_WATERMARK;
+        private long recordBufferHighWatermark = InboundFlowControl.DEFAULT_HIGH_WATERMARK;
+        private boolean compression;
+        private int compressionMinimumMessageSize;
 
         private ConfigBuilder() {}
 
@@ -364,6 +596,29 @@ public class Config
             return this;
         }
 
+        /**
+         * Test pooled connections in the background instead of when they are acquired. Every interval, connections that have been idle for at
+         * least the interval are tested and closed when they turn out to be broken or older than the
+         * {@link #withMaxConnectionLifetime(long, TimeUnit) maximum lifetime}. A successful test counts as usage of the connection.
+         * <p>
+         * With an interval shorter than the {@link #withConnectionLivenessCheckTimeout(long, TimeUnit) liveness check timeout}, connections are
+         * normally tested before that timeout expires, so that acquiring them does not incur an additional network call.
+         * <p>
+         * Background validation is disabled by default. Zero and negative values disable it.
+         *
+         * @param value the validation interval
+         * @param unit the unit in which the duration is given
+         * @return this builder
+         * @see #withConnectionLivenessCheckTimeout(long, TimeUnit)
+         */
+        @Experimental
+        public ConfigBuilder withIdleConnectionValidationInterval( long value, TimeUnit unit )
+        {
+            long valueInMillis = unit.toMillis( value );
+            this.idleConnectionValidationIntervalMillis = valueInMillis > 0 ? valueInMillis : PoolSettings.NOT_CONFIGURED;
+            return this;
+        }
+
         /**
          * Pooled connections older than this threshold will be closed and removed from the pool. Such discarding
          * happens during connection acquisition so that new session is never backed by an old connection.
@@ -423,6 +678,30 @@ public class Config
             return this;
         }
 
+        /**
+         * Configure the amount of idle connections the connection pool keeps open towards a single database. Connections are opened ahead of
+         * time, as soon as the driver learns about a database from {@link Driver#verifyConnectivity()} or from a routing table update, so that
+         * first queries do not pay for connection establishment. Connections that are closed or evicted are replaced in the background.
+         * <p>
+         * Idle connections never exceed the {@link #withMaxConnectionPoolSize(int) maximum connection pool size}.
+         * <p>
+         * Default value is {@code 0}, connections are only opened when needed. Negative values are not allowed.
+         *
+         * @param value the minimum amount of idle connections.
+         * @return this builder
+         * @see #withMaxConnectionPoolSize(int)
+         */
+        @Experimental
+        public ConfigBuilder withMinIdleConnections( int value )
+        {
+            if ( value < 0 )
+            {
+                throw new IllegalArgumentException( "Negative value is not supported: " + value );
+            }
+            this.minIdleConnections = value;
+            return this;
+        }
+
         /**
          * Configure maximum amount of time connection acquisition will attempt to acquire a connection from the
          * connection pool. This timeout only kicks in when all existing connections are being used and no new
@@ -739,6 +1018,272 @@ public class Config
             return this;
         }
 
+        /**
+         * Configure the network transport used by the driver's event loop threads. {@link NetworkTransport#NIO} is used by default.
+         * <p>
+         * This setting is ignored when the driver is given an existing event loop group, the transport then follows that group.
+         *
+         * @param transport the network transport.
+         * @return this builder.
+         * @see NetworkTransport
+         */
+        @Experimental
+        public ConfigBuilder withNetworkTransport( NetworkTransport transport )
+        {
+            this.networkTransport = Objects.requireNonNull( transport, "transport" );
+            return this;
+        }
+
+        /**
+         * Enable or disable Nagle's algorithm on driver connections. It is disabled by default, so that small messages are sent right away.
+         *
+         * @param tcpNoDelay {@code true} to disable Nagle's algorithm.
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withTcpNoDelay( boolean tcpNoDelay )
+        {
+            this.tcpNoDelay = tcpNoDelay;
+            return this;
+        }
+
+        /**
+         * Configure the size of the socket receive buffer of driver connections. The operating system default is used when not configured.
+         *
+         * @param size the size in bytes.
+         * @return this builder.
+         * @throws IllegalArgumentException when the size is smaller than 1.
+         */
+        @Experimental
+        public ConfigBuilder withSocketReceiveBufferSize( int size )
+        {
+            this.socketReceiveBufferSize = requirePositive( size, "Socket receive buffer size" );
+            return this;
+        }
+
+        /**
+         * Configure the size of the socket send buffer of driver connections. The operating system default is used when not configured.
+         *
+         * @param size the size in bytes.
+         * @return this builder.
+         * @throws IllegalArgumentException when the size is smaller than 1.
+         */
+        @Experimental
+        public ConfigBuilder withSocketSendBufferSize( int size )
+        {
+            this.socketSendBufferSize = requirePositive( size, "Socket send buffer size" );
+            return this;
+        }
+
+        /**
+         * Configure how many outbound bytes can be pending on a connection. A connection stops being writable when more than the high watermark
+         * of bytes are waiting to be sent, and becomes writable again when the pending bytes drop below the low watermark.
+         * Defaults to 32KB and 64KB.
+         *
+         * @param low the low watermark in bytes.
+         * @param high the high watermark in bytes.
+         * @return this builder.
+         * @throws IllegalArgumentException when low is smaller than 1 or high is smaller than low.
+         */
+        @Experimental
+        public ConfigBuilder withWriteBufferWatermarks( int low, int high )
+        {
+            requirePositive( low, "Low write buffer watermark" );
+            if ( high < low )
+            {
+                throw new IllegalArgumentException( String.format( "High write buffer watermark %d may not be smaller than low watermark %d.", high, low ) );
+            }
+            this.writeBufferLowWatermark = low;
+            this.writeBufferHighWatermark = high;
+            return this;
+        }
+
+        /**
+         * Read from connections into buffers of a fixed size.
+         *
+         * @param size the size in bytes.
+         * @return this builder.
+         * @throws IllegalArgumentException when the size is smaller than 1.
+         */
+        @Experimental
+        public ConfigBuilder withFixedReadBufferSize( int size )
+        {
+            return withAdaptiveReadBufferSize( size, size, size );
+        }
+
+        /**
+         * Read from connections into buffers that grow and shrink with the amount of data available, which is the default.
+         *
+         * @param minimum the minimum size in bytes.
+         * @param initial the size in bytes used for the first read.
+         * @param maximum the maximum size in bytes.
+         * @return this builder.
+         * @throws IllegalArgumentException when minimum is smaller than 1, or the sizes are not in ascending order.
+         */
+        @Experimental
+        public ConfigBuilder withAdaptiveReadBufferSize( int minimum, int initial, int maximum )
+        {
+            requirePositive( minimum, "Minimum read buffer size" );
+            if ( initial < minimum || maximum < initial )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "Read buffer sizes should satisfy minimum <= initial <= maximum, but were %d, %d and %d.", minimum, initial, maximum ) );
+            }
+            this.readBufferMinimumSize = minimum;
+            this.readBufferInitialSize = initial;
+            this.readBufferMaximumSize = maximum;
+            return this;
+        }
+
+        /**
+         * Configure the allocator of network buffers. {@link BufferAllocator#DEFAULT} is used by default.
+         *
+         * @param allocator the allocator.
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withBufferAllocator( BufferAllocator allocator )
+        {
+            this.bufferAllocator = Objects.requireNonNull( allocator, "allocator" );
+            return this;
+        }
+
+        /**
+         * Configure detection of network buffers that are garbage collected without being released. Detected leaks are reported through the
+         * configured {@link #withLogging(Logging) logging} at the error level, together with the recent access points of the leaked buffer
+         * for {@link BufferLeakDetection#ADVANCED} and {@link BufferLeakDetection#PARANOID}.
+         * {@link BufferLeakDetection#DEFAULT} is used by default and leaves the level of the network library untouched.
+         * <p>
+         * The level is global for all drivers in the JVM, the last driver created with a level other than {@link BufferLeakDetection#DEFAULT}
+         * wins. {@link BufferLeakDetection#PARANOID} tracks every buffer and is meant for test and staging environments.
+         *
+         * @param detection the level of leak detection.
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withBufferLeakDetection( BufferLeakDetection detection )
+        {
+            this.bufferLeakDetection = Objects.requireNonNull( detection, "detection" );
+            return this;
+        }
+
+        /**
+         * Enable or disable merging of flushes issued on a connection during the same event loop iteration into a single flush.
+         * Messages of concurrent transactions then reach the network in fewer system calls, at the cost of a small delay of every flush.
+         * It is disabled by default.
+         * <p>
+         * The amount of saved flushes is reported by {@link ConnectionPoolMetrics#consolidatedFlushes()} when driver metrics are enabled.
+         *
+         * @param flushConsolidation {@code true} to merge flushes.
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withFlushConsolidation( boolean flushConsolidation )
+        {
+            this.flushConsolidation = flushConsolidation;
+            return this;
+        }
+
+        /**
+         * Enable or disable optimistic pipelining of transaction functions executed by {@link Session#readTransaction(TransactionWork)},
+         * {@link Session#writeTransaction(TransactionWork)} and their async counterparts. It is disabled by default.
+         * <p>
+         * In this mode the driver does not wait for the database to start the transaction, BEGIN goes to the network together with the first query.
+         * COMMIT is sent as soon as the function completes, without waiting for results to be consumed. A short blocking transaction function then
+         * takes a single network round trip. A failure of BEGIN or of a query makes the database ignore the requests that follow, the error is then
+         * reported when results are consumed and by the commit, and the transaction function is retried as usual.
+         * <p>
+         * Queries of pipelined transactions pull all records at once and ignore the configured fetch size.
+         * Reactive transaction functions are not affected by this setting.
+         *
+         * @param pipelinedTransactionFunctions {@code true} to pipeline transaction functions.
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withPipelinedTransactionFunctions( boolean pipelinedTransactionFunctions )
+        {
+            this.pipelinedTransactionFunctions = pipelinedTransactionFunctions;
+            return this;
+        }
+
+        /**
+         * Configure how many bytes of received records a connection can buffer while they are not consumed. The driver stops receiving records
+         * when records of all results on a connection take more than the high watermark of bytes, and resumes when consumers bring them down
+         * to the low watermark. Sizes of records are measured on the wire, so the limits hold for small and huge records alike.
+         * Defaults to 1MB and 4MB.
+         * <p>
+         * Results of Bolt protocol version 4.0 and above stop requesting new batches of records and request smaller batches when the remaining
+         * budget does not fit a whole batch. Results of older protocol versions stop reading from the network. A result always receives at least
+         * one record when its consumer is waiting, so a single record bigger than the budget is still delivered. Records of reactive results are
+         * not buffered by the driver, they are received on demand of the subscriber. Results that are fetched without batching, using
+         * {@link #withFetchSize(long)} of {@code -1} on Bolt protocol version 4.0 and above, are not limited by this budget.
+         *
+         * @param low the low watermark in bytes.
+         * @param high the high watermark in bytes.
+         * @return this builder.
+         * @throws IllegalArgumentException when low is negative or high is smaller than low or smaller than 1.
+         */
+        @Experimental
+        public ConfigBuilder withRecordBufferWatermarks( long low, long high )
+        {
+            if ( low < 0 || high < 1 || high < low )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "Record buffer watermarks should satisfy 0 <= low <= high and 0 < high, but were %d and %d.", low, high ) );
+            }
+            this.recordBufferLowWatermark = low;
+            this.recordBufferHighWatermark = high;
+            return this;
+        }
+
+        /**
+         * Compress the traffic of connections after the Bolt handshake, in both directions. It is disabled by default.
+         * <p>
+         * Neo4j servers do not understand compressed traffic, this setting is only meant for connections through a proxy that compresses and
+         * decompresses it, for example on both ends of a slow link between regions. Outbound messages are compressed with Snappy in blocks of
+         * at most 32KB, messages smaller than the given minimum size and blocks that do not compress are sent as they are. Every block is
+         * preceded by a header of 5 bytes: the block type, {@code 0} for raw and {@code 1} for compressed, followed by the length of the block
+         * as a 4 byte big-endian integer. The same framing is expected for inbound traffic.
+         *
+         * @param minimumMessageSize minimum size in bytes of an outbound message to be compressed.
+         * @return this builder.
+         * @throws IllegalArgumentException when the given size is negative.
+         */
+        @Experimental
+        public ConfigBuilder withCompression( int minimumMessageSize )
+        {
+            if ( minimumMessageSize < 0 )
+            {
+                throw new IllegalArgumentException( "Compression minimum message size should be >= 0, given: " + minimumMessageSize );
+            }
+            this.compression = true;
+            this.compressionMinimumMessageSize = minimumMessageSize;
+            return this;
+        }
+
+        /**
+         * Disable compression of the traffic of connections.
+         *
+         * @return this builder.
+         * @see #withCompression(int)
+         */
+        @Experimental
+        public ConfigBuilder withoutCompression()
+        {
+            this.compression = false;
+            this.compressionMinimumMessageSize = 0;
+            return this;
+        }
+
+        private static int requirePositive( int value, String name )
+        {
+            if ( value < 1 )
+            {
+                throw new IllegalArgumentException( String.format( "%s may not be smaller than 1, but was %d.", name, value ) );
+            }
+            return value;
+        }
+
         /**
          * Configure the user_agent field sent to the server to identify the connected client.
          * @param userAgent the string to configure user_agent.
@@ -784,6 +1329,83 @@ public class Config
         }
     }
 
+    /**
+     * Network transports the driver can use for its event loop threads.
+     */
+    @Experimental
+    public enum NetworkTransport
+    {
+        /**
+         * Java NIO, available everywhere.
+         */
+        NIO,
+        /**
+         * Native Linux epoll transport, with fewer system calls and edge-triggered reads.
+         * Creating a driver fails when the native transport can't be loaded.
+         */
+        EPOLL,
+        /**
+         * The best transport available on the current platform: {@link #EPOLL} when it can be loaded, {@link #NIO} otherwise.
+         */
+        AUTO
+    }
+
+    /**
+     * Allocators of the buffers used to read from and write to the network.
+     */
+    @Experimental
+    public enum BufferAllocator
+    {
+        /**
+         * Shared pooled allocator of the network library, it prefers direct buffers when the platform supports them.
+         */
+        DEFAULT,
+        /**
+         * Pooled allocator of direct buffers, dedicated to the driver.
+         */
+        POOLED_DIRECT,
+        /**
+         * Pooled allocator of heap buffers, dedicated to the driver.
+         */
+        POOLED_HEAP,
+        /**
+         * Allocator without pooling that creates direct buffers.
+         */
+        UNPOOLED_DIRECT,
+        /**
+         * Allocator without pooling that creates heap buffers.
+         */
+        UNPOOLED_HEAP
+    }
+
+    /**
+     * Levels of detection of leaked network buffers.
+     */
+    @Experimental
+    public enum BufferLeakDetection
+    {
+        /**
+         * Keep the level of the network library, which samples a small fraction of buffers unless changed by system properties.
+         */
+        DEFAULT,
+        /**
+         * No leak detection.
+         */
+        DISABLED,
+        /**
+         * Sample a small fraction of buffers and report whether they leaked.
+         */
+        SIMPLE,
+        /**
+         * Sample a small fraction of buffers and report where leaked buffers were last accessed.
+         */
+        ADVANCED,
+        /**
+         * Track every buffer and report where leaked buffers were last accessed.
+         */
+        PARANOID
+    }
+
     /**
      * Control how the driver determines if it can trust the encryption certificates provided by the Neo4j instance it is connected to.
      */
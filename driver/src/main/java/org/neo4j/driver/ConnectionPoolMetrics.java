@@ -180,4 +180,11 @@ public interface ConnectionPoolMetrics
      * @return the total amount of connection that are borrowed outside the pool.
      */
     long totalInUseCount();
+
+    /**
+     * The total amount of flushes to the network that were avoided by merging flushes issued during the same event loop iteration.
+     * This number only increases when flush consolidation is enabled with {@link Config.ConfigBuilder#withFlushConsolidation(boolean)}.
+     * @return the total amount of saved flushes.
+     */
+    long consolidatedFlushes();
 }
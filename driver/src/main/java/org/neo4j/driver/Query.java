@@ -20,8 +20,10 @@ package org.neo4j.driver;
 
 import java.util.Map;
 
+import org.neo4j.driver.internal.InternalPreparedQuery;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Immutable;
 
 import static java.lang.String.format;
@@ -103,6 +105,32 @@ public class Query
         return parameters;
     }
 
+    /**
+     * Prepare this query for repeated execution with different parameters.
+     * <p>
+     * The text of a prepared query is encoded for the network only once. Queries derived from it using
+     * {@link #withParameters(Value)}, {@link #withParameters(Map)} or {@link #withUpdatedParameters(Value)} reuse
+     * that encoding, so only their parameters are encoded when they are run by a {@link Session} or a
+     * {@link Transaction}:
+     * <pre>
+     * {@code
+     * Query query = new Query( "MATCH (n) WHERE n.name = $name RETURN n.age" ).prepare();
+     *
+     * for ( String name : names )
+     * {
+     *     session.run( query.withParameters( Values.parameters( "name", name ) ) );
+     * }
+     * }
+     * </pre>
+     *
+     * @return a prepared query with the same text and parameters.
+     */
+    @Experimental
+    public Query prepare()
+    {
+        return new InternalPreparedQuery( text, parameters );
+    }
+
     /**
      * @param newText the new query text
      * @return a new Query object with updated text
@@ -174,7 +202,7 @@ public class Query
         {
             return true;
         }
-        if ( o == null || getClass() != o.getClass() )
+        if ( !(o instanceof Query) )
         {
             return false;
         }
@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Resource;
 
 
@@ -62,6 +63,22 @@ public interface Result extends Iterator<Record>
      */
     List<String> keys();
 
+    /**
+     * Restrict the records of this result to the given keys.
+     * <p>
+     * Fields of all other keys are skipped without being decoded when records are received from the database. This
+     * saves CPU and memory when a query returns more columns than the caller needs. Projected records keep the order
+     * of keys of the query, {@link #keys()} returns the projected keys after this call.
+     * <p>
+     * A result can only be projected once, records that were already consumed are not affected.
+     *
+     * @param keys the keys to keep in records.
+     * @return this result.
+     * @throws org.neo4j.driver.exceptions.ClientException if a key is not part of this result or the result is already projected.
+     */
+    @Experimental
+    Result project( String... keys );
+
     /**
      * Test if there is another record we can navigate to in this result.
      * @return true if {@link #next()} will return another record
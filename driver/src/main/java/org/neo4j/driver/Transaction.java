@@ -37,6 +37,10 @@ import org.neo4j.driver.util.Resource;
  * }</pre>
  * Blocking calls are: {@link #commit()}, {@link #rollback()}, {@link #close()}
  * and various overloads of {@link #run(Query)}.
+ * <p>
+ * Results of several queries can be consumed at the same time, for example to issue lookups while iterating over
+ * another result. With Bolt protocol version 4.0 and above records of open results are fetched in batches of the
+ * configured fetch size and interleaved on the same connection, so such nested queries do not need extra connections.
  *
  * @see Session#run
  * @see QueryRunner
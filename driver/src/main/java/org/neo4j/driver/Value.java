@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -238,6 +240,26 @@ public interface Value extends MapAccessor, MapAccessorWithDefaultValue
      */
     byte[] asByteArray( byte[] defaultValue );
 
+    /**
+     * Unlike {@link #asByteArray()} this method does not copy when the bytes are held by the driver in a network buffer.
+     * Such values implement {@link org.neo4j.driver.util.Resource} and have to be closed once the returned buffer is no longer used.
+     *
+     *  @return the value as a read-only {@link ByteBuffer}, if possible.
+     *  @throws Uncoercible if value types are incompatible.
+     */
+    @Experimental
+    ByteBuffer asByteBuffer();
+
+    /**
+     * Unlike {@link #asByteArray()} this method does not copy when the bytes are held by the driver in a network buffer.
+     * Such values implement {@link org.neo4j.driver.util.Resource} and have to be closed once the returned stream is no longer used.
+     *
+     *  @return the value as an {@link InputStream}, if possible.
+     *  @throws Uncoercible if value types are incompatible.
+     */
+    @Experimental
+    InputStream asInputStream();
+
     /**
      *  @return the value as a Java String, if possible.
      *  @throws Uncoercible if value types are incompatible.
@@ -329,6 +351,38 @@ public interface Value extends MapAccessor, MapAccessorWithDefaultValue
      */
     float asFloat( float defaultValue );
 
+    /**
+     * If the underlying type is a list of integers, returns its elements as a new array of Java longs.
+     * Lists of integers received from the database are held without boxing, so this conversion does not create
+     * a value per element.
+     *
+     * @return the value as a Java long array, if possible.
+     * @throws Uncoercible if value types are incompatible, also when the list contains other values than integers.
+     */
+    @Experimental
+    long[] asLongArray();
+
+    /**
+     * If the underlying type is a list of numbers, returns its elements as a new array of Java doubles.
+     * Lists of floats received from the database are held without boxing, so this conversion does not create
+     * a value per element.
+     *
+     * @return the value as a Java double array, if possible.
+     * @throws LossyCoercion if it is not possible to convert an element without loosing precision.
+     * @throws Uncoercible if value types are incompatible, also when the list contains other values than numbers.
+     */
+    @Experimental
+    double[] asDoubleArray();
+
+    /**
+     * If the underlying type is a list of booleans, returns its elements as a new array of Java booleans.
+     *
+     * @return the value as a Java boolean array, if possible.
+     * @throws Uncoercible if value types are incompatible, also when the list contains other values than booleans.
+     */
+    @Experimental
+    boolean[] asBooleanArray();
+
     /**
      * If the underlying type can be viewed as a list, returns a java list of
      * values, where each value has been converted using {@link #asObject()}.
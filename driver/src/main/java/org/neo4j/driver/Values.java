@@ -40,19 +40,23 @@ import org.neo4j.driver.internal.AsValue;
 import org.neo4j.driver.internal.InternalIsoDuration;
 import org.neo4j.driver.internal.InternalPoint2D;
 import org.neo4j.driver.internal.InternalPoint3D;
+import org.neo4j.driver.internal.value.BooleanListValue;
 import org.neo4j.driver.internal.value.BooleanValue;
 import org.neo4j.driver.internal.value.BytesValue;
 import org.neo4j.driver.internal.value.DateTimeValue;
 import org.neo4j.driver.internal.value.DateValue;
+import org.neo4j.driver.internal.value.DoubleListValue;
 import org.neo4j.driver.internal.value.DurationValue;
 import org.neo4j.driver.internal.value.FloatValue;
 import org.neo4j.driver.internal.value.IntegerValue;
 import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.internal.value.LocalDateTimeValue;
 import org.neo4j.driver.internal.value.LocalTimeValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NullValue;
 import org.neo4j.driver.internal.value.PointValue;
+import org.neo4j.driver.internal.value.StreamedListValue;
 import org.neo4j.driver.internal.value.StringValue;
 import org.neo4j.driver.internal.value.TimeValue;
 import org.neo4j.driver.exceptions.ClientException;
@@ -64,6 +68,7 @@ import org.neo4j.driver.types.Path;
 import org.neo4j.driver.types.Point;
 import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.driver.util.Experimental;
 import java.util.function.Function;
 
 import static org.neo4j.driver.internal.util.Extract.assertParameter;
@@ -169,12 +174,7 @@ public abstract class Values
 
     public static Value value( boolean... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new BooleanListValue( input.clone() );
     }
 
     public static Value value( char... input )
@@ -189,42 +189,32 @@ public abstract class Values
 
     public static Value value( long... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new LongListValue( input.clone() );
     }
 
     public static Value value( int... input )
     {
-        Value[] values = new Value[input.length];
+        long[] values = new long[input.length];
         for ( int i = 0; i < input.length; i++ )
         {
-            values[i] = value( input[i] );
+            values[i] = input[i];
         }
-        return new ListValue( values );
+        return new LongListValue( values );
     }
 
     public static Value value( double... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new DoubleListValue( input.clone() );
     }
 
     public static Value value( float... input )
     {
-        Value[] values = new Value[input.length];
+        double[] values = new double[input.length];
         for ( int i = 0; i < input.length; i++ )
         {
-            values[i] = value( input[i] );
+            values[i] = input[i];
         }
-        return new ListValue( values );
+        return new DoubleListValue( values );
     }
 
     public static Value value( List<Object> vals )
@@ -364,6 +354,38 @@ public abstract class Values
         return value( new InternalPoint3D( srid, x, y, z ) );
     }
 
+    /**
+     * Create a list whose elements are produced by the given iterator while the list is being sent to the database.
+     * Elements are converted with {@link #value(Object)} and encoded in small batches as the network connection accepts more data,
+     * so very large lists, like rows for {@code UNWIND $rows}, never have to be held in memory.
+     * <p>
+     * The iterator is consumed when the query is sent, so the returned value can only be used once and not be retried.
+     * Sending fails and the connection is closed when the iterator does not produce exactly {@code size} elements.
+     *
+     * @param size the exact number of elements the iterator produces.
+     * @param elements the elements of the list.
+     * @return a list value that can be used as a query parameter.
+     */
+    @Experimental
+    public static Value streamedList( int size, Iterator<?> elements )
+    {
+        return new StreamedListValue( size, elements );
+    }
+
+    /**
+     * Create a list whose elements are produced by the given stream while the list is being sent to the database.
+     *
+     * @param size the exact number of elements the stream produces.
+     * @param elements the elements of the list.
+     * @return a list value that can be used as a query parameter.
+     * @see #streamedList(int, Iterator)
+     */
+    @Experimental
+    public static Value streamedList( int size, Stream<?> elements )
+    {
+        return streamedList( size, elements.iterator() );
+    }
+
     /**
      * Helper function for creating a map of parameters, this can be used when you {@link
      * QueryRunner#run(String, Value) run} queries.
@@ -30,6 +30,7 @@ import org.neo4j.driver.Records;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 
 /**
  * The result of asynchronous execution of a Cypher query, conceptually an asynchronous stream of
@@ -70,6 +71,22 @@ public interface ResultCursor
      */
     List<String> keys();
 
+    /**
+     * Restrict the records of this result cursor to the given keys.
+     * <p>
+     * Fields of all other keys are skipped without being decoded when records are received from the database. This
+     * saves CPU and memory when a query returns more columns than the caller needs. Projected records keep the order
+     * of keys of the query, {@link #keys()} returns the projected keys after this call.
+     * <p>
+     * A result cursor can only be projected once, records that were already consumed are not affected.
+     *
+     * @param keys the keys to keep in records.
+     * @return this result cursor.
+     * @throws org.neo4j.driver.exceptions.ClientException if a key is not part of this result or the result is already projected.
+     */
+    @Experimental
+    ResultCursor project( String... keys );
+
     /**
      * Asynchronously retrieve the result summary.
      * <p>
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal;
 
 import org.neo4j.driver.AuthToken;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 
 /**
  * The connection settings are used whenever a new connection is
@@ -29,12 +30,22 @@ public class ConnectionSettings
     private final AuthToken authToken;
     private final String userAgent;
     private final int connectTimeoutMillis;
+    private final long recordBufferLowWatermark;
+    private final long recordBufferHighWatermark;
 
     public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis )
+    {
+        this( authToken, userAgent, connectTimeoutMillis, InboundFlowControl.DEFAULT_LOW_WATERMARK, InboundFlowControl.DEFAULT_HIGH_WATERMARK );
+    }
+
+    public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis, long recordBufferLowWatermark,
+            long recordBufferHighWatermark )
     {
         this.authToken = authToken;
         this.userAgent = userAgent;
         this.connectTimeoutMillis = connectTimeoutMillis;
+        this.recordBufferLowWatermark = recordBufferLowWatermark;
+        this.recordBufferHighWatermark = recordBufferHighWatermark;
     }
 
     public AuthToken authToken()
@@ -51,4 +62,14 @@ public class ConnectionSettings
     {
         return connectTimeoutMillis;
     }
+
+    public long recordBufferLowWatermark()
+    {
+        return recordBufferLowWatermark;
+    }
+
+    public long recordBufferHighWatermark()
+    {
+        return recordBufferHighWatermark;
+    }
 }
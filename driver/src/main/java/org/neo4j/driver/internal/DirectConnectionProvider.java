@@ -26,6 +26,7 @@ import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 
+import static java.util.Collections.singleton;
 import static org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil.supportsMultiDatabase;
 
 /**
@@ -52,7 +53,7 @@ public class DirectConnectionProvider implements ConnectionProvider
     @Override
     public CompletionStage<Void> verifyConnectivity()
     {
-        return acquireConnection().thenCompose( Connection::release );
+        return acquireConnection().thenCompose( Connection::release ).thenRun( () -> connectionPool.warmUp( singleton( address ) ) );
     }
 
     @Override
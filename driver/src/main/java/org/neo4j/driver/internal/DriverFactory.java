@@ -34,6 +34,8 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
+import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilder;
+import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilderImpl;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.RoutingContext;
@@ -43,6 +45,7 @@ import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
 import org.neo4j.driver.internal.logging.NettyLogging;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.retry.ExponentialBackoffRetryLogic;
 import org.neo4j.driver.internal.retry.RetryLogic;
@@ -74,7 +77,7 @@ public class DriverFactory
         boolean ownsEventLoopGroup;
         if ( eventLoopGroup == null )
         {
-            bootstrap = createBootstrap( config.eventLoopThreads() );
+            bootstrap = createBootstrap( config );
             ownsEventLoopGroup = true;
         }
         else
@@ -82,6 +85,7 @@ public class DriverFactory
             bootstrap = createBootstrap( eventLoopGroup );
             ownsEventLoopGroup = false;
         }
+        BootstrapFactory.configure( bootstrap, config );
 
         authToken = authToken == null ? AuthTokens.none() : authToken;
 
@@ -103,11 +107,12 @@ public class DriverFactory
             MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
     {
         Clock clock = createClock();
-        ConnectionSettings settings = new ConnectionSettings( authToken, config.userAgent(), config.connectionTimeoutMillis() );
-        ChannelConnector connector = createConnector( settings, securityPlan, config, clock, routingContext );
+        ConnectionSettings settings = new ConnectionSettings( authToken, config.userAgent(), config.connectionTimeoutMillis(),
+                config.recordBufferLowWatermark(), config.recordBufferHighWatermark() );
+        ChannelConnector connector = createConnector( settings, securityPlan, config, clock, routingContext, metricsProvider.metricsListener() );
         PoolSettings poolSettings = new PoolSettings( config.maxConnectionPoolSize(),
                 config.connectionAcquisitionTimeoutMillis(), config.maxConnectionLifetimeMillis(),
-                config.idleTimeBeforeConnectionTest()
+                config.idleTimeBeforeConnectionTest(), config.minIdleConnections(), config.idleConnectionValidationIntervalMillis()
         );
         return new ConnectionPoolImpl( connector, bootstrap, poolSettings, metricsProvider.metricsListener(), config.logging(), clock, ownsEventLoopGroup );
     }
@@ -125,8 +130,15 @@ public class DriverFactory
     }
 
     protected ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-            Config config, Clock clock, RoutingContext routingContext )
+            Config config, Clock clock, RoutingContext routingContext, MetricsListener metricsListener )
     {
+        if ( config.flushConsolidation() || config.isCompressionEnabled() )
+        {
+            MetricsListener flushConsolidationListener = config.flushConsolidation() ? metricsListener : null;
+            int compressionMinimumSize = config.isCompressionEnabled() ? config.compressionMinimumMessageSize() : ChannelPipelineBuilderImpl.NO_COMPRESSION;
+            ChannelPipelineBuilder pipelineBuilder = new ChannelPipelineBuilderImpl( flushConsolidationListener, compressionMinimumSize );
+            return new ChannelConnectorImpl( settings, securityPlan, pipelineBuilder, config.logging(), clock, routingContext );
+        }
         return new ChannelConnectorImpl( settings, securityPlan, config.logging(), clock, routingContext );
     }
 
@@ -251,6 +263,15 @@ public class DriverFactory
         return new ExponentialBackoffRetryLogic( settings, eventExecutorGroup, createClock(), logging );
     }
 
+    private Bootstrap createBootstrap( Config config )
+    {
+        if ( config.networkTransport() == Config.NetworkTransport.NIO )
+        {
+            return createBootstrap( config.eventLoopThreads() );
+        }
+        return BootstrapFactory.newBootstrap( config.eventLoopThreads(), config.networkTransport() );
+    }
+
     /**
      * Creates new {@link Bootstrap}.
      * <p>
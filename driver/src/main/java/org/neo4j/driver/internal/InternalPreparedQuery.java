@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.Map;
+
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.packstream.PackStream;
+
+/**
+ * Query that holds on to the PackStream encoding of its text. Queries with new parameters created from a prepared
+ * query share the encoding, so only parameters are encoded when such queries are executed.
+ */
+public class InternalPreparedQuery extends Query
+{
+    private final byte[] encodedText;
+
+    public InternalPreparedQuery( String text, Value parameters )
+    {
+        this( text, parameters, PackStream.encodeString( text ) );
+    }
+
+    private InternalPreparedQuery( String text, Value parameters, byte[] encodedText )
+    {
+        super( text, parameters );
+        this.encodedText = encodedText;
+    }
+
+    /**
+     * @return PackStream encoding of the query text, must not be modified.
+     */
+    public byte[] encodedText()
+    {
+        return encodedText;
+    }
+
+    /**
+     * Get the PackStream encoding of the text of the given query if it has one.
+     *
+     * @param query the query.
+     * @return encoded query text or {@code null} when the query is not prepared.
+     */
+    public static byte[] encodedText( Query query )
+    {
+        return query instanceof InternalPreparedQuery ? ((InternalPreparedQuery) query).encodedText : null;
+    }
+
+    @Override
+    public Query prepare()
+    {
+        return this;
+    }
+
+    @Override
+    public Query withParameters( Value newParameters )
+    {
+        return new InternalPreparedQuery( text(), newParameters, encodedText );
+    }
+
+    @Override
+    public Query withParameters( Map<String,Object> newParameters )
+    {
+        return withParameters( Values.value( newParameters ) );
+    }
+}
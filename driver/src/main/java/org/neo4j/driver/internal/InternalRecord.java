@@ -30,6 +30,7 @@ import org.neo4j.driver.Values;
 import org.neo4j.driver.internal.types.InternalMapAccessorWithDefaultValue;
 import org.neo4j.driver.internal.util.Extract;
 import org.neo4j.driver.internal.util.QueryKeys;
+import org.neo4j.driver.internal.value.LazyValue;
 import org.neo4j.driver.util.Pair;
 
 import static java.lang.String.format;
@@ -64,9 +65,21 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
     @Override
     public List<Value> values()
     {
+        for ( int i = 0; i < values.length; i++ )
+        {
+            materialize( i );
+        }
         return Arrays.asList( values );
     }
 
+    /**
+     * @return values of this record as stored, lazy values are not decoded. The array is not copied and must not be modified.
+     */
+    public Value[] rawValues()
+    {
+        return values;
+    }
+
     @Override
     public List<Pair<String, Value>> fields()
     {
@@ -104,14 +117,14 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
         }
         else
         {
-            return values[fieldIndex];
+            return materialize( fieldIndex );
         }
     }
 
     @Override
     public Value get( int index )
     {
-        return index >= 0 && index < values.length ? values[index] : Values.NULL;
+        return index >= 0 && index < values.length ? materialize( index ) : Values.NULL;
     }
 
     @Override
@@ -179,8 +192,19 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
     {
         if ( hashCode == 0 )
         {
-            hashCode = 31 * queryKeys.hashCode() + Arrays.hashCode( values );
+            hashCode = 31 * queryKeys.hashCode() + values().hashCode();
         }
         return hashCode;
     }
+
+    private Value materialize( int index )
+    {
+        Value value = values[index];
+        if ( value instanceof LazyValue )
+        {
+            value = ((LazyValue) value).decoded();
+            values[index] = value;
+        }
+        return value;
+    }
 }
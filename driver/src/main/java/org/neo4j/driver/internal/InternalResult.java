@@ -58,6 +58,14 @@ public class InternalResult implements Result
         return keys;
     }
 
+    @Override
+    public Result project( String... keys )
+    {
+        cursor.project( keys );
+        this.keys = null;
+        return this;
+    }
+
     @Override
     public boolean hasNext()
     {
@@ -160,7 +160,7 @@ public class InternalSession extends AbstractQueryRunner implements Session
 
     private Transaction beginTransaction( AccessMode mode, TransactionConfig config )
     {
-        UnmanagedTransaction tx = Futures.blockingGet( session.beginTransactionAsync( mode, config ),
+        UnmanagedTransaction tx = Futures.blockingGet( session.beginTransactionFunctionAsync( mode, config ),
                 () -> terminateConnectionOnThreadInterrupt( "Thread interrupted while starting a transaction" ) );
         return new InternalTransaction( tx );
     }
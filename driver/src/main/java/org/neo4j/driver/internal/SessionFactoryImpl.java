@@ -37,6 +37,7 @@ public class SessionFactoryImpl implements SessionFactory
     private final Logging logging;
     private final boolean leakedSessionsLoggingEnabled;
     private final long defaultFetchSize;
+    private final boolean pipelinedTransactionFunctions;
 
     SessionFactoryImpl( ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config )
     {
@@ -45,6 +46,7 @@ public class SessionFactoryImpl implements SessionFactory
         this.retryLogic = retryLogic;
         this.logging = config.logging();
         this.defaultFetchSize = config.fetchSize();
+        this.pipelinedTransactionFunctions = config.pipelinedTransactionFunctions();
     }
 
     @Override
@@ -101,7 +103,8 @@ public class SessionFactoryImpl implements SessionFactory
             BookmarkHolder bookmarkHolder, long fetchSize, Logging logging )
     {
         return leakedSessionsLoggingEnabled
-               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize, logging )
-               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize, logging );
+               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize,
+                                                pipelinedTransactionFunctions, logging )
+               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize, pipelinedTransactionFunctions, logging );
     }
 }
@@ -121,7 +121,7 @@ public class InternalAsyncSession extends AsyncAbstractQueryRunner implements As
     {
         return session.retryLogic().retryAsync( () -> {
             CompletableFuture<T> resultFuture = new CompletableFuture<>();
-            CompletionStage<UnmanagedTransaction> txFuture = session.beginTransactionAsync( mode, config );
+            CompletionStage<UnmanagedTransaction> txFuture = session.beginTransactionFunctionAsync( mode, config );
 
             txFuture.whenComplete( ( tx, completionError ) -> {
                 Throwable error = Futures.completionExceptionCause( completionError );
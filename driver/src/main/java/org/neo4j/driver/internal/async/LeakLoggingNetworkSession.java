@@ -35,7 +35,13 @@ public class LeakLoggingNetworkSession extends NetworkSession
     public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
             BookmarkHolder bookmarkHolder, long fetchSize, Logging logging )
     {
-        super( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize, logging );
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize, false, logging );
+    }
+
+    public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+            BookmarkHolder bookmarkHolder, long fetchSize, boolean pipelinedTransactionFunctions, Logging logging )
+    {
+        super( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize, pipelinedTransactionFunctions, logging );
         this.stackTrace = captureStackTrace();
     }
 
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.async;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -26,6 +27,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
 import org.neo4j.driver.internal.handlers.ChannelReleasingResetResponseHandler;
@@ -54,6 +56,7 @@ public class NetworkConnection implements Connection
 {
     private final Channel channel;
     private final InboundMessageDispatcher messageDispatcher;
+    private final InboundFlowControl inboundFlowControl;
     private final BoltServerAddress serverAddress;
     private final ServerVersion serverVersion;
     private final BoltProtocol protocol;
@@ -69,6 +72,7 @@ public class NetworkConnection implements Connection
     {
         this.channel = channel;
         this.messageDispatcher = ChannelAttributes.messageDispatcher( channel );
+        this.inboundFlowControl = ChannelAttributes.inboundFlowControl( channel );
         this.serverAddress = ChannelAttributes.serverAddress( channel );
         this.serverVersion = ChannelAttributes.serverVersion( channel );
         this.protocol = BoltProtocol.forChannel( channel );
@@ -104,6 +108,12 @@ public class NetworkConnection implements Connection
         }
     }
 
+    @Override
+    public InboundFlowControl inboundFlowControl()
+    {
+        return inboundFlowControl;
+    }
+
     @Override
     public void flush()
     {
@@ -205,7 +215,7 @@ public class NetworkConnection implements Connection
 
     private void writeResetMessageIfNeeded( ResponseHandler resetHandler, boolean isSessionReset )
     {
-        channel.eventLoop().execute( () ->
+        runInEventLoop( () ->
         {
             if ( isSessionReset && !isOpen() )
             {
@@ -224,12 +234,12 @@ public class NetworkConnection implements Connection
 
     private void flushInEventLoop()
     {
-        channel.eventLoop().execute( channel::flush );
+        runInEventLoop( channel::flush );
     }
 
     private void writeMessageInEventLoop( Message message, ResponseHandler handler, boolean flush )
     {
-        channel.eventLoop().execute( () ->
+        runInEventLoop( () ->
         {
             messageDispatcher.enqueue( handler );
 
@@ -246,7 +256,7 @@ public class NetworkConnection implements Connection
 
     private void writeMessagesInEventLoop( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2, boolean flush )
     {
-        channel.eventLoop().execute( () ->
+        runInEventLoop( () ->
         {
             messageDispatcher.enqueue( handler1 );
             messageDispatcher.enqueue( handler2 );
@@ -264,6 +274,23 @@ public class NetworkConnection implements Connection
         } );
     }
 
+    /**
+     * Run the given task in the event loop of the channel. Callers that already run in this event loop, like async pipelines that acquired
+     * a connection bound to their own event loop, execute the task right away instead of submitting it.
+     */
+    private void runInEventLoop( Runnable task )
+    {
+        EventLoop eventLoop = channel.eventLoop();
+        if ( eventLoop.inEventLoop() )
+        {
+            task.run();
+        }
+        else
+        {
+            eventLoop.execute( task );
+        }
+    }
+
     private void setAutoRead( boolean value )
     {
         channel.config().setAutoRead( value );
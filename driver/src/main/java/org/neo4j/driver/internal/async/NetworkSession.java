@@ -58,6 +58,7 @@ public class NetworkSession
 
     private final BookmarkHolder bookmarkHolder;
     private final long fetchSize;
+    private final boolean pipelinedTransactionFunctions;
     private volatile CompletionStage<UnmanagedTransaction> transactionStage = completedWithNull();
     private volatile CompletionStage<Connection> connectionStage = completedWithNull();
     private volatile CompletionStage<? extends FailableCursor> resultCursorStage = completedWithNull();
@@ -66,6 +67,12 @@ public class NetworkSession
 
     public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
             BookmarkHolder bookmarkHolder, long fetchSize, Logging logging )
+    {
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, fetchSize, false, logging );
+    }
+
+    public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+            BookmarkHolder bookmarkHolder, long fetchSize, boolean pipelinedTransactionFunctions, Logging logging )
     {
         this.connectionProvider = connectionProvider;
         this.mode = mode;
@@ -74,6 +81,7 @@ public class NetworkSession
         this.bookmarkHolder = bookmarkHolder;
         this.connectionContext = new NetworkSessionConnectionContext( databaseName, bookmarkHolder.getBookmark() );
         this.fetchSize = fetchSize;
+        this.pipelinedTransactionFunctions = pipelinedTransactionFunctions;
     }
 
     public CompletionStage<ResultCursor> runAsync(Query query, TransactionConfig config, boolean waitForRunResponse )
@@ -100,6 +108,20 @@ public class NetworkSession
     }
 
     public CompletionStage<UnmanagedTransaction> beginTransactionAsync( AccessMode mode, TransactionConfig config )
+    {
+        return beginTransactionAsync( mode, config, false );
+    }
+
+    /**
+     * Begin the transaction of a blocking or async transaction function. It is pipelined when enabled with
+     * {@link org.neo4j.driver.Config.ConfigBuilder#withPipelinedTransactionFunctions(boolean)}.
+     */
+    public CompletionStage<UnmanagedTransaction> beginTransactionFunctionAsync( AccessMode mode, TransactionConfig config )
+    {
+        return beginTransactionAsync( mode, config, pipelinedTransactionFunctions );
+    }
+
+    private CompletionStage<UnmanagedTransaction> beginTransactionAsync( AccessMode mode, TransactionConfig config, boolean pipelined )
     {
         ensureSessionIsOpen();
 
@@ -108,7 +130,7 @@ public class NetworkSession
                 .thenCompose( ignore -> acquireConnection( mode ) )
                 .thenCompose( connection ->
                 {
-                    UnmanagedTransaction tx = new UnmanagedTransaction( connection, bookmarkHolder, fetchSize );
+                    UnmanagedTransaction tx = new UnmanagedTransaction( connection, bookmarkHolder, fetchSize, pipelined );
                     return tx.beginAsync( bookmarkHolder.getBookmark(), config );
                 } );
 
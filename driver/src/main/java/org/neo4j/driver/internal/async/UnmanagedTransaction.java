@@ -36,6 +36,7 @@ import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
 
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 
@@ -117,21 +118,35 @@ public class UnmanagedTransaction
     private final BookmarkHolder bookmarkHolder;
     private final ResultCursorsHolder resultCursors;
     private final long fetchSize;
+    private final boolean pipelined;
 
     private volatile StateHolder state = StateHolder.of( State.ACTIVE );
 
     public UnmanagedTransaction(Connection connection, BookmarkHolder bookmarkHolder, long fetchSize )
+    {
+        this( connection, bookmarkHolder, fetchSize, false );
+    }
+
+    /**
+     * @param pipelined when {@code true}, BEGIN is sent together with the first query and COMMIT right after the last one, without waiting for
+     * their responses. Queries then pull all records at once, so that nothing is left to pull when COMMIT is sent.
+     */
+    public UnmanagedTransaction( Connection connection, BookmarkHolder bookmarkHolder, long fetchSize, boolean pipelined )
     {
         this.connection = connection;
         this.protocol = connection.protocol();
         this.bookmarkHolder = bookmarkHolder;
         this.resultCursors = new ResultCursorsHolder();
-        this.fetchSize = fetchSize;
+        this.fetchSize = pipelined ? UNLIMITED_FETCH_SIZE : fetchSize;
+        this.pipelined = pipelined;
     }
 
     public CompletionStage<UnmanagedTransaction> beginAsync(Bookmark initialBookmark, TransactionConfig config )
     {
-        return protocol.beginTransaction( connection, initialBookmark, config )
+        CompletionStage<Void> beginStage = pipelined
+                                           ? protocol.beginPipelinedTransaction( connection, initialBookmark, config )
+                                           : protocol.beginTransaction( connection, initialBookmark, config );
+        return beginStage
                 .handle( ( ignore, beginError ) ->
                 {
                     if ( beginError != null )
@@ -166,6 +181,14 @@ public class UnmanagedTransaction
         {
             return failedFuture( new ClientException( "Can't commit, transaction has been rolled back" ) );
         }
+        else if ( pipelined )
+        {
+            // all records are already requested, COMMIT can follow right away and gets ignored by the database when a query failed
+            CompletionStage<Void> commitStage = doCommitAsync();
+            return resultCursors.retrieveNotConsumedError()
+                    .thenCompose( error -> commitStage.handle( handleCommitOrRollback( error ) ) )
+                    .whenComplete( ( ignore, error ) -> transactionClosed( error == null ) );
+        }
         else
         {
             return resultCursors.retrieveNotConsumedError()
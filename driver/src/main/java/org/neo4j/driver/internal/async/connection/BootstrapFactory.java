@@ -19,8 +19,20 @@
 package org.neo4j.driver.internal.async.connection;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.AdaptiveRecvByteBufAllocator;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.util.ResourceLeakDetector;
+
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Config.BufferAllocator;
+import org.neo4j.driver.Config.BufferLeakDetection;
+import org.neo4j.driver.Config.NetworkTransport;
 
 public final class BootstrapFactory
 {
@@ -33,13 +45,97 @@ public final class BootstrapFactory
         return newBootstrap( EventLoopGroupFactory.newEventLoopGroup( threadCount ) );
     }
 
+    public static Bootstrap newBootstrap( int threadCount, NetworkTransport transport )
+    {
+        return newBootstrap( EventLoopGroupFactory.newEventLoopGroup( threadCount, transport ) );
+    }
+
     public static Bootstrap newBootstrap( EventLoopGroup eventLoopGroup )
     {
         Bootstrap bootstrap = new Bootstrap();
         bootstrap.group( eventLoopGroup );
-        bootstrap.channel( EventLoopGroupFactory.channelClass() );
+        bootstrap.channel( EventLoopGroupFactory.channelClass( eventLoopGroup ) );
         bootstrap.option( ChannelOption.SO_KEEPALIVE, true );
         bootstrap.option( ChannelOption.SO_REUSEADDR, true );
         return bootstrap;
     }
+
+    /**
+     * Apply socket options, write buffer watermarks, buffer allocators and leak detection from the given config. Settings left at their defaults
+     * are not touched.
+     */
+    public static void configure( Bootstrap bootstrap, Config config )
+    {
+        bootstrap.option( ChannelOption.TCP_NODELAY, config.tcpNoDelay() );
+        if ( config.socketReceiveBufferSize() > 0 )
+        {
+            bootstrap.option( ChannelOption.SO_RCVBUF, config.socketReceiveBufferSize() );
+        }
+        if ( config.socketSendBufferSize() > 0 )
+        {
+            bootstrap.option( ChannelOption.SO_SNDBUF, config.socketSendBufferSize() );
+        }
+        if ( config.writeBufferHighWatermark() > 0 )
+        {
+            bootstrap.option( ChannelOption.WRITE_BUFFER_WATER_MARK,
+                    new WriteBufferWaterMark( config.writeBufferLowWatermark(), config.writeBufferHighWatermark() ) );
+        }
+        if ( config.readBufferMaximumSize() > 0 )
+        {
+            if ( config.readBufferMinimumSize() == config.readBufferMaximumSize() )
+            {
+                bootstrap.option( ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator( config.readBufferMaximumSize() ) );
+            }
+            else
+            {
+                bootstrap.option( ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(
+                        config.readBufferMinimumSize(), config.readBufferInitialSize(), config.readBufferMaximumSize() ) );
+            }
+        }
+        ByteBufAllocator allocator = newAllocator( config.bufferAllocator() );
+        if ( allocator != null )
+        {
+            bootstrap.option( ChannelOption.ALLOCATOR, allocator );
+        }
+        ResourceLeakDetector.Level leakDetectionLevel = leakDetectionLevel( config.bufferLeakDetection() );
+        if ( leakDetectionLevel != null )
+        {
+            // level is global and read on every buffer allocation, leaks are reported through the logging installed by the driver factory
+            ResourceLeakDetector.setLevel( leakDetectionLevel );
+        }
+    }
+
+    static ByteBufAllocator newAllocator( BufferAllocator allocator )
+    {
+        switch ( allocator )
+        {
+        case POOLED_DIRECT:
+            return new PooledByteBufAllocator( true );
+        case POOLED_HEAP:
+            return new PooledByteBufAllocator( false );
+        case UNPOOLED_DIRECT:
+            return new UnpooledByteBufAllocator( true );
+        case UNPOOLED_HEAP:
+            return new UnpooledByteBufAllocator( false );
+        default:
+            return null;
+        }
+    }
+
+    static ResourceLeakDetector.Level leakDetectionLevel( BufferLeakDetection detection )
+    {
+        switch ( detection )
+        {
+        case DISABLED:
+            return ResourceLeakDetector.Level.DISABLED;
+        case SIMPLE:
+            return ResourceLeakDetector.Level.SIMPLE;
+        case ADVANCED:
+            return ResourceLeakDetector.Level.ADVANCED;
+        case PARANOID:
+            return ResourceLeakDetector.Level.PARANOID;
+        default:
+            return null;
+        }
+    }
 }
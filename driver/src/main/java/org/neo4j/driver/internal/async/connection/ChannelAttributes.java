@@ -22,6 +22,7 @@ import io.netty.channel.Channel;
 import io.netty.util.AttributeKey;
 
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
 import org.neo4j.driver.internal.util.ServerVersion;
@@ -38,6 +39,7 @@ public final class ChannelAttributes
     private static final AttributeKey<Long> CREATION_TIMESTAMP = newInstance( "creationTimestamp" );
     private static final AttributeKey<Long> LAST_USED_TIMESTAMP = newInstance( "lastUsedTimestamp" );
     private static final AttributeKey<InboundMessageDispatcher> MESSAGE_DISPATCHER = newInstance( "messageDispatcher" );
+    private static final AttributeKey<InboundFlowControl> INBOUND_FLOW_CONTROL = newInstance( "inboundFlowControl" );
     private static final AttributeKey<String> TERMINATION_REASON = newInstance( "terminationReason" );
 
     private ChannelAttributes()
@@ -124,6 +126,20 @@ public final class ChannelAttributes
         setOnce( channel, MESSAGE_DISPATCHER, messageDispatcher );
     }
 
+    /**
+     * @return flow control of the given channel or {@link InboundFlowControl#UNLIMITED} when channel was not initialized with one.
+     */
+    public static InboundFlowControl inboundFlowControl( Channel channel )
+    {
+        InboundFlowControl flowControl = get( channel, INBOUND_FLOW_CONTROL );
+        return flowControl == null ? InboundFlowControl.UNLIMITED : flowControl;
+    }
+
+    public static void setInboundFlowControl( Channel channel, InboundFlowControl flowControl )
+    {
+        setOnce( channel, INBOUND_FLOW_CONTROL, flowControl );
+    }
+
     public static String terminationReason( Channel channel )
     {
         return get( channel, TERMINATION_REASON );
@@ -50,6 +50,8 @@ public class ChannelConnectorImpl implements ChannelConnector
     private final SecurityPlan securityPlan;
     private final ChannelPipelineBuilder pipelineBuilder;
     private final int connectTimeoutMillis;
+    private final long recordBufferLowWatermark;
+    private final long recordBufferHighWatermark;
     private final Logging logging;
     private final Clock clock;
 
@@ -66,6 +68,8 @@ public class ChannelConnectorImpl implements ChannelConnector
         this.authToken = requireValidAuthToken( connectionSettings.authToken() );
         this.routingContext = routingContext;
         this.connectTimeoutMillis = connectionSettings.connectTimeoutMillis();
+        this.recordBufferLowWatermark = connectionSettings.recordBufferLowWatermark();
+        this.recordBufferHighWatermark = connectionSettings.recordBufferHighWatermark();
         this.securityPlan = requireNonNull( securityPlan );
         this.pipelineBuilder = pipelineBuilder;
         this.logging = requireNonNull( logging );
@@ -76,7 +80,8 @@ public class ChannelConnectorImpl implements ChannelConnector
     public ChannelFuture connect( BoltServerAddress address, Bootstrap bootstrap )
     {
         bootstrap.option( ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis );
-        bootstrap.handler( new NettyChannelInitializer( address, securityPlan, connectTimeoutMillis, clock, logging ) );
+        bootstrap.handler( new NettyChannelInitializer( address, securityPlan, connectTimeoutMillis, clock, logging,
+                recordBufferLowWatermark, recordBufferHighWatermark ) );
 
         ChannelFuture channelConnected = bootstrap.connect( address.toSocketAddress() );
 
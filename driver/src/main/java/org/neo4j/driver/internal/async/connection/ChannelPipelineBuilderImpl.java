@@ -22,24 +22,95 @@ import io.netty.channel.ChannelPipeline;
 
 import org.neo4j.driver.internal.async.inbound.ChannelErrorHandler;
 import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
+import org.neo4j.driver.internal.async.inbound.CompressionDecoder;
+import org.neo4j.driver.internal.async.inbound.InboundMessageDecoder;
 import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.CompressionEncoder;
+import org.neo4j.driver.internal.async.outbound.FlushConsolidationHandler;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.Logging;
 
 public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder
 {
+    /**
+     * When enabled, a single {@link InboundMessageDecoder} replaces the chain of chunk decoder, message decoder and inbound message handler.
+     */
+    private static final boolean FUSED_INBOUND_DECODER = Boolean.getBoolean( "fusedInboundDecoder" );
+
+    public static final int NO_COMPRESSION = -1;
+
+    private final boolean fusedInboundDecoder;
+    private final MetricsListener flushConsolidationListener;
+    private final int compressionMinimumSize;
+
+    public ChannelPipelineBuilderImpl()
+    {
+        this( FUSED_INBOUND_DECODER );
+    }
+
+    public ChannelPipelineBuilderImpl( boolean fusedInboundDecoder )
+    {
+        this( fusedInboundDecoder, null );
+    }
+
+    public ChannelPipelineBuilderImpl( MetricsListener flushConsolidationListener )
+    {
+        this( FUSED_INBOUND_DECODER, flushConsolidationListener );
+    }
+
+    public ChannelPipelineBuilderImpl( MetricsListener flushConsolidationListener, int compressionMinimumSize )
+    {
+        this( FUSED_INBOUND_DECODER, flushConsolidationListener, compressionMinimumSize );
+    }
+
+    public ChannelPipelineBuilderImpl( boolean fusedInboundDecoder, MetricsListener flushConsolidationListener )
+    {
+        this( fusedInboundDecoder, flushConsolidationListener, NO_COMPRESSION );
+    }
+
+    /**
+     * @param flushConsolidationListener listener of saved flushes, when not {@code null} a {@link FlushConsolidationHandler} is added to the pipeline.
+     * @param compressionMinimumSize minimum size of compressed outbound messages, when not {@link #NO_COMPRESSION} a {@link CompressionDecoder} and
+     * a {@link CompressionEncoder} are added to the pipeline.
+     */
+    public ChannelPipelineBuilderImpl( boolean fusedInboundDecoder, MetricsListener flushConsolidationListener, int compressionMinimumSize )
+    {
+        this.fusedInboundDecoder = fusedInboundDecoder;
+        this.flushConsolidationListener = flushConsolidationListener;
+        this.compressionMinimumSize = compressionMinimumSize;
+    }
+
     @Override
     public void build( MessageFormat messageFormat, ChannelPipeline pipeline, Logging logging )
     {
+        // compression is next to the transport, outbound messages pass all other handlers before they are compressed
+        if ( compressionMinimumSize != NO_COMPRESSION )
+        {
+            pipeline.addLast( new CompressionDecoder() );
+            pipeline.addLast( CompressionEncoder.NAME, new CompressionEncoder( compressionMinimumSize ) );
+        }
+
         // inbound handlers
-        pipeline.addLast( new ChunkDecoder( logging ) );
-        pipeline.addLast( new MessageDecoder() );
-        pipeline.addLast( new InboundMessageHandler( messageFormat, logging ) );
+        if ( fusedInboundDecoder )
+        {
+            pipeline.addLast( new InboundMessageDecoder( messageFormat, logging ) );
+        }
+        else
+        {
+            pipeline.addLast( new ChunkDecoder( logging ) );
+            pipeline.addLast( new MessageDecoder() );
+            pipeline.addLast( new InboundMessageHandler( messageFormat, logging ) );
+        }
 
         // outbound handlers
         pipeline.addLast( OutboundMessageHandler.NAME, new OutboundMessageHandler( messageFormat, logging ) );
+        if ( flushConsolidationListener != null )
+        {
+            pipeline.addLast( FlushConsolidationHandler.NAME, new FlushConsolidationHandler( flushConsolidationListener ) );
+        }
 
         // last one - error handler
         pipeline.addLast( new ChannelErrorHandler( logging ) );
@@ -23,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DirectConnectionProvider;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.spi.Connection;
@@ -69,6 +70,12 @@ public class DirectConnection implements Connection
         delegate.disableAutoRead();
     }
 
+    @Override
+    public InboundFlowControl inboundFlowControl()
+    {
+        return delegate.inboundFlowControl();
+    }
+
     @Override
     public void write( Message message, ResponseHandler handler )
     {
@@ -30,6 +30,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 
+import org.neo4j.driver.Config.NetworkTransport;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.async.AsyncSession;
 
@@ -56,6 +57,17 @@ public final class EventLoopGroupFactory
         return NioSocketChannel.class;
     }
 
+    /**
+     * Get class of {@link Channel} for {@link Bootstrap#channel(Class)} method that matches the transport of the given group.
+     *
+     * @param group the event loop group the bootstrap uses.
+     * @return class of the channel, native epoll channel for epoll groups and NIO channel otherwise.
+     */
+    public static Class<? extends Channel> channelClass( EventLoopGroup group )
+    {
+        return NativeTransport.isEpollEventLoopGroup( group ) ? NativeTransport.epollChannelClass() : NioSocketChannel.class;
+    }
+
     /**
      * Create new {@link EventLoopGroup} with specified thread count. Returned group should by given to
      * {@link Bootstrap#group(EventLoopGroup)}.
@@ -68,6 +80,36 @@ public final class EventLoopGroupFactory
         return new DriverEventLoopGroup( threadCount );
     }
 
+    /**
+     * Create new {@link EventLoopGroup} with specified thread count and network transport. Threads of the returned group are recognized
+     * by {@link #assertNotInEventLoopThread()} regardless of the transport.
+     *
+     * @param threadCount amount of IO threads for the new group.
+     * @param transport the network transport, {@link NetworkTransport#AUTO} falls back to NIO when the native transport is not available.
+     * @return new group consistent with channel class returned by {@link #channelClass(EventLoopGroup)}.
+     * @throws IllegalStateException when {@link NetworkTransport#EPOLL} is requested but not available.
+     */
+    public static EventLoopGroup newEventLoopGroup( int threadCount, NetworkTransport transport )
+    {
+        switch ( transport )
+        {
+        case EPOLL:
+            if ( !NativeTransport.isEpollAvailable() )
+            {
+                throw new IllegalStateException( "Native epoll transport is not available", NativeTransport.epollUnavailabilityCause() );
+            }
+            return NativeTransport.newEpollEventLoopGroup( threadCount, new DriverThreadFactory() );
+        case AUTO:
+            if ( NativeTransport.isEpollAvailable() )
+            {
+                return NativeTransport.newEpollEventLoopGroup( threadCount, new DriverThreadFactory() );
+            }
+            return newEventLoopGroup( threadCount );
+        default:
+            return newEventLoopGroup( threadCount );
+        }
+    }
+
     /**
      * Assert that current thread is not an event loop used for async IO operations. This check is needed because
      * blocking API methods like {@link Session#run(String)} are implemented on top of corresponding async API methods
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to the Netty native epoll transport. All references to native transport classes are kept in this class, so that the rest of the
+ * driver keeps working when the native transport classes or libraries can't be loaded on the current platform.
+ */
+final class NativeTransport
+{
+    private NativeTransport()
+    {
+    }
+
+    static boolean isEpollAvailable()
+    {
+        try
+        {
+            return Epoll.isAvailable();
+        }
+        catch ( LinkageError error )
+        {
+            // native transport classes are not on the classpath
+            return false;
+        }
+    }
+
+    static Throwable epollUnavailabilityCause()
+    {
+        try
+        {
+            return Epoll.unavailabilityCause();
+        }
+        catch ( LinkageError error )
+        {
+            return error;
+        }
+    }
+
+    static EventLoopGroup newEpollEventLoopGroup( int threadCount, ThreadFactory threadFactory )
+    {
+        return new EpollEventLoopGroup( threadCount, threadFactory );
+    }
+
+    static boolean isEpollEventLoopGroup( EventLoopGroup group )
+    {
+        try
+        {
+            return group instanceof EpollEventLoopGroup;
+        }
+        catch ( LinkageError error )
+        {
+            return false;
+        }
+    }
+
+    static Class<? extends Channel> epollChannelClass()
+    {
+        return EpollSocketChannel.class;
+    }
+}
@@ -27,12 +27,14 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.Logging;
 
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setCreationTimestamp;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setInboundFlowControl;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
 
@@ -43,15 +45,26 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel>
     private final int connectTimeoutMillis;
     private final Clock clock;
     private final Logging logging;
+    private final long recordBufferLowWatermark;
+    private final long recordBufferHighWatermark;
 
     public NettyChannelInitializer( BoltServerAddress address, SecurityPlan securityPlan, int connectTimeoutMillis,
             Clock clock, Logging logging )
+    {
+        this( address, securityPlan, connectTimeoutMillis, clock, logging, InboundFlowControl.DEFAULT_LOW_WATERMARK,
+                InboundFlowControl.DEFAULT_HIGH_WATERMARK );
+    }
+
+    public NettyChannelInitializer( BoltServerAddress address, SecurityPlan securityPlan, int connectTimeoutMillis,
+            Clock clock, Logging logging, long recordBufferLowWatermark, long recordBufferHighWatermark )
     {
         this.address = address;
         this.securityPlan = securityPlan;
         this.connectTimeoutMillis = connectTimeoutMillis;
         this.clock = clock;
         this.logging = logging;
+        this.recordBufferLowWatermark = recordBufferLowWatermark;
+        this.recordBufferHighWatermark = recordBufferHighWatermark;
     }
 
     @Override
@@ -93,5 +106,6 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel>
         setServerAddress( channel, address );
         setCreationTimestamp( channel, clock.millis() );
         setMessageDispatcher( channel, new InboundMessageDispatcher( channel, logging ) );
+        setInboundFlowControl( channel, new InboundFlowControl( recordBufferLowWatermark, recordBufferHighWatermark ) );
     }
 }
@@ -23,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.RoutingErrorHandler;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.handlers.RoutingResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
@@ -61,6 +62,12 @@ public class RoutingConnection implements Connection
         delegate.disableAutoRead();
     }
 
+    @Override
+    public InboundFlowControl inboundFlowControl()
+    {
+        return delegate.inboundFlowControl();
+    }
+
     @Override
     public void write( Message message, ResponseHandler handler )
     {
@@ -19,15 +19,44 @@
 package org.neo4j.driver.internal.async.inbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.util.ByteProcessor;
 
+import java.nio.charset.StandardCharsets;
+
+import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.packstream.PackInput;
+import org.neo4j.driver.internal.value.BytesValue;
+import org.neo4j.driver.internal.value.RetainedBytesValue;
 
 import static java.util.Objects.requireNonNull;
 
 public class ByteBufInput implements PackInput
 {
+    private static final String EMPTY_STRING = "";
+    private static final ByteProcessor FIND_NON_ASCII = value -> value >= 0;
+
+    public static final int RETAINED_BYTES_DISABLED = -1;
+
+    private final StringCache stringCache;
+    private final int retainedBytesThreshold;
     private ByteBuf buf;
 
+    public ByteBufInput()
+    {
+        this( StringCache.DEFAULT_SIZE, RETAINED_BYTES_DISABLED );
+    }
+
+    /**
+     * @param stringCacheSize number of entries in the cache of interned strings, {@code 0} disables the cache.
+     * @param retainedBytesThreshold byte arrays of this size or larger are returned as values backed by a retained slice
+     * of the input buffer instead of a copy, {@link #RETAINED_BYTES_DISABLED} to always copy.
+     */
+    public ByteBufInput( int stringCacheSize, int retainedBytesThreshold )
+    {
+        this.stringCache = stringCacheSize > 0 ? new StringCache( stringCacheSize ) : null;
+        this.retainedBytesThreshold = retainedBytesThreshold;
+    }
+
     public void start( ByteBuf newBuf )
     {
         assertNotStarted();
@@ -75,12 +104,71 @@ public class ByteBufInput implements PackInput
         buf.readBytes( into, offset, toRead );
     }
 
+    @Override
+    public void skipBytes( int size )
+    {
+        buf.skipBytes( size );
+    }
+
+    @Override
+    public byte[] readBytes( int size )
+    {
+        byte[] bytes = new byte[size];
+        buf.readBytes( bytes );
+        return bytes;
+    }
+
+    @Override
+    public Value readBytesValue( int size )
+    {
+        if ( retainedBytesThreshold != RETAINED_BYTES_DISABLED && size >= retainedBytesThreshold )
+        {
+            return new RetainedBytesValue( buf.readRetainedSlice( size ) );
+        }
+        return new BytesValue( readBytes( size ) );
+    }
+
     @Override
     public byte peekByte()
     {
         return buf.getByte( buf.readerIndex() );
     }
 
+    @Override
+    public String readUtf8( int size )
+    {
+        String result = decodeUtf8( buf, buf.readerIndex(), size );
+        buf.skipBytes( size );
+        return result;
+    }
+
+    @Override
+    public String readInternedUtf8( int size )
+    {
+        if ( stringCache == null || !StringCache.isCacheable( size ) )
+        {
+            return readUtf8( size );
+        }
+        String result = stringCache.get( buf, buf.readerIndex(), size, ByteBufInput::decodeUtf8 );
+        buf.skipBytes( size );
+        return result;
+    }
+
+    private static String decodeUtf8( ByteBuf buf, int index, int size )
+    {
+        if ( size == 0 )
+        {
+            return EMPTY_STRING;
+        }
+        // decode straight from the buffer without an intermediate copy
+        // ASCII is very common for keys and labels and decodes without the cost of a UTF-8 decoder
+        if ( buf.forEachByte( index, size, FIND_NON_ASCII ) == -1 )
+        {
+            return buf.toString( index, size, StandardCharsets.US_ASCII );
+        }
+        return buf.toString( index, size, StandardCharsets.UTF_8 );
+    }
+
     private void assertNotStarted()
     {
         if ( buf != null )
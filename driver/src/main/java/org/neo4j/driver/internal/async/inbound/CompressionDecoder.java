@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.compression.Snappy;
+
+import java.util.List;
+
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.FRAME_HEADER_SIZE;
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.MAX_BLOCK_SIZE;
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.RAW_FRAME;
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.SNAPPY_FRAME;
+
+/**
+ * Decodes frames produced by {@link org.neo4j.driver.internal.async.outbound.CompressionEncoder} back into the plain byte stream expected by
+ * {@link ChunkDecoder}. Bodies of raw frames are passed on as retained slices without copying, compressed bodies are decompressed into a new buffer.
+ */
+public class CompressionDecoder extends ByteToMessageDecoder
+{
+    private final Snappy snappy = new Snappy();
+
+    @Override
+    protected void decode( ChannelHandlerContext ctx, ByteBuf in, List<Object> out )
+    {
+        while ( in.readableBytes() >= FRAME_HEADER_SIZE )
+        {
+            int startIndex = in.readerIndex();
+            byte type = in.getByte( startIndex );
+            int length = in.getInt( startIndex + 1 );
+            if ( length < 0 || (type == SNAPPY_FRAME && length > MAX_BLOCK_SIZE) )
+            {
+                throw new DecoderException( "Invalid length of compressed frame: " + length );
+            }
+            if ( in.readableBytes() < FRAME_HEADER_SIZE + length )
+            {
+                return;
+            }
+            in.skipBytes( FRAME_HEADER_SIZE );
+
+            if ( type == RAW_FRAME )
+            {
+                out.add( in.readRetainedSlice( length ) );
+            }
+            else if ( type == SNAPPY_FRAME )
+            {
+                out.add( decompress( ctx, in.readSlice( length ) ) );
+            }
+            else
+            {
+                throw new DecoderException( "Unknown type of compressed frame: " + type );
+            }
+        }
+    }
+
+    private ByteBuf decompress( ChannelHandlerContext ctx, ByteBuf block )
+    {
+        // decompressor grows the buffer to the uncompressed length of the block
+        ByteBuf decompressed = ctx.alloc().buffer( block.readableBytes() );
+        try
+        {
+            snappy.decode( block, decompressed );
+            return decompressed;
+        }
+        catch ( Throwable error )
+        {
+            decompressed.release();
+            throw new DecoderException( "Failed to decompress frame", error );
+        }
+        finally
+        {
+            snappy.reset();
+        }
+    }
+}
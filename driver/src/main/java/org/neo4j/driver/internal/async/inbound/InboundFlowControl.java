@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-connection budget for bytes of received records that are buffered by the driver but not yet consumed.
+ * <p>
+ * Inbound decoders report the size of every message before it is dispatched. Response handlers that buffer records charge the size of
+ * the current message when a record is queued and refund it when the record is handed out. Handlers check {@link #isExhausted()} to stop
+ * receiving more records, either by turning off auto-read for Bolt V3 and below or by holding back PULL messages for Bolt V4, and
+ * {@link #isReplenished()} to resume. Sizes are sizes of RECORD messages on the wire, so limits hold no matter how big individual records are.
+ */
+public class InboundFlowControl
+{
+    public static final long DEFAULT_LOW_WATERMARK = 1024 * 1024;
+    public static final long DEFAULT_HIGH_WATERMARK = 4 * 1024 * 1024;
+
+    public static final InboundFlowControl UNLIMITED = new InboundFlowControl( Long.MAX_VALUE, Long.MAX_VALUE );
+
+    private final long lowWatermark;
+    private final long highWatermark;
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    // only accessed by the event loop thread of the connection
+    private int currentMessageSize;
+
+    public InboundFlowControl( long lowWatermark, long highWatermark )
+    {
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+    }
+
+    /**
+     * Invoked by inbound decoders right before the message is dispatched to response handlers.
+     *
+     * @param sizeInBytes size of the message body.
+     */
+    public void messageReceived( int sizeInBytes )
+    {
+        currentMessageSize = sizeInBytes;
+    }
+
+    /**
+     * @return size of the message that is being dispatched, should only be queried from response handler callbacks.
+     */
+    public int currentMessageSize()
+    {
+        return currentMessageSize;
+    }
+
+    public void recordsBuffered( long bytes )
+    {
+        bufferedBytes.addAndGet( bytes );
+    }
+
+    public void recordsConsumed( long bytes )
+    {
+        // records of handlers abandoned before a reset can be consumed later, never go below zero
+        bufferedBytes.updateAndGet( current -> Math.max( 0, current - bytes ) );
+    }
+
+    /**
+     * Forget about all buffered records. Used when connection is released and previous results no longer own it.
+     */
+    public void reset()
+    {
+        bufferedBytes.set( 0 );
+    }
+
+    public long bufferedBytes()
+    {
+        return bufferedBytes.get();
+    }
+
+    /**
+     * @return {@code true} when more than the high watermark bytes are buffered and no more records should be received.
+     */
+    public boolean isExhausted()
+    {
+        return bufferedBytes.get() > highWatermark;
+    }
+
+    /**
+     * @return {@code true} when at most the low watermark bytes are buffered and receiving of records can resume.
+     */
+    public boolean isReplenished()
+    {
+        return bufferedBytes.get() <= lowWatermark;
+    }
+
+    /**
+     * @return amount of bytes that can still be buffered before the high watermark is reached.
+     */
+    public long availableBytes()
+    {
+        return Math.max( 0, highWatermark - bufferedBytes.get() );
+    }
+
+    public long lowWatermark()
+    {
+        return lowWatermark;
+    }
+
+    public long highWatermark()
+    {
+        return highWatermark;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+
+import java.util.List;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.logging.ChannelActivityLogger;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+
+import static io.netty.buffer.ByteBufUtil.hexDump;
+import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.inboundFlowControl;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
+
+/**
+ * Single inbound handler that does the work of {@link ChunkDecoder}, {@link MessageDecoder} and {@link InboundMessageHandler}.
+ * <p>
+ * Incoming bytes are accumulated into a contiguous buffer and chunk headers are parsed in place. Scanning resumes where it stopped when
+ * a message arrives in multiple reads. Once the message boundary is seen, a message that fits into a single chunk, which is the case for
+ * most records, is decoded directly from the accumulated buffer without any slices or copies. Messages that span multiple chunks are
+ * first copied into a single buffer without the chunk headers.
+ * <p>
+ * Buffer lifecycle: received buffers are owned by the cumulation of this decoder, which discards read bytes as messages are consumed.
+ * The temporary buffer of a multi-chunk message is released right after the message is dispatched. Decoded values never refer to
+ * these buffers, except for {@link org.neo4j.driver.internal.value.RetainedBytesValue} which retains its own slice.
+ */
+public class InboundMessageDecoder extends ByteToMessageDecoder
+{
+    private final ByteBufInput input;
+    private final MessageFormat.Reader reader;
+    private final Logging logging;
+
+    private InboundMessageDispatcher messageDispatcher;
+    private InboundFlowControl flowControl;
+    private Logger log;
+
+    // state of the partially received message, offsets are relative to the reader index of the accumulated buffer
+    private int nextChunkOffset;
+    private int messageBodyLength;
+    private int messageChunkCount;
+
+    public InboundMessageDecoder( MessageFormat messageFormat, Logging logging )
+    {
+        this.input = new ByteBufInput( InboundMessageHandler.STRING_CACHE_SIZE, InboundMessageHandler.RETAINED_BYTES_THRESHOLD );
+        this.reader = messageFormat.newReader( input );
+        this.logging = logging;
+    }
+
+    @Override
+    public void handlerAdded( ChannelHandlerContext ctx )
+    {
+        messageDispatcher = requireNonNull( messageDispatcher( ctx.channel() ) );
+        flowControl = inboundFlowControl( ctx.channel() );
+        log = new ChannelActivityLogger( ctx.channel(), logging, getClass() );
+    }
+
+    @Override
+    protected void handlerRemoved0( ChannelHandlerContext ctx )
+    {
+        messageDispatcher = null;
+        flowControl = null;
+        log = null;
+    }
+
+    @Override
+    protected void decode( ChannelHandlerContext ctx, ByteBuf in, List<Object> out )
+    {
+        int readableBytes = in.readableBytes();
+        int startIndex = in.readerIndex();
+        while ( nextChunkOffset + CHUNK_HEADER_SIZE_BYTES <= readableBytes )
+        {
+            int chunkSize = in.getUnsignedShort( startIndex + nextChunkOffset );
+            nextChunkOffset += CHUNK_HEADER_SIZE_BYTES + chunkSize;
+            if ( chunkSize == 0 )
+            {
+                // message boundary, the whole message is available
+                decodeMessage( ctx, in, startIndex );
+                return;
+            }
+            messageBodyLength += chunkSize;
+            messageChunkCount++;
+        }
+    }
+
+    private void decodeMessage( ChannelHandlerContext ctx, ByteBuf in, int startIndex )
+    {
+        int messageEndIndex = startIndex + nextChunkOffset;
+        int writerIndex = in.writerIndex();
+        try
+        {
+            if ( messageChunkCount == 1 )
+            {
+                // read the only chunk in place, limit the readable bytes to the chunk body
+                in.setIndex( startIndex + CHUNK_HEADER_SIZE_BYTES, startIndex + CHUNK_HEADER_SIZE_BYTES + messageBodyLength );
+                readMessage( in );
+            }
+            else if ( messageChunkCount > 1 )
+            {
+                ByteBuf messageBuf = ctx.alloc().buffer( messageBodyLength );
+                try
+                {
+                    int chunkIndex = startIndex;
+                    for ( int i = 0; i < messageChunkCount; i++ )
+                    {
+                        int chunkSize = in.getUnsignedShort( chunkIndex );
+                        messageBuf.writeBytes( in, chunkIndex + CHUNK_HEADER_SIZE_BYTES, chunkSize );
+                        chunkIndex += CHUNK_HEADER_SIZE_BYTES + chunkSize;
+                    }
+                    readMessage( messageBuf );
+                }
+                finally
+                {
+                    messageBuf.release();
+                }
+            }
+            // a message without chunks is a NOOP sent to keep the connection alive
+        }
+        finally
+        {
+            in.setIndex( messageEndIndex, writerIndex );
+            nextChunkOffset = 0;
+            messageBodyLength = 0;
+            messageChunkCount = 0;
+        }
+    }
+
+    private void readMessage( ByteBuf messageBuf )
+    {
+        if ( messageDispatcher.fatalErrorOccurred() )
+        {
+            log.warn( "Message ignored because of the previous fatal error. Channel will be closed. Message:\n%s",
+                    hexDump( messageBuf ) );
+            return;
+        }
+
+        if ( log.isTraceEnabled() )
+        {
+            log.trace( "S: %s", hexDump( messageBuf ) );
+        }
+
+        flowControl.messageReceived( messageBuf.readableBytes() );
+        input.start( messageBuf );
+        try
+        {
+            reader.read( messageDispatcher );
+        }
+        catch ( Throwable error )
+        {
+            throw new DecoderException( "Failed to read inbound message:\n" + hexDump( messageBuf ) + "\n", error );
+        }
+        finally
+        {
+            input.stop();
+        }
+    }
+}
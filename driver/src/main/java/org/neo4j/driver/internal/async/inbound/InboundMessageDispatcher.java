@@ -30,6 +30,7 @@ import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.messaging.ResponseMessageHandler;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.ErrorUtil;
+import org.neo4j.driver.internal.util.RecordProjection;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.Value;
@@ -97,6 +98,13 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         handler.onRecord( fields );
     }
 
+    @Override
+    public RecordProjection recordProjection()
+    {
+        ResponseHandler handler = handlers.peek();
+        return handler == null ? null : handler.recordProjection();
+    }
+
     @Override
     public void handleFailureMessage( String code, String message )
     {
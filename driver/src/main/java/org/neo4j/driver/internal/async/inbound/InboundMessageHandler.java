@@ -30,20 +30,33 @@ import org.neo4j.driver.Logging;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
 import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.inboundFlowControl;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
 
+/**
+ * Decodes whole messages and dispatches them to the {@link InboundMessageDispatcher} of the channel.
+ * <p>
+ * Buffer lifecycle: the handler owns every received message buffer and releases it right after the message is dispatched, also when
+ * decoding fails or the message is ignored. Decoded values never refer to the buffer, except for
+ * {@link org.neo4j.driver.internal.value.RetainedBytesValue} which retains its own slice and is released by the consumer of the record,
+ * or by the driver when the record is dropped.
+ */
 public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
 {
+    static final int STRING_CACHE_SIZE = Integer.getInteger( "inboundStringCacheSize", StringCache.DEFAULT_SIZE );
+    static final int RETAINED_BYTES_THRESHOLD = Integer.getInteger( "inboundRetainedBytesThreshold", ByteBufInput.RETAINED_BYTES_DISABLED );
+
     private final ByteBufInput input;
     private final MessageFormat.Reader reader;
     private final Logging logging;
 
     private InboundMessageDispatcher messageDispatcher;
+    private InboundFlowControl flowControl;
     private Logger log;
 
     public InboundMessageHandler( MessageFormat messageFormat, Logging logging )
     {
-        this.input = new ByteBufInput();
+        this.input = new ByteBufInput( STRING_CACHE_SIZE, RETAINED_BYTES_THRESHOLD );
         this.reader = messageFormat.newReader( input );
         this.logging = logging;
     }
@@ -52,6 +65,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     public void handlerAdded( ChannelHandlerContext ctx )
     {
         messageDispatcher = requireNonNull( messageDispatcher( ctx.channel() ) );
+        flowControl = inboundFlowControl( ctx.channel() );
         log = new ChannelActivityLogger( ctx.channel(), logging, getClass() );
     }
 
@@ -59,6 +73,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     public void handlerRemoved( ChannelHandlerContext ctx )
     {
         messageDispatcher = null;
+        flowControl = null;
         log = null;
     }
 
@@ -77,6 +92,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
             log.trace( "S: %s", hexDump( msg ) );
         }
 
+        flowControl.messageReceived( msg.readableBytes() );
         input.start( msg );
         try
         {
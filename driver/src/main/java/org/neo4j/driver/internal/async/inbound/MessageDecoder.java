@@ -24,6 +24,14 @@ import io.netty.handler.codec.ByteToMessageDecoder;
 
 import java.util.List;
 
+/**
+ * Accumulates chunk bodies produced by {@link ChunkDecoder} until the message boundary and emits the whole message.
+ * <p>
+ * Buffer lifecycle: every chunk body is accumulated by the cumulator, which owns it from then on. The emitted message is a retained duplicate
+ * of the accumulated buffer and is owned by the next handler, {@link InboundMessageHandler} releases it after the message is dispatched.
+ * Bytes values decoded above the retained threshold keep their own reference to a slice of the message, see
+ * {@link org.neo4j.driver.internal.value.RetainedBytesValue}.
+ */
 public class MessageDecoder extends ByteToMessageDecoder
 {
     private static final Cumulator DEFAULT_CUMULATOR = determineDefaultCumulator();
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A bounded cache of decoded strings keyed by their UTF-8 bytes. Meant for short strings that repeat in almost every inbound message,
+ * like map keys, node labels and relationship types. Each instance is confined to a single channel and is not thread-safe.
+ * <p>
+ * Cache is direct-mapped: each string maps to exactly one slot and evicts the previous occupant on a miss. Lookups compare bytes
+ * in-place in the buffer, so a hit does not allocate.
+ */
+class StringCache
+{
+    static final int DEFAULT_SIZE = 512;
+    static final int MAX_CACHED_STRING_BYTES = 64;
+
+    private final byte[][] keys;
+    private final String[] values;
+    private final int mask;
+
+    StringCache( int size )
+    {
+        if ( size <= 0 || Integer.bitCount( size ) != 1 )
+        {
+            throw new IllegalArgumentException( "String cache size should be a positive power of two, given: " + size );
+        }
+        this.keys = new byte[size][];
+        this.values = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Check if a string of the given encoded size can be cached.
+     *
+     * @param size the size in bytes.
+     * @return {@code true} when the string is short enough, {@code false} otherwise.
+     */
+    static boolean isCacheable( int size )
+    {
+        return size <= MAX_CACHED_STRING_BYTES;
+    }
+
+    /**
+     * Get a cached string for the given region of the buffer or decode and cache it. Does not modify reader or writer index.
+     *
+     * @param buf the buffer.
+     * @param index the index of the first UTF-8 byte.
+     * @param size the size of the region in bytes.
+     * @param decoder decoder to use on a cache miss.
+     * @return the decoded string.
+     */
+    String get( ByteBuf buf, int index, int size, Decoder decoder )
+    {
+        int slot = hash( buf, index, size ) & mask;
+        byte[] cachedKey = keys[slot];
+        if ( cachedKey != null && matches( cachedKey, buf, index, size ) )
+        {
+            return values[slot];
+        }
+
+        String value = decoder.decode( buf, index, size );
+        byte[] key = new byte[size];
+        buf.getBytes( index, key );
+        keys[slot] = key;
+        values[slot] = value;
+        return value;
+    }
+
+    private static int hash( ByteBuf buf, int index, int size )
+    {
+        int hash = size;
+        for ( int i = index; i < index + size; i++ )
+        {
+            hash = 31 * hash + buf.getByte( i );
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches( byte[] key, ByteBuf buf, int index, int size )
+    {
+        if ( key.length != size )
+        {
+            return false;
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( key[i] != buf.getByte( index + i ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    interface Decoder
+    {
+        String decode( ByteBuf buf, int index, int size );
+    }
+}
@@ -19,9 +19,18 @@
 package org.neo4j.driver.internal.async.outbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
 import org.neo4j.driver.internal.packstream.PackOutput;
+import org.neo4j.driver.internal.util.Utf8;
 
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
@@ -34,6 +43,7 @@ public class ChunkAwareByteBufOutput implements PackOutput
     private ByteBuf buf;
     private int currentChunkStartIndex;
     private int currentChunkSize;
+    private List<Object> deferredParts;
 
     public ChunkAwareByteBufOutput()
     {
@@ -46,18 +56,53 @@ public class ChunkAwareByteBufOutput implements PackOutput
     }
 
     public void start( ByteBuf newBuf )
+    {
+        start( newBuf, false );
+    }
+
+    /**
+     * Start writing into the given buffer.
+     *
+     * @param newBuf the buffer to write into.
+     * @param deferIncrementalContent when {@code true}, content given to {@link #writeIncrementally(IncrementalContent)} is not written right away.
+     * Instead, the buffer written so far and the incremental content are set aside as deferred parts and writing continues in a new buffer
+     * from the same allocator. Deferred parts are available from {@link #takeDeferredParts()} after {@link #stop()}.
+     */
+    public void start( ByteBuf newBuf, boolean deferIncrementalContent )
     {
         assertNotStarted();
         buf = requireNonNull( newBuf );
+        deferredParts = deferIncrementalContent ? new ArrayList<>() : null;
         startNewChunk( 0 );
     }
 
-    public void stop()
+    /**
+     * Stop writing.
+     *
+     * @return the buffer that was being written, this is not the started buffer when incremental content was deferred.
+     */
+    public ByteBuf stop()
     {
-        writeChunkSizeHeader();
+        finishCurrentChunk();
+        ByteBuf lastBuf = buf;
         buf = null;
         currentChunkStartIndex = 0;
         currentChunkSize = 0;
+        return lastBuf;
+    }
+
+    /**
+     * Take the parts deferred since the last {@link #start(ByteBuf, boolean)}, in the order they have to be sent.
+     * Parts are either {@link ByteBuf buffers} or {@link IncrementalContent incremental content} that writes into this output.
+     * The buffer that was being written when this output was stopped comes after all deferred parts.
+     *
+     * @return deferred parts, empty when nothing was deferred.
+     */
+    public List<Object> takeDeferredParts()
+    {
+        List<Object> parts = deferredParts == null ? Collections.emptyList() : deferredParts;
+        deferredParts = null;
+        return parts;
     }
 
     @Override
@@ -89,6 +134,53 @@ public class ChunkAwareByteBufOutput implements PackOutput
         return this;
     }
 
+    @Override
+    public PackOutput writeUtf8( String value, int utf8Length )
+    {
+        if ( utf8Length <= availableBytesInCurrentChunk() )
+        {
+            writeUtf8InCurrentChunk( value, 0, value.length(), utf8Length );
+            return this;
+        }
+
+        int start = 0;
+        int length = value.length();
+        while ( start < length )
+        {
+            // Ensure there is an open chunk, and that it has at least one byte of space left
+            ensureCanFitInCurrentChunk( 1 );
+
+            // Find as many whole code points as fit into the current chunk
+            int available = availableBytesInCurrentChunk();
+            int end = start;
+            int segmentLength = 0;
+            while ( end < length )
+            {
+                int codePointLength = Utf8.codePointEncodedLength( value, end );
+                if ( segmentLength + codePointLength > available )
+                {
+                    break;
+                }
+                segmentLength += codePointLength;
+                end += Utf8.codePointCharCount( value, end );
+            }
+
+            if ( end == start )
+            {
+                // encoding of the next code point crosses the chunk boundary
+                int codePointEnd = start + Utf8.codePointCharCount( value, start );
+                writeBytes( value.substring( start, codePointEnd ).getBytes( StandardCharsets.UTF_8 ) );
+                start = codePointEnd;
+            }
+            else
+            {
+                writeUtf8InCurrentChunk( value, start, end, segmentLength );
+                start = end;
+            }
+        }
+        return this;
+    }
+
     @Override
     public PackOutput writeShort( short value )
     {
@@ -125,6 +217,42 @@ public class ChunkAwareByteBufOutput implements PackOutput
         return this;
     }
 
+    @Override
+    public PackOutput writeIncrementally( IncrementalContent content ) throws IOException
+    {
+        if ( deferredParts == null )
+        {
+            return PackOutput.super.writeIncrementally( content );
+        }
+
+        finishCurrentChunk();
+        deferredParts.add( buf );
+        deferredParts.add( content );
+        buf = buf.alloc().ioBuffer();
+        startNewChunk( 0 );
+        return this;
+    }
+
+    private void writeUtf8InCurrentChunk( String value, int start, int end, int utf8Length )
+    {
+        CharSequence sequence = start == 0 && end == value.length() ? value : CharBuffer.wrap( value, start, end );
+        if ( utf8Length == end - start )
+        {
+            // only ASCII characters, no need to encode
+            ByteBufUtil.writeAscii( buf, sequence );
+        }
+        else if ( Utf8.hasUnpairedSurrogate( value, start, end ) )
+        {
+            // the network library encodes unpaired surrogates differently than the computed length, use the JDK encoding instead
+            buf.writeBytes( sequence.toString().getBytes( StandardCharsets.UTF_8 ) );
+        }
+        else
+        {
+            ByteBufUtil.reserveAndWriteUtf8( buf, sequence, utf8Length );
+        }
+        currentChunkSize += utf8Length;
+    }
+
     private void ensureCanFitInCurrentChunk( int numberOfBytes )
     {
         int targetChunkSize = currentChunkSize + numberOfBytes;
@@ -142,6 +270,19 @@ public class ChunkAwareByteBufOutput implements PackOutput
         currentChunkSize = CHUNK_HEADER_SIZE_BYTES;
     }
 
+    private void finishCurrentChunk()
+    {
+        if ( currentChunkSize == CHUNK_HEADER_SIZE_BYTES )
+        {
+            // an empty chunk would be taken for a message boundary, drop it
+            buf.writerIndex( currentChunkStartIndex );
+        }
+        else
+        {
+            writeChunkSizeHeader();
+        }
+    }
+
     private void writeChunkSizeHeader()
     {
         // go to the beginning of the chunk and write the size header
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.codec.compression.Snappy;
+
+import java.util.List;
+
+/**
+ * Compresses outbound bytes into frames understood by {@link org.neo4j.driver.internal.async.inbound.CompressionDecoder}.
+ * <p>
+ * Every frame starts with a header of {@link #FRAME_HEADER_SIZE} bytes: the frame type followed by the length of the frame body. Buffers smaller than the
+ * minimum size are sent in a single {@link #RAW_FRAME} without copying. Larger buffers are split into blocks of at most {@link #MAX_BLOCK_SIZE} bytes,
+ * every block is sent in a {@link #SNAPPY_FRAME} unless compression does not make it smaller.
+ * <p>
+ * Servers do not understand these frames, the encoder is only meant for connections through a proxy that decompresses the traffic.
+ */
+public class CompressionEncoder extends MessageToMessageEncoder<ByteBuf>
+{
+    public static final String NAME = CompressionEncoder.class.getSimpleName();
+
+    public static final byte RAW_FRAME = 0;
+    public static final byte SNAPPY_FRAME = 1;
+    public static final int FRAME_HEADER_SIZE = 5;
+    // block offsets are kept in a table of shorts by the compressor
+    public static final int MAX_BLOCK_SIZE = Short.MAX_VALUE;
+
+    private final int minimumSize;
+    private final Snappy snappy = new Snappy();
+
+    /**
+     * @param minimumSize minimum size in bytes of a buffer to be compressed.
+     */
+    public CompressionEncoder( int minimumSize )
+    {
+        super( ByteBuf.class );
+        this.minimumSize = minimumSize;
+    }
+
+    @Override
+    protected void encode( ChannelHandlerContext ctx, ByteBuf msg, List<Object> out )
+    {
+        int length = msg.readableBytes();
+        if ( length == 0 )
+        {
+            return;
+        }
+        if ( length < minimumSize )
+        {
+            out.add( rawFrameHeader( ctx, length ) );
+            out.add( msg.retain() );
+            return;
+        }
+
+        ByteBuf frames = ctx.alloc().ioBuffer( length + FRAME_HEADER_SIZE * (length / MAX_BLOCK_SIZE + 1) );
+        try
+        {
+            while ( msg.isReadable() )
+            {
+                writeBlock( msg.readSlice( Math.min( msg.readableBytes(), MAX_BLOCK_SIZE ) ), frames );
+            }
+        }
+        catch ( Throwable error )
+        {
+            frames.release();
+            throw error;
+        }
+        out.add( frames );
+    }
+
+    private void writeBlock( ByteBuf block, ByteBuf frames )
+    {
+        int headerIndex = frames.writerIndex();
+        frames.writerIndex( headerIndex + FRAME_HEADER_SIZE );
+        int blockSize = block.readableBytes();
+        // snappy expects the input to start at index 0, a duplicate of the block would expose the indices of the whole message
+        snappy.encode( block.slice(), frames, blockSize );
+        snappy.reset();
+
+        int compressedSize = frames.writerIndex() - headerIndex - FRAME_HEADER_SIZE;
+        if ( compressedSize < blockSize )
+        {
+            frames.setByte( headerIndex, SNAPPY_FRAME );
+            frames.setInt( headerIndex + 1, compressedSize );
+        }
+        else
+        {
+            // block does not compress, send it as is
+            frames.writerIndex( headerIndex );
+            frames.writeByte( RAW_FRAME );
+            frames.writeInt( blockSize );
+            frames.writeBytes( block, block.readerIndex(), blockSize );
+        }
+    }
+
+    private static ByteBuf rawFrameHeader( ChannelHandlerContext ctx, int length )
+    {
+        ByteBuf header = ctx.alloc().ioBuffer( FRAME_HEADER_SIZE );
+        header.writeByte( RAW_FRAME );
+        header.writeInt( length );
+        return header;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import org.neo4j.driver.internal.metrics.MetricsListener;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
+
+/**
+ * Merges flushes issued during the same event loop iteration into a single flush. Writes of messages submitted to the event loop back to back, like
+ * pipelined RUN and PULL of many concurrent transactions, then reach the socket in one gathering write instead of one system call per message.
+ * <p>
+ * The first flush schedules a task on the event loop that performs the actual flush, subsequent flushes before that task runs are saved and reported
+ * to the {@link MetricsListener}. Pending flushes are performed before the channel is closed or disconnected and when it stops being writable.
+ */
+public class FlushConsolidationHandler extends ChannelDuplexHandler
+{
+    public static final String NAME = FlushConsolidationHandler.class.getSimpleName();
+
+    private final MetricsListener metricsListener;
+    private final Runnable flushTask = this::flushIfNeeded;
+
+    private ChannelHandlerContext ctx;
+    private int pendingFlushes;
+
+    public FlushConsolidationHandler( MetricsListener metricsListener )
+    {
+        this.metricsListener = metricsListener;
+    }
+
+    @Override
+    public void handlerAdded( ChannelHandlerContext ctx )
+    {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved( ChannelHandlerContext ctx )
+    {
+        flushIfNeeded();
+    }
+
+    @Override
+    public void flush( ChannelHandlerContext ctx )
+    {
+        if ( pendingFlushes++ == 0 )
+        {
+            ctx.executor().execute( flushTask );
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged( ChannelHandlerContext ctx )
+    {
+        if ( !ctx.channel().isWritable() )
+        {
+            flushIfNeeded();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void disconnect( ChannelHandlerContext ctx, ChannelPromise promise )
+    {
+        flushIfNeeded();
+        ctx.disconnect( promise );
+    }
+
+    @Override
+    public void close( ChannelHandlerContext ctx, ChannelPromise promise )
+    {
+        flushIfNeeded();
+        ctx.close( promise );
+    }
+
+    private void flushIfNeeded()
+    {
+        int flushes = pendingFlushes;
+        if ( flushes == 0 )
+        {
+            return;
+        }
+        pendingFlushes = 0;
+        ctx.flush();
+
+        String poolId = poolId( ctx.channel() );
+        if ( flushes > 1 && poolId != null )
+        {
+            metricsListener.afterFlushesConsolidated( poolId, flushes - 1 );
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.EncoderException;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.packstream.PackOutput.IncrementalContent;
+
+/**
+ * Outbound message that is encoded while it is being sent. It consists of already encoded buffers and
+ * {@link IncrementalContent incremental content}, which is encoded into segments of about {@link #SEGMENT_SIZE} bytes
+ * only when the channel is ready to accept more data. This keeps memory bounded for messages with very large parameters.
+ */
+class IncrementalMessageInput implements ChunkedInput<ByteBuf>
+{
+    static final int SEGMENT_SIZE = 64 * 1024;
+
+    private final Message message;
+    private final ChunkAwareByteBufOutput output;
+    private final Queue<Object> parts;
+    private long progress;
+
+    /**
+     * @param message the message being sent, used for error reporting.
+     * @param output the output the incremental content writes into.
+     * @param parts deferred parts of the message from {@link ChunkAwareByteBufOutput#takeDeferredParts()}, followed by the last buffer that ends with the message boundary.
+     */
+    IncrementalMessageInput( Message message, ChunkAwareByteBufOutput output, List<Object> parts )
+    {
+        this.message = message;
+        this.output = output;
+        this.parts = new ArrayDeque<>( parts );
+    }
+
+    @Override
+    public boolean isEndOfInput()
+    {
+        return parts.isEmpty();
+    }
+
+    @Override
+    public void close()
+    {
+        Object part;
+        while ( (part = parts.poll()) != null )
+        {
+            ReferenceCountUtil.release( part );
+        }
+    }
+
+    @Deprecated
+    @Override
+    public ByteBuf readChunk( ChannelHandlerContext ctx )
+    {
+        return readChunk( ctx.alloc() );
+    }
+
+    @Override
+    public ByteBuf readChunk( ByteBufAllocator allocator )
+    {
+        Object part = parts.peek();
+        if ( part == null )
+        {
+            return null;
+        }
+        if ( part instanceof ByteBuf )
+        {
+            parts.remove();
+            ByteBuf buf = (ByteBuf) part;
+            progress += buf.readableBytes();
+            return buf;
+        }
+
+        ByteBuf segment = allocator.ioBuffer( SEGMENT_SIZE );
+        output.start( segment );
+        try
+        {
+            IncrementalContent content = (IncrementalContent) part;
+            boolean hasMore = true;
+            while ( segment.readableBytes() < SEGMENT_SIZE && (hasMore = content.writeNext()) )
+            {
+                // keep encoding until the segment is full or the content is exhausted
+            }
+            output.stop();
+            if ( !hasMore )
+            {
+                parts.remove();
+            }
+        }
+        catch ( Throwable error )
+        {
+            output.stop();
+            segment.release();
+            // part of the message might already be sent, the write fails and the channel gets closed by the failure of the write promise
+            throw new EncoderException( "Failed to write outbound message: " + message, error );
+        }
+        progress += segment.readableBytes();
+        return segment;
+    }
+
+    @Override
+    public long length()
+    {
+        return -1;
+    }
+
+    @Override
+    public long progress()
+    {
+        return progress;
+    }
+}
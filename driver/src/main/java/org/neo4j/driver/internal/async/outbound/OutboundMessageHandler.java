@@ -19,10 +19,15 @@
 package org.neo4j.driver.internal.async.outbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.ReferenceCountUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
@@ -34,12 +39,27 @@ import org.neo4j.driver.Logging;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
 
+/**
+ * Encodes outbound messages into chunked buffers.
+ * <p>
+ * Buffer lifecycle: the encoded buffer is handed over to the transport which releases it once written, or when the write fails.
+ * Shared encoded messages are unreleasable duplicates owned by {@link SharedEncodedMessages}. Buffers of a message that fails to encode are
+ * released here because no other handler sees them.
+ */
 public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
 {
     public static final String NAME = OutboundMessageHandler.class.getSimpleName();
+    private static final int DEFAULT_MESSAGE_SIZE_ESTIMATE = 256;
+    private static final int MAX_MESSAGE_SIZE_ESTIMATE = 4 * 1024 * 1024;
+
     private final ChunkAwareByteBufOutput output;
     private final MessageFormat.Writer writer;
+    private final SharedEncodedMessages sharedEncodedMessages;
+    // running estimates of encoded message sizes, indexed by message signature
+    private final int[] messageSizeEstimates = new int[128];
     private final Logging logging;
+    // promise of the message being encoded, only set while encoding
+    private ChannelPromise writePromise;
 
     private Logger log;
 
@@ -47,6 +67,7 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
     {
         this.output = new ChunkAwareByteBufOutput();
         this.writer = messageFormat.newWriter( output );
+        this.sharedEncodedMessages = SharedEncodedMessages.forFormat( messageFormat );
         this.logging = logging;
     }
 
@@ -62,22 +83,59 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
         log = null;
     }
 
+    @Override
+    public void write( ChannelHandlerContext ctx, Object msg, ChannelPromise promise ) throws Exception
+    {
+        writePromise = promise;
+        try
+        {
+            super.write( ctx, msg, promise );
+        }
+        finally
+        {
+            writePromise = null;
+        }
+    }
+
     @Override
     protected void encode( ChannelHandlerContext ctx, Message msg, List<Object> out )
     {
         log.debug( "C: %s", msg );
 
-        ByteBuf messageBuf = ctx.alloc().ioBuffer();
-        output.start( messageBuf );
+        boolean shareable = sharedEncodedMessages != null && SharedEncodedMessages.isShareable( msg );
+        if ( shareable )
+        {
+            ByteBuf encoded = sharedEncodedMessages.get( msg );
+            if ( encoded != null )
+            {
+                if ( log.isTraceEnabled() )
+                {
+                    log.trace( "C: %s", hexDump( encoded, encoded.readerIndex(), encoded.readableBytes() - 2 ) );
+                }
+                out.add( encoded );
+                return;
+            }
+        }
+
+        int sizeIndex = msg.signature() & 0x7F;
+        int sizeEstimate = messageSizeEstimates[sizeIndex];
+        ByteBuf messageBuf = ctx.alloc().ioBuffer( sizeEstimate == 0 ? DEFAULT_MESSAGE_SIZE_ESTIMATE : sizeEstimate );
+        output.start( messageBuf, true );
+        List<Object> deferredParts;
         try
         {
             writer.write( msg );
-            output.stop();
+            messageBuf = output.stop();
+            deferredParts = output.takeDeferredParts();
         }
         catch ( Throwable error )
         {
-            output.stop();
-            // release buffer because it will not get added to the out list and no other handler is going to handle it
+            messageBuf = output.stop();
+            // release buffers because they will not get added to the out list and no other handler is going to handle them
+            for ( Object part : output.takeDeferredParts() )
+            {
+                ReferenceCountUtil.release( part );
+            }
             messageBuf.release();
             throw new EncoderException( "Failed to write outbound message: " + msg, error );
         }
@@ -88,6 +146,50 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
         }
 
         BoltProtocolUtil.writeMessageBoundary( messageBuf );
-        out.add( messageBuf );
+        messageSizeEstimates[sizeIndex] = nextSizeEstimate( sizeEstimate, messageBuf.readableBytes() );
+        if ( deferredParts.isEmpty() )
+        {
+            if ( shareable )
+            {
+                sharedEncodedMessages.put( msg, messageBuf );
+            }
+            out.add( messageBuf );
+        }
+        else
+        {
+            // message contains incremental content that is encoded while the message is being sent
+            ensureChunkedWriteHandler( ctx );
+            List<Object> parts = new ArrayList<>( deferredParts );
+            parts.add( messageBuf );
+            out.add( new IncrementalMessageInput( msg, output, parts ) );
+            // part of the message might already be sent when encoding fails, the connection can't be used anymore
+            // failures of void promises are fired as exceptions through the pipeline, which close the channel
+            if ( writePromise != null && !writePromise.isVoid() )
+            {
+                writePromise.addListener( ChannelFutureListener.CLOSE_ON_FAILURE );
+            }
+        }
+    }
+
+    /**
+     * Grow the estimate right away to fit the last message, so that the next one of similar size is encoded without reallocation,
+     * and shrink it slowly when messages get smaller.
+     */
+    private static int nextSizeEstimate( int estimate, int size )
+    {
+        if ( size >= estimate )
+        {
+            return Math.min( size, MAX_MESSAGE_SIZE_ESTIMATE );
+        }
+        return estimate - ((estimate - size) >> 3);
+    }
+
+    private static void ensureChunkedWriteHandler( ChannelHandlerContext ctx )
+    {
+        // added only when needed, it queues all writes until flush and is of no use for regular messages
+        if ( ctx.pipeline().get( ChunkedWriteHandler.class ) == null )
+        {
+            ctx.pipeline().addBefore( ctx.name(), ChunkedWriteHandler.class.getSimpleName(), new ChunkedWriteHandler() );
+        }
     }
 }
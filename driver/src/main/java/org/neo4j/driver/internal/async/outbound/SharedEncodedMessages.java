@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
+import org.neo4j.driver.internal.messaging.request.DiscardAllMessage;
+import org.neo4j.driver.internal.messaging.request.GoodbyeMessage;
+import org.neo4j.driver.internal.messaging.request.PullAllMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.messaging.request.RollbackMessage;
+
+/**
+ * Encoded constant messages, like PULL_ALL, COMMIT and RESET, shared by all connections that use the same {@link MessageFormat}.
+ * Every message is encoded once into a read-only buffer, connections write duplicates of that buffer instead of encoding the message again.
+ */
+final class SharedEncodedMessages
+{
+    private static final Set<Message> CONSTANT_MESSAGES = new HashSet<>( Arrays.asList(
+            PullAllMessage.PULL_ALL,
+            PullMessage.PULL_ALL,
+            DiscardAllMessage.DISCARD_ALL,
+            CommitMessage.COMMIT,
+            RollbackMessage.ROLLBACK,
+            ResetMessage.RESET,
+            GoodbyeMessage.GOODBYE ) );
+
+    private static final ClassValue<SharedEncodedMessages> BY_FORMAT = new ClassValue<SharedEncodedMessages>()
+    {
+        @Override
+        protected SharedEncodedMessages computeValue( Class<?> formatClass )
+        {
+            return new SharedEncodedMessages();
+        }
+    };
+
+    private final ConcurrentMap<Message,ByteBuf> encodedMessages = new ConcurrentHashMap<>();
+
+    private SharedEncodedMessages()
+    {
+    }
+
+    /**
+     * @return shared encoded messages of the given format, or {@code null} when the format does not allow sharing encoded messages.
+     */
+    static SharedEncodedMessages forFormat( MessageFormat messageFormat )
+    {
+        return messageFormat.hasStableEncoding() ? BY_FORMAT.get( messageFormat.getClass() ) : null;
+    }
+
+    static boolean isShareable( Message message )
+    {
+        return CONSTANT_MESSAGES.contains( message );
+    }
+
+    /**
+     * @return a duplicate of the encoded message that does not need to be released, or {@code null} when the message was not encoded yet.
+     */
+    ByteBuf get( Message message )
+    {
+        ByteBuf encoded = encodedMessages.get( message );
+        return encoded == null ? null : encoded.duplicate();
+    }
+
+    /**
+     * Remember the readable bytes of the given buffer as the encoding of the given shareable message. The buffer itself is not modified.
+     */
+    void put( Message message, ByteBuf messageBuf )
+    {
+        ByteBuf copy = Unpooled.directBuffer( messageBuf.readableBytes() );
+        copy.writeBytes( messageBuf, messageBuf.readerIndex(), messageBuf.readableBytes() );
+        if ( encodedMessages.putIfAbsent( message, Unpooled.unreleasableBuffer( copy.asReadOnly() ) ) != null )
+        {
+            copy.release();
+        }
+    }
+}
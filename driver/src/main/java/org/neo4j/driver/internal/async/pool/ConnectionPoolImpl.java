@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.async.pool;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.ScheduledFuture;
 
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -48,9 +49,16 @@ import org.neo4j.driver.internal.util.Futures;
 import static java.lang.String.format;
 import static org.neo4j.driver.internal.util.Futures.combineErrors;
 import static org.neo4j.driver.internal.util.Futures.completeWithNullIfNoError;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 
 public class ConnectionPoolImpl implements ConnectionPool
 {
+    /**
+     * When enabled, channels of every address are pooled by {@link NettyChannelPool} instead of {@link LockFreeChannelPool}.
+     */
+    private static final boolean NETTY_CHANNEL_POOL = Boolean.getBoolean( "nettyChannelPool" );
+    private static final long MIN_IDLE_CONNECTIONS_MAINTENANCE_INTERVAL = TimeUnit.SECONDS.toMillis( 1 );
+
     private final ChannelConnector connector;
     private final Bootstrap bootstrap;
     private final NettyChannelTracker nettyChannelTracker;
@@ -64,6 +72,8 @@ public class ConnectionPoolImpl implements ConnectionPool
     private final AtomicBoolean closed = new AtomicBoolean();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private final ConnectionFactory connectionFactory;
+    private final ScheduledFuture<?> minIdleConnectionsMaintenance;
+    private final ScheduledFuture<?> idleConnectionValidation;
 
     public ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, PoolSettings settings, MetricsListener metricsListener, Logging logging,
             Clock clock, boolean ownsEventLoopGroup )
@@ -84,6 +94,8 @@ public class ConnectionPoolImpl implements ConnectionPool
         this.log = logging.getLog( ConnectionPool.class.getSimpleName() );
         this.ownsEventLoopGroup = ownsEventLoopGroup;
         this.connectionFactory = connectionFactory;
+        this.minIdleConnectionsMaintenance = settings.minIdleConnectionsEnabled() ? scheduleMinIdleConnectionsMaintenance() : null;
+        this.idleConnectionValidation = settings.idleConnectionValidationEnabled() ? scheduleIdleConnectionValidation() : null;
     }
 
     @Override
@@ -140,6 +152,16 @@ public class ConnectionPoolImpl implements ConnectionPool
         }
     }
 
+    @Override
+    public CompletionStage<Void> warmUp( Set<BoltServerAddress> addresses )
+    {
+        if ( !settings.minIdleConnectionsEnabled() || closed.get() )
+        {
+            return completedWithNull();
+        }
+        return CompletableFuture.allOf( addresses.stream().map( address -> warmUp( address, getOrCreatePool( address ) ) ).toArray( CompletableFuture[]::new ) );
+    }
+
     @Override
     public int inUseConnections( BoltServerAddress address )
     {
@@ -157,6 +179,14 @@ public class ConnectionPoolImpl implements ConnectionPool
     {
         if ( closed.compareAndSet( false, true ) )
         {
+            if ( minIdleConnectionsMaintenance != null )
+            {
+                minIdleConnectionsMaintenance.cancel( false );
+            }
+            if ( idleConnectionValidation != null )
+            {
+                idleConnectionValidation.cancel( false );
+            }
             nettyChannelTracker.prepareToCloseChannels();
             CompletableFuture<Void> allPoolClosedFuture = closeAllPools();
 
@@ -196,7 +226,7 @@ public class ConnectionPoolImpl implements ConnectionPool
         {
             if ( cause instanceof TimeoutException )
             {
-                // NettyChannelPool returns future failed with TimeoutException if acquire operation takes more than
+                // channel pools return future failed with TimeoutException if acquire operation takes more than
                 // configured time, translate this exception to a prettier one and re-throw
                 metricsListener.afterTimedOutToAcquireOrCreate( pool.id() );
                 throw new ClientException(
@@ -245,6 +275,12 @@ public class ConnectionPoolImpl implements ConnectionPool
 
     ExtendedChannelPool newPool( BoltServerAddress address )
     {
+        if ( !NETTY_CHANNEL_POOL )
+        {
+            return new LockFreeChannelPool( address, connector, bootstrap, nettyChannelTracker, channelHealthChecker,
+                    settings.connectionAcquisitionTimeout(), settings.maxConnectionPoolSize(), LockFreeChannelPool.DEFAULT_MAX_PENDING_ACQUIRES,
+                    settings.minIdleConnections() );
+        }
         return new NettyChannelPool( address, connector, bootstrap, nettyChannelTracker, channelHealthChecker, settings.connectionAcquisitionTimeout(),
                 settings.maxConnectionPoolSize() );
     }
@@ -259,6 +295,41 @@ public class ConnectionPoolImpl implements ConnectionPool
         } );
     }
 
+    private ScheduledFuture<?> scheduleMinIdleConnectionsMaintenance()
+    {
+        // replace idle connections closed by servers or evicted by the health checker
+        return eventLoopGroup().scheduleWithFixedDelay( this::maintainMinIdleConnections, MIN_IDLE_CONNECTIONS_MAINTENANCE_INTERVAL,
+                MIN_IDLE_CONNECTIONS_MAINTENANCE_INTERVAL, TimeUnit.MILLISECONDS );
+    }
+
+    private ScheduledFuture<?> scheduleIdleConnectionValidation()
+    {
+        // ping idle connections from the event loop, so that acquisitions do not have to
+        long interval = settings.idleConnectionValidationInterval();
+        return eventLoopGroup().scheduleWithFixedDelay( this::validateIdleConnections, interval, interval, TimeUnit.MILLISECONDS );
+    }
+
+    private void validateIdleConnections()
+    {
+        pools.values().forEach( pool -> pool.validateIdleChannels( channelHealthChecker ) );
+    }
+
+    private void maintainMinIdleConnections()
+    {
+        pools.forEach( this::warmUp );
+    }
+
+    private CompletableFuture<Void> warmUp( BoltServerAddress address, ExtendedChannelPool pool )
+    {
+        return pool.warmUp().toCompletableFuture().whenComplete( ( ignored, error ) ->
+        {
+            if ( error != null )
+            {
+                log.debug( "Failed to open idle connections towards %s: %s", address, error );
+            }
+        } );
+    }
+
     private CompletionStage<Void> closePool( ExtendedChannelPool pool )
     {
         return pool.close().whenComplete( ( ignored, error ) ->
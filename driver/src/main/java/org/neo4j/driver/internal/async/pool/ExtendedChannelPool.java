@@ -33,4 +33,19 @@ public interface ExtendedChannelPool
     String id();
 
     CompletionStage<Void> close();
+
+    /**
+     * Open new idle channels until the configured minimum amount of idle channels is reached.
+     *
+     * @return stage completed when all opened channels are established.
+     */
+    CompletionStage<Void> warmUp();
+
+    /**
+     * Validate idle channels that are due for validation, unhealthy channels are closed.
+     *
+     * @param validator the validator deciding which channels to validate and validating them.
+     * @return stage completed when all validations are done.
+     */
+    CompletionStage<Void> validateIdleChannels( NettyChannelHealthChecker validator );
 }
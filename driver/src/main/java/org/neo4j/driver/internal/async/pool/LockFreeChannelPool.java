@@ -0,0 +1,584 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.ChannelConnector;
+import org.neo4j.driver.internal.metrics.ListenerEvent;
+
+import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
+import static org.neo4j.driver.internal.util.Futures.asCompletionStage;
+import static org.neo4j.driver.internal.util.Futures.completeWithNullIfNoError;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
+
+/**
+ * Channel pool that serves acquisitions on the calling thread whenever an idle channel is available.
+ * <p>
+ * Idle channels are kept in a lock-free stack, the most recently released channel is acquired first. The number of acquired channels, including
+ * channels that are being created, is limited by a counter updated with compare-and-set. Acquisitions above the limit wait in a bounded queue,
+ * they are served in order by releases or fail with a {@link TimeoutException} after the acquisition timeout.
+ * <p>
+ * Unlike {@link NettyChannelPool}, operations are not funneled through a single event loop. Only the creation of channels and liveness checks of
+ * channels that have been idle for too long complete on an event loop.
+ * <p>
+ * Acquisitions made from one of the event loops of the pool prefer channels registered on that same event loop. An idle channel of the calling
+ * event loop is taken even when it is not on top of the stack and new channels are registered on the calling event loop. This keeps async
+ * pipelines on a single thread, so that writes do not have to be submitted to the event loop of another channel. Idle channels of other event
+ * loops are still handed out rather than creating a new connection.
+ * <p>
+ * A minimum amount of idle channels can be kept open by {@link #warmUp() warming up} the pool. Warm-up channels take a slot while they are being
+ * created and join the bottom of the idle stack once established. Idle channels hold no slot, warm-up counts them against the maximum so that
+ * it never opens more channels than allowed.
+ * <p>
+ * Idle channels can be {@link #validateIdleChannels(NettyChannelHealthChecker) validated} in the background. Channels under validation are
+ * taken off the idle stack, so that acquisitions never wait for a validation, and hold a slot until validated, so that the pool never exceeds
+ * its maximum. Healthy channels return to the bottom of the stack.
+ */
+public class LockFreeChannelPool implements ExtendedChannelPool
+{
+    /**
+     * Unlimited amount of parties are allowed to wait for channels by default.
+     */
+    static final int DEFAULT_MAX_PENDING_ACQUIRES = Integer.MAX_VALUE;
+
+    private static final AttributeKey<LockFreeChannelPool> ACQUIRED_FROM = AttributeKey.newInstance( "acquiredFromLockFreeChannelPool" );
+    private static final String POOL_CLOSED_MESSAGE = "Pool closed";
+
+    private final BoltServerAddress address;
+    private final ChannelConnector connector;
+    private final Bootstrap bootstrap;
+    private final NettyChannelTracker handler;
+    private final ChannelHealthChecker healthChecker;
+    private final long acquireTimeoutMillis;
+    private final int maxConnections;
+    private final int maxPendingAcquires;
+    private final int minIdleConnections;
+    private final String id;
+
+    private final Deque<Channel> idleChannels = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger acquiredCount = new AtomicInteger();
+    private final Queue<PendingAcquire> pendingAcquires = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingAcquireCount = new AtomicInteger();
+    private final AtomicInteger warmingUpCount = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+    LockFreeChannelPool( BoltServerAddress address, ChannelConnector connector, Bootstrap bootstrap, NettyChannelTracker handler,
+            ChannelHealthChecker healthChecker, long acquireTimeoutMillis, int maxConnections )
+    {
+        this( address, connector, bootstrap, handler, healthChecker, acquireTimeoutMillis, maxConnections, DEFAULT_MAX_PENDING_ACQUIRES, 0 );
+    }
+
+    LockFreeChannelPool( BoltServerAddress address, ChannelConnector connector, Bootstrap bootstrap, NettyChannelTracker handler,
+            ChannelHealthChecker healthChecker, long acquireTimeoutMillis, int maxConnections, int maxPendingAcquires )
+    {
+        this( address, connector, bootstrap, handler, healthChecker, acquireTimeoutMillis, maxConnections, maxPendingAcquires, 0 );
+    }
+
+    LockFreeChannelPool( BoltServerAddress address, ChannelConnector connector, Bootstrap bootstrap, NettyChannelTracker handler,
+            ChannelHealthChecker healthChecker, long acquireTimeoutMillis, int maxConnections, int maxPendingAcquires, int minIdleConnections )
+    {
+        this.address = requireNonNull( address );
+        this.connector = requireNonNull( connector );
+        this.bootstrap = requireNonNull( bootstrap );
+        this.handler = requireNonNull( handler );
+        this.healthChecker = requireNonNull( healthChecker );
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.maxConnections = maxConnections;
+        this.maxPendingAcquires = maxPendingAcquires;
+        this.minIdleConnections = minIdleConnections;
+        this.id = String.format( "%s:%d-%d", address.host(), address.port(), this.hashCode() );
+    }
+
+    @Override
+    public CompletionStage<Channel> acquire()
+    {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        if ( closed.get() )
+        {
+            result.completeExceptionally( new IllegalStateException( POOL_CLOSED_MESSAGE ) );
+        }
+        else if ( tryReserve() )
+        {
+            acquireReserved( result, currentEventLoop() );
+        }
+        else
+        {
+            enqueue( result, currentEventLoop() );
+        }
+        return result;
+    }
+
+    @Override
+    public CompletionStage<Void> release( Channel channel )
+    {
+        if ( channel.attr( ACQUIRED_FROM ).getAndSet( null ) != this )
+        {
+            channel.close();
+            return failedFuture( new IllegalArgumentException( "Channel " + channel + " was not acquired from this pool" ) );
+        }
+
+        handler.channelReleased( channel );
+        if ( closed.get() )
+        {
+            channel.close();
+            acquiredCount.decrementAndGet();
+            return failedFuture( new IllegalStateException( POOL_CLOSED_MESSAGE ) );
+        }
+
+        if ( channel.isActive() )
+        {
+            idleChannels.offerFirst( channel );
+            if ( closed.get() && idleChannels.remove( channel ) )
+            {
+                // pool was closed concurrently and did not see this channel
+                channel.close();
+            }
+        }
+        // the idle channel is pushed before the slot is freed, so that a pending acquisition served next can take it
+        releaseSlot();
+        return completedWithNull();
+    }
+
+    @Override
+    public boolean isClosed()
+    {
+        return closed.get();
+    }
+
+    @Override
+    public String id()
+    {
+        return id;
+    }
+
+    @Override
+    public CompletionStage<Void> close()
+    {
+        if ( closed.compareAndSet( false, true ) )
+        {
+            failPendingAcquires();
+            List<CompletableFuture<Void>> channelCloseFutures = new ArrayList<>();
+            Channel channel;
+            while ( (channel = idleChannels.pollFirst()) != null )
+            {
+                channelCloseFutures.add( asCompletionStage( channel.close() ).toCompletableFuture() );
+            }
+            CompletableFuture.allOf( channelCloseFutures.toArray( new CompletableFuture[0] ) )
+                    .whenComplete( ( ignore, error ) -> completeWithNullIfNoError( closeFuture, error ) );
+        }
+        return closeFuture;
+    }
+
+    @Override
+    public CompletionStage<Void> warmUp()
+    {
+        closeInactiveIdleChannels();
+        List<CompletableFuture<Void>> warmUpFutures = new ArrayList<>();
+        for ( ; ; )
+        {
+            // count this warm-up before checking the amount of idle channels, concurrent warm-ups then never open too many channels
+            int warmingUp = warmingUpCount.incrementAndGet();
+            if ( closed.get() || idleChannels.size() + warmingUp > minIdleConnections || !tryReserveCountingIdle() )
+            {
+                warmingUpCount.decrementAndGet();
+                break;
+            }
+            warmUpFutures.add( createIdleChannel() );
+        }
+        return CompletableFuture.allOf( warmUpFutures.toArray( new CompletableFuture[0] ) );
+    }
+
+    @Override
+    public CompletionStage<Void> validateIdleChannels( NettyChannelHealthChecker validator )
+    {
+        List<CompletableFuture<Void>> validationFutures = new ArrayList<>();
+        for ( Channel channel : idleChannels )
+        {
+            // a channel under validation holds a slot, like an acquired one, channels are skipped when all slots are taken
+            if ( validator.needsValidation( channel ) && tryReserve() )
+            {
+                if ( idleChannels.removeFirstOccurrence( channel ) )
+                {
+                    validationFutures.add( validate( channel, validator ) );
+                }
+                else
+                {
+                    // channel was acquired concurrently
+                    releaseSlot();
+                }
+            }
+        }
+        return CompletableFuture.allOf( validationFutures.toArray( new CompletableFuture[0] ) );
+    }
+
+    private boolean tryReserve()
+    {
+        for ( ; ; )
+        {
+            int count = acquiredCount.get();
+            if ( count >= maxConnections )
+            {
+                return false;
+            }
+            if ( acquiredCount.compareAndSet( count, count + 1 ) )
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserve a slot when in-use and idle channels together stay below the maximum. The slot count is read before the idle channels, channels
+     * are pushed to the idle stack before their slot is freed and taken off it after a slot is reserved, so the sum is never under-counted.
+     */
+    private boolean tryReserveCountingIdle()
+    {
+        for ( ; ; )
+        {
+            int count = acquiredCount.get();
+            if ( count + idleChannels.size() >= maxConnections )
+            {
+                return false;
+            }
+            if ( acquiredCount.compareAndSet( count, count + 1 ) )
+            {
+                return true;
+            }
+        }
+    }
+
+    private void releaseSlot()
+    {
+        acquiredCount.decrementAndGet();
+        servePendingAcquires();
+    }
+
+    /**
+     * Acquire a channel for an acquisition that holds a slot. Healthy idle channels are handed out on the calling thread, a new channel is created
+     * when there are none.
+     *
+     * @param eventLoop the event loop the acquisition was made from or {@code null} when made from any other thread.
+     */
+    private void acquireReserved( CompletableFuture<Channel> result, EventLoop eventLoop )
+    {
+        Channel channel;
+        while ( (channel = pollIdleChannel( eventLoop )) != null )
+        {
+            Future<Boolean> healthy = healthChecker.isHealthy( channel );
+            if ( !healthy.isDone() )
+            {
+                Channel checkedChannel = channel;
+                healthy.addListener( ignore ->
+                {
+                    if ( isHealthy( healthy ) )
+                    {
+                        acquired( checkedChannel, result );
+                    }
+                    else
+                    {
+                        checkedChannel.close();
+                        acquireReserved( result, eventLoop );
+                    }
+                } );
+                return;
+            }
+            if ( isHealthy( healthy ) )
+            {
+                acquired( channel, result );
+                return;
+            }
+            channel.close();
+        }
+        createChannel( result, eventLoop );
+    }
+
+    private Channel pollIdleChannel( EventLoop eventLoop )
+    {
+        if ( eventLoop != null )
+        {
+            for ( Channel channel : idleChannels )
+            {
+                if ( channel.eventLoop() == eventLoop && idleChannels.removeFirstOccurrence( channel ) )
+                {
+                    return channel;
+                }
+            }
+        }
+        return idleChannels.pollFirst();
+    }
+
+    private void createChannel( CompletableFuture<Channel> result, EventLoop eventLoop )
+    {
+        newChannel( eventLoop ).whenComplete( ( channel, error ) ->
+        {
+            if ( error == null )
+            {
+                acquired( channel, result );
+            }
+            else
+            {
+                releaseSlot();
+                result.completeExceptionally( error );
+            }
+        } );
+    }
+
+    private CompletableFuture<Void> createIdleChannel()
+    {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        newChannel( null ).whenComplete( ( channel, error ) ->
+        {
+            if ( error == null )
+            {
+                handler.channelCreatedIdle( channel );
+                idleChannels.offerLast( channel );
+                if ( closed.get() && idleChannels.remove( channel ) )
+                {
+                    // pool was closed concurrently and did not see this channel
+                    channel.close();
+                }
+            }
+            warmingUpCount.decrementAndGet();
+            releaseSlot();
+            completeWithNullIfNoError( result, error );
+        } );
+        return result;
+    }
+
+    private CompletableFuture<Channel> newChannel( EventLoop eventLoop )
+    {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        ListenerEvent creatingEvent = handler.channelCreating( id );
+        Bootstrap channelBootstrap = eventLoop == null ? bootstrap.clone() : bootstrap.clone( eventLoop );
+        ChannelFuture channelFuture = connector.connect( address, channelBootstrap );
+        channelFuture.addListener( future ->
+        {
+            if ( future.isSuccess() )
+            {
+                // notify pool handler about a successful connection
+                Channel channel = channelFuture.channel();
+                setPoolId( channel, id );
+                handler.channelCreated( channel, creatingEvent );
+                result.complete( channel );
+            }
+            else
+            {
+                handler.channelFailedToCreate( id );
+                result.completeExceptionally( future.cause() );
+            }
+        } );
+        return result;
+    }
+
+    private CompletableFuture<Void> validate( Channel channel, NettyChannelHealthChecker validator )
+    {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Future<Boolean> healthy = validator.validate( channel );
+        healthy.addListener( ignore ->
+        {
+            if ( isHealthy( healthy ) && !closed.get() )
+            {
+                idleChannels.offerLast( channel );
+                if ( closed.get() && idleChannels.remove( channel ) )
+                {
+                    // pool was closed concurrently and did not see this channel
+                    channel.close();
+                }
+            }
+            else
+            {
+                channel.close();
+            }
+            // the healthy channel is pushed before the slot is freed, so that a pending acquisition served next can take it
+            releaseSlot();
+            result.complete( null );
+        } );
+        return result;
+    }
+
+    private void closeInactiveIdleChannels()
+    {
+        for ( Channel channel : idleChannels )
+        {
+            if ( !channel.isActive() && idleChannels.removeFirstOccurrence( channel ) )
+            {
+                channel.close();
+            }
+        }
+    }
+
+    private void acquired( Channel channel, CompletableFuture<Channel> result )
+    {
+        channel.attr( ACQUIRED_FROM ).set( this );
+        handler.channelAcquired( channel );
+        if ( closed.get() )
+        {
+            release( channel );
+            result.completeExceptionally( new IllegalStateException( POOL_CLOSED_MESSAGE ) );
+        }
+        else if ( !result.complete( channel ) )
+        {
+            // acquisition timed out while the channel was being checked or created
+            release( channel );
+        }
+    }
+
+    private void enqueue( CompletableFuture<Channel> result, EventLoop eventLoop )
+    {
+        if ( pendingAcquireCount.incrementAndGet() > maxPendingAcquires )
+        {
+            pendingAcquireCount.decrementAndGet();
+            result.completeExceptionally( new IllegalStateException( "Too many outstanding acquire operations" ) );
+            return;
+        }
+
+        PendingAcquire pendingAcquire = new PendingAcquire( result, eventLoop );
+        if ( acquireTimeoutMillis >= 0 )
+        {
+            pendingAcquire.timeoutTask = bootstrap.config().group().next().schedule( () -> timeout( pendingAcquire ), acquireTimeoutMillis,
+                    TimeUnit.MILLISECONDS );
+        }
+        pendingAcquires.offer( pendingAcquire );
+
+        // a slot might have been freed after the failed reservation and before this acquisition became visible in the queue
+        servePendingAcquires();
+        if ( closed.get() )
+        {
+            failPendingAcquires();
+        }
+    }
+
+    private void servePendingAcquires()
+    {
+        while ( !pendingAcquires.isEmpty() && tryReserve() )
+        {
+            PendingAcquire pendingAcquire = pendingAcquires.poll();
+            if ( pendingAcquire != null && pendingAcquire.start() )
+            {
+                pendingAcquireCount.decrementAndGet();
+                acquireReserved( pendingAcquire.result, pendingAcquire.eventLoop );
+            }
+            else
+            {
+                // queue was drained concurrently or the acquisition timed out
+                acquiredCount.decrementAndGet();
+            }
+        }
+    }
+
+    private void timeout( PendingAcquire pendingAcquire )
+    {
+        if ( pendingAcquire.start() )
+        {
+            pendingAcquires.remove( pendingAcquire );
+            pendingAcquireCount.decrementAndGet();
+            pendingAcquire.result.completeExceptionally( new TimeoutException( "Acquire operation took longer then configured maximum time" ) );
+        }
+    }
+
+    private void failPendingAcquires()
+    {
+        PendingAcquire pendingAcquire;
+        while ( (pendingAcquire = pendingAcquires.poll()) != null )
+        {
+            if ( pendingAcquire.start() )
+            {
+                pendingAcquireCount.decrementAndGet();
+                pendingAcquire.result.completeExceptionally( new IllegalStateException( POOL_CLOSED_MESSAGE ) );
+            }
+        }
+    }
+
+    /**
+     * @return the event loop of this pool the calling thread belongs to or {@code null} when called from any other thread.
+     */
+    private EventLoop currentEventLoop()
+    {
+        for ( EventExecutor executor : bootstrap.config().group() )
+        {
+            if ( executor.inEventLoop() )
+            {
+                return executor instanceof EventLoop ? (EventLoop) executor : null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isHealthy( Future<Boolean> healthy )
+    {
+        return healthy.isSuccess() && Boolean.TRUE.equals( healthy.getNow() );
+    }
+
+    private static class PendingAcquire
+    {
+        final CompletableFuture<Channel> result;
+        final EventLoop eventLoop;
+        final AtomicBoolean started = new AtomicBoolean();
+        volatile ScheduledFuture<?> timeoutTask;
+
+        PendingAcquire( CompletableFuture<Channel> result, EventLoop eventLoop )
+        {
+            this.result = result;
+            this.eventLoop = eventLoop;
+        }
+
+        /**
+         * @return {@code true} when the caller is the only one to serve, time out or fail this acquisition.
+         */
+        boolean start()
+        {
+            if ( !started.compareAndSet( false, true ) )
+            {
+                return false;
+            }
+            ScheduledFuture<?> task = timeoutTask;
+            if ( task != null )
+            {
+                task.cancel( false );
+            }
+            return true;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.neo4j.driver.Logging;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.creationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastUsedTimestamp;
 
 public class NettyChannelHealthChecker implements ChannelHealthChecker
 {
@@ -60,6 +61,38 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker
         return ACTIVE.isHealthy( channel );
     }
 
+    /**
+     * Check if an idle channel is due for {@link #validate(Channel) validation} in the background.
+     *
+     * @param channel the idle channel.
+     * @return {@code true} when the channel has been idle for at least the configured validation interval, {@code false} otherwise.
+     */
+    public boolean needsValidation( Channel channel )
+    {
+        if ( poolSettings.idleConnectionValidationEnabled() )
+        {
+            Long lastUsedTimestamp = lastUsedTimestamp( channel );
+            return lastUsedTimestamp == null || clock.millis() - lastUsedTimestamp >= poolSettings.idleConnectionValidationInterval();
+        }
+        return false;
+    }
+
+    /**
+     * Validate an idle channel outside of the acquisition path. Channels that are closed or too old are reported unhealthy right away, all other
+     * channels are pinged. A successful ping counts as usage of the channel, so that its next acquisition does not ping it again.
+     *
+     * @param channel the idle channel, it should not be handed out while being validated.
+     * @return future completed with {@code true} when the channel can stay in the pool.
+     */
+    public Future<Boolean> validate( Channel channel )
+    {
+        if ( !channel.isActive() || isTooOld( channel ) )
+        {
+            return channel.eventLoop().newSucceededFuture( Boolean.FALSE );
+        }
+        return ping( channel );
+    }
+
     private boolean isTooOld( Channel channel )
     {
         if ( poolSettings.maxConnectionLifetimeEnabled() )
@@ -106,6 +139,13 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker
     private Future<Boolean> ping( Channel channel )
     {
         Promise<Boolean> result = channel.eventLoop().newPromise();
+        result.addListener( ignore ->
+        {
+            if ( Boolean.TRUE.equals( result.getNow() ) )
+            {
+                setLastUsedTimestamp( channel, clock.millis() );
+            }
+        } );
         messageDispatcher( channel ).enqueue( new PingResponseHandler( result, channel, log ) );
         channel.writeAndFlush( ResetMessage.RESET, channel.voidPromise() );
         return result;
@@ -35,6 +35,7 @@ import org.neo4j.driver.internal.metrics.ListenerEvent;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
 import static org.neo4j.driver.internal.util.Futures.asCompletionStage;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 
 public class NettyChannelPool implements ExtendedChannelPool
 {
@@ -85,6 +86,20 @@ public class NettyChannelPool implements ExtendedChannelPool
         };
     }
 
+    @Override
+    public CompletionStage<Void> warmUp()
+    {
+        // this pool is kept for comparison, it does not open channels ahead of time
+        return completedWithNull();
+    }
+
+    @Override
+    public CompletionStage<Void> validateIdleChannels( NettyChannelHealthChecker validator )
+    {
+        // idle channels of this pool are only validated when acquired
+        return completedWithNull();
+    }
+
     @Override
     public CompletionStage<Void> close()
     {
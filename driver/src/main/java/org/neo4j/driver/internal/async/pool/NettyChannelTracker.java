@@ -25,11 +25,9 @@ import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.util.concurrent.EventExecutor;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
@@ -41,13 +39,15 @@ import org.neo4j.driver.internal.metrics.MetricsListener;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serverAddress;
 
+/**
+ * Tracks channels of all pools and counts in-use and idle channels per address.
+ * <p>
+ * Counts are kept in a counter object per address, updated without locks. In-use and idle counts of an address are updated one after the other,
+ * a concurrent reader can observe a channel that is being acquired or released in neither or both of the counts.
+ */
 public class NettyChannelTracker implements ChannelPoolHandler
 {
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Lock read = lock.readLock();
-    private final Lock write = lock.writeLock();
-    private final Map<BoltServerAddress,Integer> addressToInUseChannelCount = new HashMap<>();
-    private final Map<BoltServerAddress,Integer> addressToIdleChannelCount = new HashMap<>();
+    private final ConcurrentMap<BoltServerAddress,ChannelCounts> addressToChannelCounts = new ConcurrentHashMap<>();
     private final Logger log;
     private final MetricsListener metricsListener;
     private final ChannelFutureListener closeListener = future -> channelClosed( future.channel() );
@@ -65,40 +65,12 @@ public class NettyChannelTracker implements ChannelPoolHandler
         this.allChannels = channels;
     }
 
-    private void doInWriteLock( Runnable work )
-    {
-        try
-        {
-            write.lock();
-            work.run();
-        }
-        finally
-        {
-            write.unlock();
-        }
-    }
-
-    private <T> T retrieveInReadLock( Supplier<T> work )
-    {
-        try
-        {
-            read.lock();
-            return work.get();
-        }
-        finally
-        {
-            read.unlock();
-        }
-    }
-
     @Override
     public void channelReleased( Channel channel )
     {
-        doInWriteLock( () ->
-        {
-            decrementInUse( channel );
-            incrementIdle( channel );
-        } );
+        ChannelCounts counts = existingCounts( channel );
+        counts.inUse.decrementAndGet();
+        counts.idle.incrementAndGet();
 
         channel.closeFuture().addListener( closeListener );
         log.debug( "Channel [0x%s] released back to the pool", channel.id() );
@@ -107,11 +79,9 @@ public class NettyChannelTracker implements ChannelPoolHandler
     @Override
     public void channelAcquired( Channel channel )
     {
-        doInWriteLock( () ->
-        {
-            incrementInUse( channel );
-            decrementIdle( channel );
-        } );
+        ChannelCounts counts = existingCounts( channel );
+        counts.inUse.incrementAndGet();
+        counts.idle.decrementAndGet();
 
         channel.closeFuture().removeListener( closeListener );
         log.debug( "Channel [0x%s] acquired from the pool. Local address: %s, remote address: %s", channel.id(), channel.localAddress(),
@@ -127,13 +97,22 @@ public class NettyChannelTracker implements ChannelPoolHandler
     public void channelCreated( Channel channel, ListenerEvent creatingEvent )
     {
         // when it is created, we count it as idle as it has not been acquired out of the pool
-        doInWriteLock( () -> incrementIdle( channel ) );
+        counts( channel ).idle.incrementAndGet();
 
         metricsListener.afterCreated( poolId( channel ), creatingEvent );
         allChannels.add( channel );
         log.debug( "Channel [0x%s] created. Local address: %s, remote address: %s", channel.id(), channel.localAddress(), channel.remoteAddress() );
     }
 
+    /**
+     * Track a created channel that joins the idle channels of a pool without being acquired and released first, like channels opened by
+     * warm-up. Its idle count is dropped when it closes.
+     */
+    public void channelCreatedIdle( Channel channel )
+    {
+        channel.closeFuture().addListener( closeListener );
+    }
+
     public ListenerEvent channelCreating( String poolId )
     {
         ListenerEvent creatingEvent = metricsListener.createListenerEvent();
@@ -148,18 +127,20 @@ public class NettyChannelTracker implements ChannelPoolHandler
 
     public void channelClosed( Channel channel )
     {
-        doInWriteLock( () -> decrementIdle( channel ) );
+        existingCounts( channel ).idle.decrementAndGet();
         metricsListener.afterClosed( poolId( channel ) );
     }
 
     public int inUseChannelCount( BoltServerAddress address )
     {
-        return retrieveInReadLock( () -> addressToInUseChannelCount.getOrDefault( address, 0 ) );
+        ChannelCounts counts = addressToChannelCounts.get( address );
+        return counts == null ? 0 : counts.inUse.get();
     }
 
     public int idleChannelCount( BoltServerAddress address )
     {
-        return retrieveInReadLock( () -> addressToIdleChannelCount.getOrDefault( address, 0 ) );
+        ChannelCounts counts = addressToChannelCounts.get( address );
+        return counts == null ? 0 : counts.idle.get();
     }
 
     public void prepareToCloseChannels()
@@ -181,41 +162,28 @@ public class NettyChannelTracker implements ChannelPoolHandler
         }
     }
 
-    private void incrementInUse( Channel channel )
-    {
-        increment( channel, addressToInUseChannelCount );
-    }
-
-    private void decrementInUse( Channel channel )
-    {
-        decrement( channel, addressToInUseChannelCount );
-    }
-
-    private void incrementIdle( Channel channel )
-    {
-        increment( channel, addressToIdleChannelCount );
-    }
-
-    private void decrementIdle( Channel channel )
-    {
-        decrement( channel, addressToIdleChannelCount );
-    }
-
-    private void increment( Channel channel, Map<BoltServerAddress,Integer> countMap )
+    private ChannelCounts counts( Channel channel )
     {
         BoltServerAddress address = serverAddress( channel );
-        Integer count = countMap.computeIfAbsent( address, k -> 0 );
-        countMap.put( address, count + 1 );
+        ChannelCounts counts = addressToChannelCounts.get( address );
+        return counts != null ? counts : addressToChannelCounts.computeIfAbsent( address, ignore -> new ChannelCounts() );
     }
 
-    private void decrement( Channel channel, Map<BoltServerAddress,Integer> countMap )
+    private ChannelCounts existingCounts( Channel channel )
     {
         BoltServerAddress address = serverAddress( channel );
-        if ( !countMap.containsKey( address ) )
+        ChannelCounts counts = addressToChannelCounts.get( address );
+        if ( counts == null )
         {
             throw new IllegalStateException( "No count exist for address '" + address + "'" );
         }
-        Integer count = countMap.get( address );
-        countMap.put( address, count - 1 );
+        return counts;
+    }
+
+    private static class ChannelCounts
+    {
+        // updated together by the thread that acquires, releases or closes a channel, padding them apart would not help
+        final AtomicInteger inUse = new AtomicInteger();
+        final AtomicInteger idle = new AtomicInteger();
     }
 }
@@ -25,19 +25,32 @@ public class PoolSettings
     public static final int NOT_CONFIGURED = -1;
 
     public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = 100;
+    public static final int DEFAULT_MIN_IDLE_CONNECTIONS = 0;
     public static final long DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST = NOT_CONFIGURED;
     public static final long DEFAULT_MAX_CONNECTION_LIFETIME = TimeUnit.HOURS.toMillis( 1 );
     public static final long DEFAULT_CONNECTION_ACQUISITION_TIMEOUT = TimeUnit.SECONDS.toMillis( 60 );
+    public static final long DEFAULT_IDLE_CONNECTION_VALIDATION_INTERVAL = NOT_CONFIGURED;
 
     private final int maxConnectionPoolSize;
     private final long connectionAcquisitionTimeout;
     private final long maxConnectionLifetime;
     private final long idleTimeBeforeConnectionTest;
+    private final int minIdleConnections;
+    private final long idleConnectionValidationInterval;
 
     public PoolSettings( int maxConnectionPoolSize, long connectionAcquisitionTimeout,
             long maxConnectionLifetime, long idleTimeBeforeConnectionTest )
+    {
+        this( maxConnectionPoolSize, connectionAcquisitionTimeout, maxConnectionLifetime, idleTimeBeforeConnectionTest, DEFAULT_MIN_IDLE_CONNECTIONS,
+                DEFAULT_IDLE_CONNECTION_VALIDATION_INTERVAL );
+    }
+
+    public PoolSettings( int maxConnectionPoolSize, long connectionAcquisitionTimeout,
+            long maxConnectionLifetime, long idleTimeBeforeConnectionTest, int minIdleConnections, long idleConnectionValidationInterval )
     {
         this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.minIdleConnections = minIdleConnections;
+        this.idleConnectionValidationInterval = idleConnectionValidationInterval;
         this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
         this.maxConnectionLifetime = maxConnectionLifetime;
         this.idleTimeBeforeConnectionTest = idleTimeBeforeConnectionTest;
@@ -68,6 +81,26 @@ public class PoolSettings
         return maxConnectionPoolSize;
     }
 
+    public int minIdleConnections()
+    {
+        return minIdleConnections;
+    }
+
+    public boolean minIdleConnectionsEnabled()
+    {
+        return minIdleConnections > 0;
+    }
+
+    public long idleConnectionValidationInterval()
+    {
+        return idleConnectionValidationInterval;
+    }
+
+    public boolean idleConnectionValidationEnabled()
+    {
+        return idleConnectionValidationInterval > 0;
+    }
+
     public long connectionAcquisitionTimeout()
     {
         return connectionAcquisitionTimeout;
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -112,6 +114,8 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
             routingTable.update( composition );
             routingTableRegistry.removeAged();
             connectionPool.retainAll( routingTableRegistry.allServers() );
+            // open connections towards new readers and writers in the background, before the first queries need them
+            connectionPool.warmUp( readersAndWriters() );
 
             log.debug( "Updated routing table for database '%s'. %s", databaseName.description(), routingTable );
 
@@ -125,6 +129,14 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
         }
     }
 
+    private Set<BoltServerAddress> readersAndWriters()
+    {
+        Set<BoltServerAddress> servers = new HashSet<>();
+        Collections.addAll( servers, routingTable.readers().toArray() );
+        Collections.addAll( servers, routingTable.writers().toArray() );
+        return servers;
+    }
+
     private synchronized void clusterCompositionLookupFailed( Throwable error )
     {
         log.error( String.format( "Failed to update routing table for database '%s'. Current routing table: %s.", databaseName.description(), routingTable ), error );
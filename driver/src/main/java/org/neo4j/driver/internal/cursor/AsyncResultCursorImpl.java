@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.cursor;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -29,6 +30,7 @@ import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.internal.util.RecordProjection;
 import org.neo4j.driver.summary.ResultSummary;
 
 public class AsyncResultCursorImpl implements AsyncResultCursor
@@ -45,7 +47,15 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
     @Override
     public List<String> keys()
     {
-        return runHandler.queryKeys().keys();
+        RecordProjection projection = runHandler.projection();
+        return projection == null ? runHandler.queryKeys().keys() : projection.keys().keys();
+    }
+
+    @Override
+    public AsyncResultCursor project( String... keys )
+    {
+        runHandler.project( Arrays.asList( keys ) );
+        return this;
     }
 
     @Override
@@ -57,13 +67,13 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
     @Override
     public CompletionStage<Record> nextAsync()
     {
-        return pullAllHandler.nextAsync();
+        return pullAllHandler.nextAsync().thenApply( this::project );
     }
 
     @Override
     public CompletionStage<Record> peekAsync()
     {
-        return pullAllHandler.peekAsync();
+        return pullAllHandler.peekAsync().thenApply( this::project );
     }
 
     @Override
@@ -107,7 +117,12 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
     @Override
     public <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction )
     {
-        return pullAllHandler.listAsync( mapFunction );
+        RecordProjection projection = runHandler.projection();
+        if ( projection == null )
+        {
+            return pullAllHandler.listAsync( mapFunction );
+        }
+        return pullAllHandler.listAsync( record -> mapFunction.apply( projection.project( record ) ) );
     }
 
     @Override
@@ -122,6 +137,15 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
         return pullAllHandler.pullAllFailureAsync();
     }
 
+    /**
+     * Records received before the projection was set contain all fields of the query and are projected when consumed.
+     */
+    private Record project( Record record )
+    {
+        RecordProjection projection = runHandler.projection();
+        return projection == null ? record : projection.project( record );
+    }
+
     private void internalForEachAsync( Consumer<Record> action, CompletableFuture<Void> resultFuture )
     {
         CompletionStage<Record> recordFuture = nextAsync();
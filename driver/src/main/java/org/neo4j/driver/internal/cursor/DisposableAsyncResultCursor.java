@@ -47,6 +47,13 @@ public class DisposableAsyncResultCursor implements AsyncResultCursor
         return delegate.keys();
     }
 
+    @Override
+    public AsyncResultCursor project( String... keys )
+    {
+        delegate.project( keys );
+        return this;
+    }
+
     @Override
     public CompletionStage<ResultSummary> consumeAsync()
     {
@@ -27,6 +27,7 @@ import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
 import org.neo4j.driver.internal.util.Clock;
 
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.inboundFlowControl;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastUsedTimestamp;
 
 public class ChannelReleasingResetResponseHandler extends ResetResponseHandler
@@ -58,6 +59,10 @@ public class ChannelReleasingResetResponseHandler extends ResetResponseHandler
             channel.close();
         }
 
+        // all responses preceding RESET have arrived, records still buffered by results of the released connection
+        // should not hold back its next user
+        inboundFlowControl( channel ).reset();
+
         CompletionStage<Void> released = pool.release( channel );
         released.whenComplete( ( ignore, error ) -> completionFuture.complete( null ) );
     }
@@ -18,11 +18,9 @@
  */
 package org.neo4j.driver.internal.handlers;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -31,11 +29,13 @@ import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.messaging.request.PullAllMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
-import org.neo4j.driver.internal.util.Iterables;
 import org.neo4j.driver.internal.util.MetadataExtractor;
+import org.neo4j.driver.internal.util.RecordProjection;
+import org.neo4j.driver.internal.value.RetainedBytesValue;
 import org.neo4j.driver.summary.ResultSummary;
 
 import static java.util.Collections.emptyMap;
@@ -49,19 +49,12 @@ import static org.neo4j.driver.internal.util.Futures.failedFuture;
  */
 public class LegacyPullAllResponseHandler implements PullAllResponseHandler
 {
-    private static final Queue<Record> UNINITIALIZED_RECORDS = Iterables.emptyQueue();
-
-    static final int RECORD_BUFFER_LOW_WATERMARK = Integer.getInteger( "recordBufferLowWatermark", 300 );
-    static final int RECORD_BUFFER_HIGH_WATERMARK = Integer.getInteger( "recordBufferHighWatermark", 1000 );
-
     private final Query query;
     private final RunResponseHandler runResponseHandler;
     protected final MetadataExtractor metadataExtractor;
     protected final Connection connection;
     private final PullResponseCompletionListener completionListener;
-
-    // initialized lazily when first record arrives
-    private Queue<Record> records = UNINITIALIZED_RECORDS;
+    private final RecordBuffer records;
 
     private boolean autoReadManagementEnabled = true;
     private boolean finished;
@@ -74,12 +67,19 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
 
     public LegacyPullAllResponseHandler(Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
                                         PullResponseCompletionListener completionListener )
+    {
+        this( query, runResponseHandler, connection, metadataExtractor, completionListener, InboundFlowControl.UNLIMITED );
+    }
+
+    public LegacyPullAllResponseHandler( Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
+                                         PullResponseCompletionListener completionListener, InboundFlowControl flowControl )
     {
         this.query = requireNonNull(query);
         this.runResponseHandler = requireNonNull( runResponseHandler );
         this.metadataExtractor = requireNonNull( metadataExtractor );
         this.connection = requireNonNull( connection );
         this.completionListener = requireNonNull( completionListener );
+        this.records = new RecordBuffer( requireNonNull( flowControl ) );
     }
 
     @Override
@@ -130,16 +130,24 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
     {
         if ( ignoreRecords )
         {
+            RetainedBytesValue.releaseAll( fields );
             completeRecordFuture( null );
         }
         else
         {
-            Record record = new InternalRecord( runResponseHandler.queryKeys(), fields );
+            RecordProjection projection = runResponseHandler.projection();
+            Record record = projection == null ? new InternalRecord( runResponseHandler.queryKeys(), fields ) : projection.newRecord( fields );
             enqueueRecord( record );
             completeRecordFuture( record );
         }
     }
 
+    @Override
+    public RecordProjection recordProjection()
+    {
+        return runResponseHandler.projection();
+    }
+
     @Override
     public synchronized void disableAutoReadManagement()
     {
@@ -236,20 +244,15 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
 
     private void enqueueRecord( Record record )
     {
-        if ( records == UNINITIALIZED_RECORDS )
-        {
-            records = new ArrayDeque<>();
-        }
-
         records.add( record );
 
         boolean shouldBufferAllRecords = failureFuture != null;
         // when failure is requested we have to buffer all remaining records and then return the error
         // do not disable auto-read in this case, otherwise records will not be consumed and trailing
         // SUCCESS or FAILURE message will not arrive as well, so callers will get stuck waiting for the error
-        if ( !shouldBufferAllRecords && records.size() > RECORD_BUFFER_HIGH_WATERMARK )
+        if ( !shouldBufferAllRecords && records.flowControl().isExhausted() )
         {
-            // more than high watermark records are already queued, tell connection to stop auto-reading from network
+            // more than high watermark bytes are already buffered, tell connection to stop auto-reading from network
             // this is needed to deal with slow consumers, we do not want to buffer all records in memory if they are
             // fetched from network faster than consumed
             disableAutoRead();
@@ -260,9 +263,9 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
     {
         Record record = records.poll();
 
-        if ( records.size() < RECORD_BUFFER_LOW_WATERMARK )
+        if ( records.isEmpty() || records.flowControl().isReplenished() )
         {
-            // less than low watermark records are now available in the buffer, tell connection to pre-fetch more
+            // buffer is empty or less than low watermark bytes are buffered, tell connection to pre-fetch more
             // and populate queue with new records from network
             enableAutoRead();
         }
@@ -304,6 +307,11 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
         {
             CompletableFuture<Record> future = recordFuture;
             recordFuture = null;
+            if ( record != null )
+            {
+                // record is the head of the empty buffer the user waited on, peek it to keep its fields from being released by clear
+                records.peek();
+            }
             future.complete( record );
         }
     }
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.handlers;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.internal.BookmarkHolder;
 import org.neo4j.driver.internal.async.UnmanagedTransaction;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.handlers.pulln.AutoPullResponseHandler;
 import org.neo4j.driver.internal.handlers.pulln.BasicPullResponseHandler;
 import org.neo4j.driver.internal.handlers.pulln.PullResponseHandler;
@@ -35,7 +36,8 @@ public class PullHandlers
     {
         PullResponseCompletionListener completionListener = createPullResponseCompletionListener( connection, BookmarkHolder.NO_OP, tx );
 
-        return new LegacyPullAllResponseHandler(query, runHandler, connection, BoltProtocolV1.METADATA_EXTRACTOR, completionListener );
+        return new LegacyPullAllResponseHandler( query, runHandler, connection, BoltProtocolV1.METADATA_EXTRACTOR, completionListener,
+                                                 inboundFlowControl( connection ) );
     }
 
     public static PullAllResponseHandler newBoltV3PullAllHandler(Query query, RunResponseHandler runHandler, Connection connection,
@@ -43,7 +45,8 @@ public class PullHandlers
     {
         PullResponseCompletionListener completionListener = createPullResponseCompletionListener( connection, bookmarkHolder, tx );
 
-        return new LegacyPullAllResponseHandler(query, runHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR, completionListener );
+        return new LegacyPullAllResponseHandler( query, runHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR, completionListener,
+                                                 inboundFlowControl( connection ) );
     }
 
     public static PullAllResponseHandler newBoltV4AutoPullHandler(Query query, RunResponseHandler runHandler, Connection connection,
@@ -51,7 +54,8 @@ public class PullHandlers
     {
         PullResponseCompletionListener completionListener = createPullResponseCompletionListener( connection, bookmarkHolder, tx );
 
-        return new AutoPullResponseHandler(query, runHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR, completionListener, fetchSize );
+        return new AutoPullResponseHandler( query, runHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR, completionListener, fetchSize,
+                                            inboundFlowControl( connection ) );
     }
 
 
@@ -68,4 +72,11 @@ public class PullHandlers
     {
         return tx != null ? new TransactionPullResponseCompletionListener( tx ) : new SessionPullResponseCompletionListener( connection, bookmarkHolder );
     }
+
+    private static InboundFlowControl inboundFlowControl( Connection connection )
+    {
+        InboundFlowControl flowControl = connection.inboundFlowControl();
+        // connections that are not backed by a network channel do not limit buffered records
+        return flowControl == null ? InboundFlowControl.UNLIMITED : flowControl;
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
+import org.neo4j.driver.internal.util.Iterables;
+import org.neo4j.driver.internal.value.RetainedBytesValue;
+
+/**
+ * Queue of received records that remembers the size of every record on the wire and accounts it in the {@link InboundFlowControl} of the
+ * connection. Records should only be added from {@link org.neo4j.driver.internal.spi.ResponseHandler#onRecord(org.neo4j.driver.Value[])}, when
+ * the flow control knows the size of the message being dispatched.
+ * <p>
+ * This class is not thread-safe, access is guarded by the owning response handler.
+ */
+public class RecordBuffer
+{
+    private static final Queue<Record> UNINITIALIZED_RECORDS = Iterables.emptyQueue();
+    private static final int[] UNINITIALIZED_SIZES = new int[0];
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final InboundFlowControl flowControl;
+
+    // initialized lazily when first record arrives
+    private Queue<Record> records = UNINITIALIZED_RECORDS;
+    // ring of sizes of buffered records, in the same order as records
+    private int[] sizes = UNINITIALIZED_SIZES;
+    private int head;
+    // head record was returned by peek and can be held by the user
+    private boolean headPeeked;
+
+    private long bufferedBytes;
+    private long receivedBytes;
+    private long receivedRecords;
+
+    public RecordBuffer( InboundFlowControl flowControl )
+    {
+        this.flowControl = flowControl;
+    }
+
+    public void add( Record record )
+    {
+        if ( records == UNINITIALIZED_RECORDS )
+        {
+            records = new ArrayDeque<>();
+            sizes = new int[INITIAL_CAPACITY];
+        }
+        else if ( records.size() == sizes.length )
+        {
+            growSizes();
+        }
+
+        int size = flowControl.currentMessageSize();
+        sizes[(head + records.size()) % sizes.length] = size;
+        records.add( record );
+
+        bufferedBytes += size;
+        receivedBytes += size;
+        receivedRecords++;
+        flowControl.recordsBuffered( size );
+    }
+
+    /**
+     * Return the head record without removing it. The returned record is considered seen by the user, its fields are not released by
+     * {@link #clear()}.
+     */
+    public Record peek()
+    {
+        Record record = records.peek();
+        headPeeked = record != null;
+        return record;
+    }
+
+    public Record poll()
+    {
+        Record record = records.poll();
+        if ( record != null )
+        {
+            int size = sizes[head];
+            head = (head + 1) % sizes.length;
+            headPeeked = false;
+            bufferedBytes -= size;
+            flowControl.recordsConsumed( size );
+        }
+        return record;
+    }
+
+    /**
+     * Drop all buffered records. Network buffers still held by their fields are released, except for the head record returned by
+     * {@link #peek()}, which the user may still hold.
+     */
+    public void clear()
+    {
+        if ( RetainedBytesValue.mayExist() )
+        {
+            boolean skip = headPeeked;
+            for ( Record record : records )
+            {
+                if ( skip )
+                {
+                    skip = false;
+                    continue;
+                }
+                RetainedBytesValue.releaseAll( record );
+            }
+        }
+        records.clear();
+        head = 0;
+        headPeeked = false;
+        flowControl.recordsConsumed( bufferedBytes );
+        bufferedBytes = 0;
+    }
+
+    public int size()
+    {
+        return records.size();
+    }
+
+    public boolean isEmpty()
+    {
+        return records.isEmpty();
+    }
+
+    public long bufferedBytes()
+    {
+        return bufferedBytes;
+    }
+
+    /**
+     * @return average size of all records received so far, {@code 0} when no records were received.
+     */
+    public long averageRecordSize()
+    {
+        return receivedRecords == 0 ? 0 : receivedBytes / receivedRecords;
+    }
+
+    public InboundFlowControl flowControl()
+    {
+        return flowControl;
+    }
+
+    private void growSizes()
+    {
+        int[] newSizes = new int[sizes.length * 2];
+        int count = records.size();
+        for ( int i = 0; i < count; i++ )
+        {
+            newSizes[i] = sizes[(head + i) % sizes.length];
+        }
+        sizes = newSizes;
+        head = 0;
+    }
+}
@@ -18,22 +18,27 @@
  */
 package org.neo4j.driver.internal.handlers;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.MetadataExtractor;
 import org.neo4j.driver.internal.util.QueryKeys;
+import org.neo4j.driver.internal.util.RecordProjection;
 
 public class RunResponseHandler implements ResponseHandler
 {
     private final CompletableFuture<Throwable> runCompletedFuture;
     private final MetadataExtractor metadataExtractor;
-    private long queryId = MetadataExtractor.ABSENT_QUERY_ID;
+    // read by PULL and DISCARD requests issued from user threads, addresses this query among other open results of a transaction
+    private volatile long queryId = MetadataExtractor.ABSENT_QUERY_ID;
 
     private QueryKeys queryKeys = QueryKeys.empty();
     private long resultAvailableAfter = -1;
+    private volatile RecordProjection projection;
 
     public RunResponseHandler( MetadataExtractor metadataExtractor )
     {
@@ -73,6 +78,28 @@ public class RunResponseHandler implements ResponseHandler
         return queryKeys;
     }
 
+    /**
+     * Restrict records of this query to the given keys. Can only be invoked once and after RUN completed successfully.
+     *
+     * @param keys keys of the query result to keep in records.
+     */
+    public synchronized void project( List<String> keys )
+    {
+        if ( projection != null )
+        {
+            throw new ClientException( "Records of this result are already projected to keys: " + projection.keys().keys() );
+        }
+        projection = RecordProjection.of( queryKeys, keys );
+    }
+
+    /**
+     * @return projection of records of this query, or {@code null} when records contain all keys.
+     */
+    public RecordProjection projection()
+    {
+        return projection;
+    }
+
     public long resultAvailableAfter()
     {
         return resultAvailableAfter;
@@ -18,24 +18,24 @@
  */
 package org.neo4j.driver.internal.handlers.pulln;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
+import org.neo4j.driver.internal.handlers.RecordBuffer;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.spi.Connection;
-import org.neo4j.driver.internal.util.Iterables;
 import org.neo4j.driver.internal.util.MetadataExtractor;
 import org.neo4j.driver.summary.ResultSummary;
 
+import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
@@ -47,13 +47,10 @@ import static org.neo4j.driver.internal.util.Futures.failedFuture;
  */
 public class AutoPullResponseHandler extends BasicPullResponseHandler implements PullAllResponseHandler
 {
-    private static final Queue<Record> UNINITIALIZED_RECORDS = Iterables.emptyQueue();
     private final long fetchSize;
     private final long lowRecordWatermark;
     private final long highRecordWatermark;
-
-    // initialized lazily when first record arrives
-    private Queue<Record> records = UNINITIALIZED_RECORDS;
+    private final RecordBuffer records;
 
     private ResultSummary summary;
     private Throwable failure;
@@ -64,9 +61,16 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
 
     public AutoPullResponseHandler(Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
                                    PullResponseCompletionListener completionListener, long fetchSize )
+    {
+        this( query, runResponseHandler, connection, metadataExtractor, completionListener, fetchSize, InboundFlowControl.UNLIMITED );
+    }
+
+    public AutoPullResponseHandler( Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
+                                    PullResponseCompletionListener completionListener, long fetchSize, InboundFlowControl flowControl )
     {
         super(query, runResponseHandler, connection, metadataExtractor, completionListener );
         this.fetchSize = fetchSize;
+        this.records = new RecordBuffer( requireNonNull( flowControl ) );
 
         //For pull everything ensure conditions for disabling auto pull are never met
         if ( fetchSize == UNLIMITED_FETCH_SIZE )
@@ -114,7 +118,7 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             {
                 if ( isAutoPullEnabled )
                 {
-                    request( fetchSize );
+                    request( nextBatchSize() );
                 }
             }
         } );
@@ -189,7 +193,7 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
     @Override
     public void prePopulateRecords()
     {
-        request( fetchSize );
+        request( nextBatchSize() );
     }
 
     private synchronized CompletionStage<ResultSummary> pullAllAsync()
@@ -212,15 +216,10 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
 
     private void enqueueRecord( Record record )
     {
-        if ( records == UNINITIALIZED_RECORDS )
-        {
-            records = new ArrayDeque<>();
-        }
-
         records.add( record );
 
-        // too many records in the queue, pause auto request gathering
-        if ( records.size() > highRecordWatermark )
+        // too many records or bytes buffered on the connection, pause auto request gathering
+        if ( records.size() > highRecordWatermark || records.flowControl().isExhausted() )
         {
             isAutoPullEnabled = false;
         }
@@ -230,12 +229,13 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
     {
         Record record = records.poll();
 
-        if ( records.size() <= lowRecordWatermark )
+        // an empty buffer always resumes, so a result waiting for records is not starved by records of other results on the connection
+        if ( records.isEmpty() || (records.size() <= lowRecordWatermark && records.flowControl().isReplenished()) )
         {
             //if not in streaming state we need to restart streaming
             if ( state() != State.STREAMING_STATE )
             {
-                request( fetchSize );
+                request( nextBatchSize() );
             }
             isAutoPullEnabled = true;
         }
@@ -243,6 +243,21 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         return record;
     }
 
+    /**
+     * Size of the next batch is the fetch size, reduced to the amount of records that are expected to fit into the remaining byte budget of the
+     * connection. At least one record is always requested.
+     */
+    private long nextBatchSize()
+    {
+        long averageRecordSize = records.averageRecordSize();
+        if ( fetchSize == UNLIMITED_FETCH_SIZE || averageRecordSize == 0 )
+        {
+            return fetchSize;
+        }
+        long fittingRecords = records.flowControl().availableBytes() / averageRecordSize;
+        return Math.max( 1, Math.min( fetchSize, fittingRecords ) );
+    }
+
     private <T> List<T> recordsAsList( Function<Record,T> mapFunction )
     {
         if ( !isDone() )
@@ -277,6 +292,11 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         {
             CompletableFuture<Record> future = recordFuture;
             recordFuture = null;
+            if ( record != null )
+            {
+                // record is the head of the empty buffer the user waited on, peek it to keep its fields from being released by clear
+                records.peek();
+            }
             future.complete( record );
         }
     }
@@ -30,7 +30,9 @@ import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.MetadataExtractor;
+import org.neo4j.driver.internal.util.RecordProjection;
 import org.neo4j.driver.internal.value.BooleanValue;
+import org.neo4j.driver.internal.value.RetainedBytesValue;
 import org.neo4j.driver.summary.ResultSummary;
 
 import static java.lang.String.format;
@@ -89,6 +91,12 @@ public class BasicPullResponseHandler implements PullResponseHandler
         state.onRecord( this, fields );
     }
 
+    @Override
+    public RecordProjection recordProjection()
+    {
+        return runResponseHandler.projection();
+    }
+
     @Override
     public synchronized void request( long size )
     {
@@ -130,7 +138,8 @@ public class BasicPullResponseHandler implements PullResponseHandler
 
     protected void handleRecord( Value[] fields )
     {
-        Record record = new InternalRecord( runResponseHandler.queryKeys(), fields );
+        RecordProjection projection = runResponseHandler.projection();
+        Record record = projection == null ? new InternalRecord( runResponseHandler.queryKeys(), fields ) : projection.newRecord( fields );
         recordConsumer.accept( record, null );
     }
 
@@ -261,6 +270,7 @@ public class BasicPullResponseHandler implements PullResponseHandler
                     void onRecord( BasicPullResponseHandler context, Value[] fields )
                     {
                         context.state( READY_STATE );
+                        RetainedBytesValue.releaseAll( fields );
                     }
 
                     @Override
@@ -349,6 +359,7 @@ public class BasicPullResponseHandler implements PullResponseHandler
                     void onRecord( BasicPullResponseHandler context, Value[] fields )
                     {
                         context.state( CANCELLED_STATE );
+                        RetainedBytesValue.releaseAll( fields );
                     }
 
                     @Override
@@ -383,6 +394,7 @@ public class BasicPullResponseHandler implements PullResponseHandler
                     void onRecord( BasicPullResponseHandler context, Value[] fields )
                     {
                         context.state( SUCCEEDED_STATE );
+                        RetainedBytesValue.releaseAll( fields );
                     }
 
                     @Override
@@ -417,6 +429,7 @@ public class BasicPullResponseHandler implements PullResponseHandler
                     void onRecord( BasicPullResponseHandler context, Value[] fields )
                     {
                         context.state( FAILURE_STATE );
+                        RetainedBytesValue.releaseAll( fields );
                     }
 
                     @Override
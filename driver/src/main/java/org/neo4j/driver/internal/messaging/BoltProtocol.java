@@ -81,6 +81,20 @@ public interface BoltProtocol
      */
     CompletionStage<Void> beginTransaction( Connection connection, Bookmark bookmark, TransactionConfig config );
 
+    /**
+     * Begin an unmanaged transaction without waiting for the database to start it. BEGIN is only queued and goes to the network together
+     * with the requests that follow. When it fails, the database ignores these requests and they fail with the error of BEGIN.
+     *
+     * @param connection the connection to use.
+     * @param bookmark the bookmarks. Never null, should be {@link InternalBookmark#empty()} when absent.
+     * @param config the transaction configuration. Never null, should be {@link TransactionConfig#empty()} when absent.
+     * @return a completion stage completed when BEGIN is queued or completed exceptionally when the transaction can't be started.
+     */
+    default CompletionStage<Void> beginPipelinedTransaction( Connection connection, Bookmark bookmark, TransactionConfig config )
+    {
+        return beginTransaction( connection, bookmark, config );
+    }
+
     /**
      * Commit the unmanaged transaction.
      *
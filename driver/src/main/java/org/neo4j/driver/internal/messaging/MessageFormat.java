@@ -38,4 +38,13 @@ public interface MessageFormat
     Writer newWriter( PackOutput output );
 
     Reader newReader( PackInput input );
+
+    /**
+     * @return {@code true} when writers of this format always encode a message to the same bytes, so that the encoding of constant messages can be
+     * shared between connections.
+     */
+    default boolean hasStableEncoding()
+    {
+        return false;
+    }
 }
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.Map;
 
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.util.RecordProjection;
 
 public interface ResponseMessageHandler
 {
@@ -32,4 +33,12 @@ public interface ResponseMessageHandler
     void handleFailureMessage( String code, String message ) throws IOException;
 
     void handleIgnoredMessage() throws IOException;
+
+    /**
+     * @return projection to apply to the fields of the next RECORD message, or {@code null} when all fields are needed.
+     */
+    default RecordProjection recordProjection()
+    {
+        return null;
+    }
 }
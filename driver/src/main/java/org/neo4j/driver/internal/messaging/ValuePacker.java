@@ -29,6 +29,8 @@ public interface ValuePacker
 
     void pack( String string ) throws IOException;
 
+    void packEncoded( byte[] encoded ) throws IOException;
+
     void pack( Value value ) throws IOException;
 
     void pack( Map<String,Value> map ) throws IOException;
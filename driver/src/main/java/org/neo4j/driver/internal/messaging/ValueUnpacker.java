@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.Map;
 
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.util.RecordProjection;
 
 public interface ValueUnpacker
 {
@@ -32,4 +33,13 @@ public interface ValueUnpacker
     Map<String,Value> unpackMap() throws IOException;
 
     Value[] unpackArray() throws IOException;
+
+    /**
+     * Unpack a list of values, skipping values that are not included in the given projection.
+     *
+     * @param projection the projection to apply, or {@code null} to unpack all values.
+     * @return unpacked values.
+     * @throws IOException when unable to unpack.
+     */
+    Value[] unpackArray( RecordProjection projection ) throws IOException;
 }
@@ -35,7 +35,14 @@ public class RunMessageEncoder implements MessageEncoder
         checkArgument( message, RunMessage.class );
         RunMessage runMessage = (RunMessage) message;
         packer.packStructHeader( 2, runMessage.signature() );
-        packer.pack( runMessage.query() );
+        if ( runMessage.encodedQuery() != null )
+        {
+            packer.packEncoded( runMessage.encodedQuery() );
+        }
+        else
+        {
+            packer.pack( runMessage.query() );
+        }
         packer.pack( runMessage.parameters() );
     }
 }
@@ -35,7 +35,14 @@ public class RunWithMetadataMessageEncoder implements MessageEncoder
         checkArgument( message, RunWithMetadataMessage.class );
         RunWithMetadataMessage runMessage = (RunWithMetadataMessage) message;
         packer.packStructHeader( 3, runMessage.signature() );
-        packer.pack( runMessage.query() );
+        if ( runMessage.encodedQuery() != null )
+        {
+            packer.packEncoded( runMessage.encodedQuery() );
+        }
+        else
+        {
+            packer.pack( runMessage.query() );
+        }
         packer.pack( runMessage.parameters() );
         packer.pack( runMessage.metadata() );
     }
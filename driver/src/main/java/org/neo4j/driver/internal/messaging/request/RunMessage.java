@@ -38,6 +38,7 @@ public class RunMessage implements Message
 
     private final String query;
     private final Map<String,Value> parameters;
+    private final byte[] encodedQuery;
 
     public RunMessage( String query)
     {
@@ -45,8 +46,14 @@ public class RunMessage implements Message
     }
 
     public RunMessage(String query, Map<String,Value> parameters )
+    {
+        this( query, null, parameters );
+    }
+
+    public RunMessage( String query, byte[] encodedQuery, Map<String,Value> parameters )
     {
         this.query = query;
+        this.encodedQuery = encodedQuery;
         this.parameters = parameters;
     }
 
@@ -55,6 +62,14 @@ public class RunMessage implements Message
         return query;
     }
 
+    /**
+     * @return PackStream encoding of the query text for prepared queries, {@code null} otherwise.
+     */
+    public byte[] encodedQuery()
+    {
+        return encodedQuery;
+    }
+
     public Map<String,Value> parameters()
     {
         return parameters;
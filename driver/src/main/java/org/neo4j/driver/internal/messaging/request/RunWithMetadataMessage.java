@@ -28,6 +28,7 @@ import org.neo4j.driver.Query;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.InternalPreparedQuery;
 
 import static java.util.Collections.emptyMap;
 import static org.neo4j.driver.Values.ofValue;
@@ -39,6 +40,7 @@ public class RunWithMetadataMessage extends MessageWithMetadata
 
     private final String query;
     private final Map<String,Value> parameters;
+    private final byte[] encodedQuery;
 
     public static RunWithMetadataMessage autoCommitTxRunMessage(Query query, TransactionConfig config, DatabaseName databaseName, AccessMode mode,
             Bookmark bookmark )
@@ -50,18 +52,19 @@ public class RunWithMetadataMessage extends MessageWithMetadata
             AccessMode mode, Bookmark bookmark )
     {
         Map<String,Value> metadata = buildMetadata( txTimeout, txMetadata, databaseName, mode, bookmark );
-        return new RunWithMetadataMessage( query.text(), query.parameters().asMap( ofValue() ), metadata );
+        return new RunWithMetadataMessage( query.text(), InternalPreparedQuery.encodedText( query ), query.parameters().asMap( ofValue() ), metadata );
     }
 
     public static RunWithMetadataMessage unmanagedTxRunMessage(Query query)
     {
-        return new RunWithMetadataMessage( query.text(), query.parameters().asMap( ofValue() ), emptyMap() );
+        return new RunWithMetadataMessage( query.text(), InternalPreparedQuery.encodedText( query ), query.parameters().asMap( ofValue() ), emptyMap() );
     }
 
-    private RunWithMetadataMessage(String query, Map<String,Value> parameters, Map<String,Value> metadata )
+    private RunWithMetadataMessage(String query, byte[] encodedQuery, Map<String,Value> parameters, Map<String,Value> metadata )
     {
         super( metadata );
         this.query = query;
+        this.encodedQuery = encodedQuery;
         this.parameters = parameters;
     }
 
@@ -70,6 +73,14 @@ public class RunWithMetadataMessage extends MessageWithMetadata
         return query;
     }
 
+    /**
+     * @return PackStream encoding of the query text for prepared queries, {@code null} otherwise.
+     */
+    public byte[] encodedQuery()
+    {
+        return encodedQuery;
+    }
+
     public Map<String,Value> parameters()
     {
         return parameters;
@@ -35,6 +35,7 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.BookmarkHolder;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.InternalPreparedQuery;
 import org.neo4j.driver.internal.async.UnmanagedTransaction;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cursor.AsyncResultCursorOnlyFactory;
@@ -136,6 +137,24 @@ public class BoltProtocolV1 implements BoltProtocol
         }
     }
 
+    @Override
+    public CompletionStage<Void> beginPipelinedTransaction( Connection connection, Bookmark bookmark, TransactionConfig config )
+    {
+        try
+        {
+            verifyBeforeTransaction( config, connection.databaseName() );
+        }
+        catch ( Exception error )
+        {
+            return Futures.failedFuture( error );
+        }
+
+        connection.write(
+                new RunMessage( BEGIN_QUERY, SingleBookmarkHelper.asBeginTransactionParameters( bookmark ) ), NoOpResponseHandler.INSTANCE,
+                PullAllMessage.PULL_ALL, NoOpResponseHandler.INSTANCE );
+        return Futures.completedWithNull();
+    }
+
 
 
     @Override
@@ -192,7 +211,7 @@ public class BoltProtocolV1 implements BoltProtocol
         String queryText = query.text();
         Map<String,Value> params = query.parameters().asMap( ofValue() );
 
-        RunMessage runMessage = new RunMessage( queryText, params );
+        RunMessage runMessage = new RunMessage( queryText, InternalPreparedQuery.encodedText( query ), params );
         RunResponseHandler runHandler = new RunResponseHandler( METADATA_EXTRACTOR );
         PullAllResponseHandler pullAllHandler = PullHandlers.newBoltV1PullAllHandler( query, runHandler, connection, tx );
 
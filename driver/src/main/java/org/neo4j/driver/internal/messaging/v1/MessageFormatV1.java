@@ -42,4 +42,10 @@ public class MessageFormatV1 implements MessageFormat
     {
         return new MessageReaderV1( input );
     }
+
+    @Override
+    public boolean hasStableEncoding()
+    {
+        return true;
+    }
 }
@@ -90,7 +90,7 @@ public class MessageReaderV1 implements MessageFormat.Reader
 
     private void unpackRecordMessage( ResponseMessageHandler output ) throws IOException
     {
-        Value[] fields = unpacker.unpackArray();
+        Value[] fields = unpacker.unpackArray( output.recordProjection() );
         output.handleRecordMessage( fields );
     }
 }
@@ -19,21 +19,28 @@
 package org.neo4j.driver.internal.messaging.v1;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.neo4j.driver.internal.messaging.ValuePacker;
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.value.BooleanListValue;
+import org.neo4j.driver.internal.value.DoubleListValue;
 import org.neo4j.driver.internal.value.InternalValue;
+import org.neo4j.driver.internal.value.LongListValue;
+import org.neo4j.driver.internal.value.StreamedListValue;
 import org.neo4j.driver.Value;
 
 public class ValuePackerV1 implements ValuePacker
 {
     protected final PackStream.Packer packer;
+    private final PackOutput output;
 
     public ValuePackerV1( PackOutput output )
     {
         this.packer = new PackStream.Packer( output );
+        this.output = output;
     }
 
     @Override
@@ -48,6 +55,12 @@ public class ValuePackerV1 implements ValuePacker
         packer.pack( string );
     }
 
+    @Override
+    public final void packEncoded( byte[] encoded ) throws IOException
+    {
+        packer.packEncoded( encoded );
+    }
+
     @Override
     public final void pack( Value value ) throws IOException
     {
@@ -115,10 +128,29 @@ public class ValuePackerV1 implements ValuePacker
             break;
 
         case LIST:
-            packer.packListHeader( value.size() );
-            for ( Value item : value.values() )
+            if ( value instanceof StreamedListValue )
+            {
+                packStreamedList( (StreamedListValue) value );
+            }
+            else if ( value instanceof LongListValue )
+            {
+                packer.pack( ((LongListValue) value).array() );
+            }
+            else if ( value instanceof DoubleListValue )
+            {
+                packer.pack( ((DoubleListValue) value).array() );
+            }
+            else if ( value instanceof BooleanListValue )
+            {
+                packer.pack( ((BooleanListValue) value).array() );
+            }
+            else
             {
-                pack( item );
+                packer.packListHeader( value.size() );
+                for ( Value item : value.values() )
+                {
+                    pack( item );
+                }
             }
             break;
 
@@ -126,4 +158,19 @@ public class ValuePackerV1 implements ValuePacker
             throw new IOException( "Unknown type: " + value.type().name() );
         }
     }
+
+    private void packStreamedList( StreamedListValue list ) throws IOException
+    {
+        packer.packListHeader( list.size() );
+        Iterator<Value> elements = list.takeElements();
+        output.writeIncrementally( () ->
+        {
+            if ( !elements.hasNext() )
+            {
+                return false;
+            }
+            pack( elements.next() );
+            return true;
+        } );
+    }
 }
@@ -18,8 +18,9 @@
  */
 package org.neo4j.driver.internal.messaging.v1;
 
+import io.netty.buffer.Unpooled;
+
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -28,13 +29,21 @@ import java.util.Map;
 import org.neo4j.driver.internal.InternalNode;
 import org.neo4j.driver.internal.InternalPath;
 import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
 import org.neo4j.driver.internal.messaging.ValueUnpacker;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.packstream.PackType;
 import org.neo4j.driver.internal.types.TypeConstructor;
 import org.neo4j.driver.internal.util.Iterables;
+import org.neo4j.driver.internal.util.KeySchema;
+import org.neo4j.driver.internal.util.RecordProjection;
+import org.neo4j.driver.internal.util.SchemaMap;
+import org.neo4j.driver.internal.value.BooleanListValue;
+import org.neo4j.driver.internal.value.DoubleListValue;
+import org.neo4j.driver.internal.value.LazyValue;
 import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.internal.value.PathValue;
@@ -49,11 +58,20 @@ import static org.neo4j.driver.Values.value;
 
 public class ValueUnpackerV1 implements ValueUnpacker
 {
+    /**
+     * When enabled, list, map and structure fields of records are kept in their encoded form and only decoded on first access.
+     */
+    private static final boolean LAZY_RECORDS = Boolean.getBoolean( "lazyRecordDecoding" );
+
     protected final PackStream.Unpacker unpacker;
+    private final PackInput input;
+    private final KeySchema.Cache keySchemas = new KeySchema.Cache();
+    private List<String> lastLabels;
 
     public ValueUnpackerV1( PackInput input )
     {
         this.unpacker = new PackStream.Unpacker( input );
+        this.input = input;
     }
 
     @Override
@@ -79,7 +97,7 @@ public class ValueUnpackerV1 implements ValueUnpacker
         Map<String,Value> map = Iterables.newHashMapWithSize( size );
         for ( int i = 0; i < size; i++ )
         {
-            String key = unpacker.unpackString();
+            String key = unpacker.unpackInternedString();
             map.put( key, unpack() );
         }
         return map;
@@ -92,11 +110,87 @@ public class ValueUnpackerV1 implements ValueUnpacker
         Value[] values = new Value[size];
         for ( int i = 0; i < size; i++ )
         {
-            values[i] = unpack();
+            values[i] = unpackField();
+        }
+        return values;
+    }
+
+    @Override
+    public Value[] unpackArray( RecordProjection projection ) throws IOException
+    {
+        if ( projection == null )
+        {
+            return unpackArray();
+        }
+        int size = (int) unpacker.unpackListHeader();
+        Value[] values = new Value[projection.size()];
+        int index = 0;
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( projection.includes( i ) )
+            {
+                values[index++] = unpackField();
+            }
+            else
+            {
+                unpacker.skip();
+            }
+        }
+        if ( index != values.length )
+        {
+            throw new IOException( "Expected " + values.length + " projected fields but received only " + index );
         }
         return values;
     }
 
+    /**
+     * Create an unpacker that decodes values detached from the inbound network buffer.
+     * Used to decode lazy values which can be accessed from any thread.
+     *
+     * @param input the input containing a single encoded value.
+     * @return new unpacker.
+     */
+    protected ValueUnpackerV1 newDetachedUnpacker( PackInput input )
+    {
+        return new ValueUnpackerV1( input );
+    }
+
+    private Value unpackField() throws IOException
+    {
+        return LAZY_RECORDS ? unpackLazily() : unpack();
+    }
+
+    private Value unpackLazily() throws IOException
+    {
+        switch ( unpacker.peekNextType() )
+        {
+        case MAP:
+        case LIST:
+        case STRUCT:
+            return new LazyValue( unpacker.unpackRaw(), this::decodeDetached );
+        default:
+            return unpack();
+        }
+    }
+
+    private Value decodeDetached( byte[] encoded )
+    {
+        ByteBufInput detachedInput = new ByteBufInput( 0, ByteBufInput.RETAINED_BYTES_DISABLED );
+        detachedInput.start( Unpooled.wrappedBuffer( encoded ) );
+        try
+        {
+            return newDetachedUnpacker( detachedInput ).unpack();
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Unable to decode lazily received value", e );
+        }
+        finally
+        {
+            detachedInput.stop();
+        }
+    }
+
     private Value unpack() throws IOException
     {
         PackType type = unpacker.peekNextType();
@@ -111,22 +205,17 @@ public class ValueUnpackerV1 implements ValueUnpacker
         case FLOAT:
             return value( unpacker.unpackDouble() );
         case BYTES:
-            return value( unpacker.unpackBytes() );
+            return input.readBytesValue( unpacker.unpackBytesHeader() );
         case STRING:
             return value( unpacker.unpackString() );
         case MAP:
         {
-            return new MapValue( unpackMap() );
+            return new MapValue( unpackProperties() );
         }
         case LIST:
         {
             int size = (int) unpacker.unpackListHeader();
-            Value[] vals = new Value[size];
-            for ( int j = 0; j < size; j++ )
-            {
-                vals[j] = unpack();
-            }
-            return new ListValue( vals );
+            return unpackList( size );
         }
         case STRUCT:
         {
@@ -138,6 +227,95 @@ public class ValueUnpackerV1 implements ValueUnpacker
         throw new IOException( "Unknown value type: " + type );
     }
 
+    /**
+     * Lists of integers, floats and booleans are decoded into primitive arrays, without creating a value per element.
+     * Lists with mixed element types fall back to an array of values.
+     */
+    private Value unpackList( int size ) throws IOException
+    {
+        if ( size == 0 )
+        {
+            return new ListValue( new Value[0] );
+        }
+        switch ( unpacker.peekNextType() )
+        {
+        case INTEGER:
+            return unpackLongList( size );
+        case FLOAT:
+            return unpackDoubleList( size );
+        case BOOLEAN:
+            return unpackBooleanList( size );
+        default:
+            return unpackRemainingValues( new Value[size], 0 );
+        }
+    }
+
+    private Value unpackLongList( int size ) throws IOException
+    {
+        long[] longs = new long[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( unpacker.peekNextType() != PackType.INTEGER )
+            {
+                Value[] values = new Value[size];
+                for ( int j = 0; j < i; j++ )
+                {
+                    values[j] = value( longs[j] );
+                }
+                return unpackRemainingValues( values, i );
+            }
+            longs[i] = unpacker.unpackLong();
+        }
+        return new LongListValue( longs );
+    }
+
+    private Value unpackDoubleList( int size ) throws IOException
+    {
+        double[] doubles = new double[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( unpacker.peekNextType() != PackType.FLOAT )
+            {
+                Value[] values = new Value[size];
+                for ( int j = 0; j < i; j++ )
+                {
+                    values[j] = value( doubles[j] );
+                }
+                return unpackRemainingValues( values, i );
+            }
+            doubles[i] = unpacker.unpackDouble();
+        }
+        return new DoubleListValue( doubles );
+    }
+
+    private Value unpackBooleanList( int size ) throws IOException
+    {
+        boolean[] booleans = new boolean[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( unpacker.peekNextType() != PackType.BOOLEAN )
+            {
+                Value[] values = new Value[size];
+                for ( int j = 0; j < i; j++ )
+                {
+                    values[j] = value( booleans[j] );
+                }
+                return unpackRemainingValues( values, i );
+            }
+            booleans[i] = unpacker.unpackBoolean();
+        }
+        return new BooleanListValue( booleans );
+    }
+
+    private Value unpackRemainingValues( Value[] values, int start ) throws IOException
+    {
+        for ( int i = start; i < values.length; i++ )
+        {
+            values[i] = unpack();
+        }
+        return new ListValue( values );
+    }
+
     protected Value unpackStruct( long size, byte type ) throws IOException
     {
         switch ( type )
@@ -162,8 +340,8 @@ public class ValueUnpackerV1 implements ValueUnpacker
         long urn = unpacker.unpackLong();
         long startUrn = unpacker.unpackLong();
         long endUrn = unpacker.unpackLong();
-        String relType = unpacker.unpackString();
-        Map<String,Value> props = unpackMap();
+        String relType = unpacker.unpackInternedString();
+        Map<String,Value> props = unpackProperties();
 
         InternalRelationship adapted = new InternalRelationship( urn, startUrn, endUrn, relType, props );
         return new RelationshipValue( adapted );
@@ -173,21 +351,75 @@ public class ValueUnpackerV1 implements ValueUnpacker
     {
         long urn = unpacker.unpackLong();
 
+        List<String> labels = unpackLabels();
+        Map<String,Value> props = unpackProperties();
+
+        return new InternalNode( urn, labels, props );
+    }
+
+    /**
+     * Unpack node labels, reusing the list of the previous node when labels are the same.
+     */
+    private List<String> unpackLabels() throws IOException
+    {
         int numLabels = (int) unpacker.unpackListHeader();
-        List<String> labels = new ArrayList<>( numLabels );
+        if ( numLabels == 0 )
+        {
+            return Collections.emptyList();
+        }
+        String[] labels = new String[numLabels];
         for ( int i = 0; i < numLabels; i++ )
         {
-            labels.add( unpacker.unpackString() );
+            labels[i] = unpacker.unpackInternedString();
         }
-        int numProps = (int) unpacker.unpackMapHeader();
-        Map<String,Value> props = Iterables.newHashMapWithSize( numProps );
-        for ( int j = 0; j < numProps; j++ )
+
+        List<String> previous = lastLabels;
+        if ( previous != null && previous.size() == numLabels )
         {
-            String key = unpacker.unpackString();
-            props.put( key, unpack() );
+            boolean same = true;
+            for ( int i = 0; i < numLabels && same; i++ )
+            {
+                same = previous.get( i ).equals( labels[i] );
+            }
+            if ( same )
+            {
+                return previous;
+            }
         }
+        lastLabels = Collections.unmodifiableList( Arrays.asList( labels ) );
+        return lastLabels;
+    }
 
-        return new InternalNode( urn, labels, props );
+    /**
+     * Unpack a map of values into a {@link SchemaMap} that shares its keys with previously unpacked maps with the same keys.
+     */
+    private Map<String,Value> unpackProperties() throws IOException
+    {
+        int size = (int) unpacker.unpackMapHeader();
+        if ( size == 0 )
+        {
+            return Collections.emptyMap();
+        }
+        String[] keys = new String[size];
+        Value[] values = new Value[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            keys[i] = unpacker.unpackInternedString();
+            values[i] = unpack();
+        }
+
+        KeySchema schema = keySchemas.schemaFor( keys );
+        if ( schema == null )
+        {
+            // duplicate keys, the last value wins like in a regular map
+            Map<String,Value> map = Iterables.newHashMapWithSize( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                map.put( keys[i], values[i] );
+            }
+            return map;
+        }
+        return new SchemaMap( schema, values );
     }
 
     private Value unpackPath() throws IOException
@@ -208,8 +440,8 @@ public class ValueUnpackerV1 implements ValueUnpacker
             ensureCorrectStructSize( TypeConstructor.RELATIONSHIP, 3, unpacker.unpackStructHeader() );
             ensureCorrectStructSignature( "UNBOUND_RELATIONSHIP", MessageFormatV1.UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature() );
             long id = unpacker.unpackLong();
-            String relType = unpacker.unpackString();
-            Map<String,Value> props = unpackMap();
+            String relType = unpacker.unpackInternedString();
+            Map<String,Value> props = unpackProperties();
             uniqRels[i] = new InternalRelationship( id, -1, -1, relType, props );
         }
 
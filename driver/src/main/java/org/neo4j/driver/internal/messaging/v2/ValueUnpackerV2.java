@@ -62,6 +62,12 @@ public class ValueUnpackerV2 extends ValueUnpackerV1
         super( input );
     }
 
+    @Override
+    protected ValueUnpackerV1 newDetachedUnpacker( PackInput input )
+    {
+        return new ValueUnpackerV2( input );
+    }
+
     @Override
     protected Value unpackStruct( long size, byte type ) throws IOException
     {
@@ -140,7 +146,7 @@ public class ValueUnpackerV2 extends ValueUnpackerV1
     {
         long epochSecondLocal = unpacker.unpackLong();
         int nano = Math.toIntExact( unpacker.unpackLong() );
-        String zoneIdString = unpacker.unpackString();
+        String zoneIdString = unpacker.unpackInternedString();
         return value( newZonedDateTime( epochSecondLocal, nano, ZoneId.of( zoneIdString ) ) );
     }
 
@@ -133,6 +133,22 @@ public class BoltProtocolV3 implements BoltProtocol
         }
     }
 
+    @Override
+    public CompletionStage<Void> beginPipelinedTransaction( Connection connection, Bookmark bookmark, TransactionConfig config )
+    {
+        try
+        {
+            verifyDatabaseNameBeforeTransaction( connection.databaseName() );
+        }
+        catch ( Exception error )
+        {
+            return Futures.failedFuture( error );
+        }
+
+        connection.write( new BeginMessage( bookmark, config, connection.databaseName(), connection.mode() ), NoOpResponseHandler.INSTANCE );
+        return Futures.completedWithNull();
+    }
+
     @Override
     public CompletionStage<Bookmark> commitTransaction( Connection connection )
     {
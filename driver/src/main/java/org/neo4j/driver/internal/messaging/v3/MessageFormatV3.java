@@ -36,4 +36,10 @@ public class MessageFormatV3 implements MessageFormat
     {
         return new MessageReaderV2( input );
     }
+
+    @Override
+    public boolean hasStableEncoding()
+    {
+        return true;
+    }
 }
@@ -74,6 +74,12 @@ public interface ConnectionPoolMetricsListener
      */
     void released( ListenerEvent inUseEvent );
 
+    /**
+     * After flushes of a connection were merged into a single flush.
+     * @param count the amount of saved flushes.
+     */
+    void afterFlushesConsolidated( int count );
+
     ConnectionPoolMetricsListener DEV_NULL_POOL_METRICS_LISTENER = new ConnectionPoolMetricsListener()
     {
         @Override
@@ -135,6 +141,12 @@ public interface ConnectionPoolMetricsListener
         {
 
         }
+
+        @Override
+        public void afterFlushesConsolidated( int count )
+        {
+
+        }
     };
 }
 
@@ -91,6 +91,12 @@ public abstract class InternalAbstractMetrics implements Metrics, MetricsListene
 
         }
 
+        @Override
+        public void afterFlushesConsolidated( String poolId, int count )
+        {
+
+        }
+
         @Override
         public ListenerEvent createListenerEvent()
         {
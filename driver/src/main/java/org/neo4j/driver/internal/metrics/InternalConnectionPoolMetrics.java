@@ -50,6 +50,7 @@ public class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Con
     private final AtomicLong totalInUseTime = new AtomicLong();
 
     private final AtomicLong totalInUseCount = new AtomicLong();
+    private final AtomicLong consolidatedFlushes = new AtomicLong();
     private final String id;
 
     InternalConnectionPoolMetrics( String poolId, BoltServerAddress address, ConnectionPool pool )
@@ -135,6 +136,12 @@ public class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Con
         totalInUseTime.addAndGet( elapsed );
     }
 
+    @Override
+    public void afterFlushesConsolidated( int count )
+    {
+        consolidatedFlushes.addAndGet( count );
+    }
+
     @Override
     public String id()
     {
@@ -201,6 +208,12 @@ public class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Con
         return totalInUseCount.get();
     }
 
+    @Override
+    public long consolidatedFlushes()
+    {
+        return consolidatedFlushes.get();
+    }
+
     @Override
     public long closed()
     {
@@ -225,9 +238,9 @@ public class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Con
     {
         return format( "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, " +
                         "timedOutToAcquire=%s, inUse=%s, idle=%s, " +
-                        "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
+                        "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, consolidatedFlushes=%s]",
                 id(), created(), closed(), creating(), failedToCreate(), acquiring(), acquired(),
                 timedOutToAcquire(), inUse(), idle(),
-                totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount() );
+                totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount(), consolidatedFlushes() );
     }
 }
@@ -114,6 +114,12 @@ public class InternalMetrics extends InternalAbstractMetrics
         poolMetrics( poolId ).released( inUseEvent );
     }
 
+    @Override
+    public void afterFlushesConsolidated( String poolId, int count )
+    {
+        poolMetrics( poolId ).afterFlushesConsolidated( count );
+    }
+
     @Override
     public void afterTimedOutToAcquireOrCreate( String poolId )
     {
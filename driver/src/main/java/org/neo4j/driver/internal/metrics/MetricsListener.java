@@ -93,6 +93,13 @@ public interface MetricsListener
      */
     void afterConnectionReleased( String poolId, ListenerEvent inUseEvent );
 
+    /**
+     * After flushes of a netty channel were merged into a single flush.
+     * @param poolId the id of the pool where the netty channel lives.
+     * @param count the amount of saved flushes.
+     */
+    void afterFlushesConsolidated( String poolId, int count );
+
     ListenerEvent createListenerEvent();
 
     void putPoolMetrics( String poolId, BoltServerAddress address, ConnectionPoolImpl connectionPool );
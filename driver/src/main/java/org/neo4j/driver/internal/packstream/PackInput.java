@@ -19,6 +19,10 @@
 package org.neo4j.driver.internal.packstream;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.value.BytesValue;
 
 /**
  * This is what {@link PackStream} uses to ingest data, implement this on top of any data source of your choice to
@@ -44,6 +48,51 @@ public interface PackInput
     /** Consume a specified number of bytes */
     void readBytes( byte[] into, int offset, int toRead ) throws IOException;
 
+    /** Consume a specified number of bytes without returning them */
+    default void skipBytes( int size ) throws IOException
+    {
+        byte[] scratch = new byte[Math.min( size, 8192 )];
+        int remaining = size;
+        while ( remaining > 0 )
+        {
+            int toRead = Math.min( remaining, scratch.length );
+            readBytes( scratch, 0, toRead );
+            remaining -= toRead;
+        }
+    }
+
+    /** Consume a specified number of bytes into a new array */
+    default byte[] readBytes( int size ) throws IOException
+    {
+        byte[] bytes = new byte[size];
+        readBytes( bytes, 0, size );
+        return bytes;
+    }
+
+    /**
+     * Consume a specified number of bytes as a byte array value. Implementations backed by network buffers are free to return
+     * a value that shares memory with the buffer instead of copying.
+     */
+    default Value readBytesValue( int size ) throws IOException
+    {
+        return new BytesValue( readBytes( size ) );
+    }
+
     /** Get the next byte without forwarding the internal pointer */
     byte peekByte() throws IOException;
+
+    /** Consume a specified number of bytes and decode them as a UTF-8 string */
+    default String readUtf8( int size ) throws IOException
+    {
+        return new String( readBytes( size ), StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * Consume a specified number of bytes and decode them as a UTF-8 string that is likely to be read again, like a map key,
+     * a label or a relationship type. Implementations are free to return a cached instance.
+     */
+    default String readInternedUtf8( int size ) throws IOException
+    {
+        return readUtf8( size );
+    }
 }
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.packstream;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This is where {@link PackStream} writes its output to.
@@ -31,6 +32,20 @@ public interface PackOutput
     /** Produce binary data */
     PackOutput writeBytes( byte[] data ) throws IOException;
 
+    /**
+     * Produce the UTF-8 encoding of the given string.
+     * Implementations can override this method to encode directly into their target, without an intermediate byte array.
+     *
+     * @param value the string to encode.
+     * @param utf8Length number of bytes in the UTF-8 encoding of the string, see {@link org.neo4j.driver.internal.util.Utf8#encodedLength(String)}.
+     * @return this output.
+     * @throws IOException when unable to write.
+     */
+    default PackOutput writeUtf8( String value, int utf8Length ) throws IOException
+    {
+        return writeBytes( value.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
     /** Produce a 4-byte signed integer */
     PackOutput writeShort( short value ) throws IOException;
 
@@ -42,4 +57,36 @@ public interface PackOutput
 
     /** Produce an 8-byte IEEE 754 "double format" floating-point number */
     PackOutput writeDouble( double value ) throws IOException;
+
+    /**
+     * Produce content that is written step by step, like the elements of a very large list.
+     * Outputs that send their data in parts can override this method to defer the steps until the content written so far has been sent.
+     * All content written after this call then goes after the incremental content. By default, all steps are executed right away.
+     *
+     * @param content the content to write.
+     * @return this output.
+     * @throws IOException when unable to write.
+     */
+    default PackOutput writeIncrementally( IncrementalContent content ) throws IOException
+    {
+        while ( content.writeNext() )
+        {
+            // keep writing until the content is exhausted
+        }
+        return this;
+    }
+
+    /**
+     * Content that is written to the output in a number of steps.
+     */
+    interface IncrementalContent
+    {
+        /**
+         * Write the next part of the content to the output the content was given to.
+         *
+         * @return {@code true} when there is more content to write, {@code false} otherwise.
+         * @throws IOException when unable to write.
+         */
+        boolean writeNext() throws IOException;
+    }
 }
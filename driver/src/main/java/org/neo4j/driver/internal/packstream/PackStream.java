@@ -19,13 +19,16 @@
 package org.neo4j.driver.internal.packstream;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.neo4j.driver.internal.util.Utf8;
+
 import static java.lang.Integer.toHexString;
 import static java.lang.String.format;
-import static java.util.Collections.singletonList;
 
 /**
  * PackStream is a messaging serialisation format heavily inspired by MessagePack.
@@ -144,12 +147,45 @@ public class PackStream
     private static final long MINUS_2_TO_THE_15 = -32768L;
     private static final long MINUS_2_TO_THE_31 = -2147483648L;
 
+    private static final int MAX_RETAINED_RAW_BUFFER_SIZE = 65536;
+
     private static final String EMPTY_STRING = "";
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
     private static final Charset UTF_8 = Charset.forName( "UTF-8" );
 
     private PackStream() {}
 
+    /**
+     * Encode the given string as a standalone PackStream value. The result can be written any number of times
+     * using {@link Packer#packEncoded(byte[])}, which avoids encoding the same string over and over again.
+     *
+     * @param value the string to encode.
+     * @return PackStream encoding of the string, including the marker and size.
+     */
+    public static byte[] encodeString( String value )
+    {
+        byte[] utf8 = value.getBytes( UTF_8 );
+        int size = utf8.length;
+        ByteBuffer buffer;
+        if ( size < 0x10 )
+        {
+            buffer = ByteBuffer.allocate( 1 + size ).put( (byte) (TINY_STRING | size) );
+        }
+        else if ( size <= Byte.MAX_VALUE )
+        {
+            buffer = ByteBuffer.allocate( 2 + size ).put( STRING_8 ).put( (byte) size );
+        }
+        else if ( size < PLUS_2_TO_THE_16 )
+        {
+            buffer = ByteBuffer.allocate( 3 + size ).put( STRING_16 ).putShort( (short) size );
+        }
+        else
+        {
+            buffer = ByteBuffer.allocate( 5 + size ).put( STRING_32 ).putInt( size );
+        }
+        return buffer.put( utf8 ).array();
+    }
+
     public static class Packer
     {
         private PackOutput out;
@@ -164,6 +200,17 @@ public class PackStream
             out.writeBytes( data );
         }
 
+        /**
+         * Write a value that was already encoded, for example using {@link PackStream#encodeString(String)}.
+         *
+         * @param encoded complete PackStream encoding of a single value.
+         * @throws IOException when unable to write.
+         */
+        public void packEncoded( byte[] encoded ) throws IOException
+        {
+            packRaw( encoded );
+        }
+
         public void packNull() throws IOException
         {
             out.writeByte( NULL );
@@ -218,14 +265,53 @@ public class PackStream
             }
         }
 
+        public void pack( long[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( long value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        public void pack( double[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( double value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        public void pack( boolean[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( boolean value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
         public void pack( String value ) throws IOException
         {
             if ( value == null ) { packNull(); }
             else
             {
-                byte[] utf8 = value.getBytes( UTF_8 );
-                packStringHeader( utf8.length );
-                packRaw( utf8 );
+                int size = Utf8.encodedLength( value );
+                packStringHeader( size );
+                out.writeUtf8( value, size );
             }
         }
 
@@ -260,28 +346,55 @@ public class PackStream
         {
             if ( value == null ) { packNull(); }
             else if ( value instanceof Boolean ) { pack( (boolean) value ); }
-            else if ( value instanceof boolean[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof boolean[] ) { pack( (boolean[]) value ); }
             else if ( value instanceof Byte ) { pack( (byte) value ); }
             else if ( value instanceof byte[] ) { pack( (byte[]) value ); }
             else if ( value instanceof Short ) { pack( (short) value ); }
-            else if ( value instanceof short[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof short[] ) { packShorts( (short[]) value ); }
             else if ( value instanceof Integer ) { pack( (int) value ); }
-            else if ( value instanceof int[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof int[] ) { packInts( (int[]) value ); }
             else if ( value instanceof Long ) { pack( (long) value ); }
-            else if ( value instanceof long[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof long[] ) { pack( (long[]) value ); }
             else if ( value instanceof Float ) { pack( (float) value ); }
-            else if ( value instanceof float[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof float[] ) { packFloats( (float[]) value ); }
             else if ( value instanceof Double ) { pack( (double) value ); }
-            else if ( value instanceof double[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof double[] ) { pack( (double[]) value ); }
             else if ( value instanceof Character ) { pack( Character.toString( (char) value ) ); }
             else if ( value instanceof char[] ) { pack( new String( (char[]) value ) ); }
             else if ( value instanceof String ) { pack( (String) value ); }
-            else if ( value instanceof String[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof String[] ) { pack( Arrays.asList( (String[]) value ) ); }
             else if ( value instanceof List ) { pack( (List) value ); }
             else if ( value instanceof Map ) { pack( (Map) value ); }
             else { throw new UnPackable( format( "Cannot pack object %s", value ) );}
         }
 
+        private void packShorts( short[] values ) throws IOException
+        {
+            packListHeader( values.length );
+            for ( short value : values )
+            {
+                pack( value );
+            }
+        }
+
+        private void packInts( int[] values ) throws IOException
+        {
+            packListHeader( values.length );
+            for ( int value : values )
+            {
+                pack( value );
+            }
+        }
+
+        private void packFloats( float[] values ) throws IOException
+        {
+            packListHeader( values.length );
+            for ( float value : values )
+            {
+                pack( value );
+            }
+        }
+
         public void packBytesHeader( int size ) throws IOException
         {
             if ( size <= Byte.MAX_VALUE )
@@ -402,11 +515,175 @@ public class PackStream
     {
         private PackInput in;
 
+        private byte[] raw;
+        private int rawSize;
+
         public Unpacker( PackInput in )
         {
             this.in = in;
         }
 
+        /**
+         * Move past the next value, including all nested values of lists, maps and structures, without decoding it.
+         * Strings and byte arrays are skipped without being copied.
+         * @throws IOException if the next value can't be read
+         */
+        public void skip() throws IOException
+        {
+            walk( false );
+        }
+
+        /**
+         * Read the next value, including all nested values of lists, maps and structures, without decoding it.
+         * @return the PackStream encoding of the next value
+         * @throws IOException if the next value can't be read
+         */
+        public byte[] unpackRaw() throws IOException
+        {
+            if ( raw == null )
+            {
+                raw = new byte[256];
+            }
+            rawSize = 0;
+            walk( true );
+            byte[] result = Arrays.copyOf( raw, rawSize );
+            if ( raw.length > MAX_RETAINED_RAW_BUFFER_SIZE )
+            {
+                // do not hold on to a large scratch buffer after an exceptionally large value
+                raw = null;
+            }
+            return result;
+        }
+
+        private void walk( boolean capture ) throws IOException
+        {
+            final byte markerByte = in.readByte();
+            if ( capture ) { appendRaw( markerByte ); }
+            final byte markerHighNibble = (byte) (markerByte & 0xF0);
+            final byte markerLowNibble = (byte) (markerByte & 0x0F);
+
+            switch ( markerHighNibble )
+            {
+                case TINY_STRING: walkBytes( markerLowNibble, capture ); return;
+                case TINY_LIST:   walkValues( markerLowNibble, capture ); return;
+                case TINY_MAP:    walkValues( 2L * markerLowNibble, capture ); return;
+                case TINY_STRUCT: walkBytes( 1, capture ); walkValues( markerLowNibble, capture ); return;
+            }
+            if ( markerByte >= MINUS_2_TO_THE_4 ) { return; } // tiny int, marker is the value
+
+            switch ( markerByte )
+            {
+                case NULL:
+                case TRUE:
+                case FALSE:
+                    return;
+                case INT_8: walkBytes( 1, capture ); return;
+                case INT_16: walkBytes( 2, capture ); return;
+                case INT_32: walkBytes( 4, capture ); return;
+                case INT_64:
+                case FLOAT_64:
+                    walkBytes( 8, capture );
+                    return;
+                case BYTES_8:
+                case STRING_8:
+                    walkBytes( walkSize( 1, capture ), capture );
+                    return;
+                case BYTES_16:
+                case STRING_16:
+                    walkBytes( walkSize( 2, capture ), capture );
+                    return;
+                case BYTES_32:
+                case STRING_32:
+                    walkBytes( walkSize( 4, capture ), capture );
+                    return;
+                case LIST_8: walkValues( walkSize( 1, capture ), capture ); return;
+                case LIST_16: walkValues( walkSize( 2, capture ), capture ); return;
+                case LIST_32: walkValues( walkSize( 4, capture ), capture ); return;
+                case MAP_8: walkValues( 2 * walkSize( 1, capture ), capture ); return;
+                case MAP_16: walkValues( 2 * walkSize( 2, capture ), capture ); return;
+                case MAP_32: walkValues( 2 * walkSize( 4, capture ), capture ); return;
+                case STRUCT_8:
+                {
+                    long size = walkSize( 1, capture );
+                    walkBytes( 1, capture );
+                    walkValues( size, capture );
+                    return;
+                }
+                case STRUCT_16:
+                {
+                    long size = walkSize( 2, capture );
+                    walkBytes( 1, capture );
+                    walkValues( size, capture );
+                    return;
+                }
+                default: throw new Unexpected( "Unable to skip unknown marker: 0x" + toHexString( markerByte & 0xFF ) );
+            }
+        }
+
+        private long walkSize( int sizeBytes, boolean capture ) throws IOException
+        {
+            long size;
+            switch ( sizeBytes )
+            {
+                case 1: size = unpackUINT8(); break;
+                case 2: size = unpackUINT16(); break;
+                default: size = unpackUINT32(); break;
+            }
+            if ( capture )
+            {
+                for ( int shift = (sizeBytes - 1) * 8; shift >= 0; shift -= 8 )
+                {
+                    appendRaw( (byte) (size >>> shift) );
+                }
+            }
+            return size;
+        }
+
+        private void walkValues( long count, boolean capture ) throws IOException
+        {
+            for ( long i = 0; i < count; i++ )
+            {
+                walk( capture );
+            }
+        }
+
+        private void walkBytes( long size, boolean capture ) throws IOException
+        {
+            if ( size > Integer.MAX_VALUE )
+            {
+                throw new Overflow( "Value too long for Java: " + size + " bytes" );
+            }
+            if ( capture )
+            {
+                ensureRawCapacity( (int) size );
+                in.readBytes( raw, rawSize, (int) size );
+                rawSize += (int) size;
+            }
+            else
+            {
+                in.skipBytes( (int) size );
+            }
+        }
+
+        private void appendRaw( byte value ) throws IOException
+        {
+            ensureRawCapacity( 1 );
+            raw[rawSize++] = value;
+        }
+
+        private void ensureRawCapacity( int size ) throws IOException
+        {
+            long required = (long) rawSize + size;
+            if ( required > raw.length )
+            {
+                if ( required > Integer.MAX_VALUE - 8 )
+                {
+                    throw new Overflow( "Value too long for Java: " + required + " bytes" );
+                }
+                raw = Arrays.copyOf( raw, (int) Math.max( required, 2L * raw.length ) );
+            }
+        }
+
         public long unpackStructHeader() throws IOException
         {
             final byte markerByte = in.readByte();
@@ -484,18 +761,23 @@ public class PackStream
         }
 
         public byte[] unpackBytes() throws IOException
+        {
+            return unpackRawBytes( unpackBytesHeader() );
+        }
+
+        public int unpackBytesHeader() throws IOException
         {
             final byte markerByte = in.readByte();
             switch(markerByte)
             {
-            case BYTES_8: return unpackRawBytes( unpackUINT8() );
-            case BYTES_16: return unpackRawBytes( unpackUINT16() );
+            case BYTES_8: return unpackUINT8();
+            case BYTES_16: return unpackUINT16();
             case BYTES_32:
             {
                 long size = unpackUINT32();
                 if ( size <= Integer.MAX_VALUE )
                 {
-                    return unpackRawBytes( (int) size );
+                    return (int) size;
                 }
                 else
                 {
@@ -514,7 +796,24 @@ public class PackStream
                 return EMPTY_STRING;
             }
 
-            return new String(unpackUtf8(markerByte), UTF_8);
+            return in.readUtf8( unpackUtf8Size( markerByte ) );
+        }
+
+        /**
+         * Unpack a string that is expected to be repeated many times in the stream, like a map key, a node label or a relationship type.
+         * Such strings can be served from a cache of the underlying {@link PackInput}.
+         * @return the unpacked string
+         * @throws IOException if the next value is not a string
+         */
+        public String unpackInternedString() throws IOException
+        {
+            final byte markerByte = in.readByte();
+            if( markerByte == TINY_STRING ) // Note no mask, so we compare to 0x80.
+            {
+                return EMPTY_STRING;
+            }
+
+            return in.readInternedUtf8( unpackUtf8Size( markerByte ) );
         }
 
         /**
@@ -534,22 +833,22 @@ public class PackStream
             return null;
         }
 
-        private byte[] unpackUtf8(byte markerByte) throws IOException
+        private int unpackUtf8Size( byte markerByte ) throws IOException
         {
             final byte markerHighNibble = (byte) (markerByte & 0xF0);
             final byte markerLowNibble = (byte) (markerByte & 0x0F);
 
-            if ( markerHighNibble == TINY_STRING ) { return unpackRawBytes( markerLowNibble ); }
+            if ( markerHighNibble == TINY_STRING ) { return markerLowNibble; }
             switch(markerByte)
             {
-                case STRING_8: return unpackRawBytes( unpackUINT8() );
-                case STRING_16: return unpackRawBytes( unpackUINT16() );
+                case STRING_8: return unpackUINT8();
+                case STRING_16: return unpackUINT16();
                 case STRING_32:
                 {
                     long size = unpackUINT32();
                     if ( size <= Integer.MAX_VALUE )
                     {
-                        return unpackRawBytes( (int) size );
+                        return (int) size;
                     }
                     else
                     {
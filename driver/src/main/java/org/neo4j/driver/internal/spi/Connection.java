@@ -23,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.util.ServerVersion;
@@ -37,6 +38,11 @@ public interface Connection
 
     void disableAutoRead();
 
+    /**
+     * @return budget for bytes of received records that are buffered by response handlers of this connection.
+     */
+    InboundFlowControl inboundFlowControl();
+
     void write( Message message, ResponseHandler handler );
 
     void write( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 );
@@ -29,6 +29,14 @@ public interface ConnectionPool
 
     void retainAll( Set<BoltServerAddress> addressesToRetain );
 
+    /**
+     * Open idle connections towards the given addresses, up to the configured minimum amount of idle connections.
+     *
+     * @param addresses the addresses of servers about to be used.
+     * @return stage completed when all connections are established.
+     */
+    CompletionStage<Void> warmUp( Set<BoltServerAddress> addresses );
+
     int inUseConnections( BoltServerAddress address );
 
     int idleConnections( BoltServerAddress address );
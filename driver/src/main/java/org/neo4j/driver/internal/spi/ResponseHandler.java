@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.util.RecordProjection;
 
 public interface ResponseHandler
 {
@@ -53,4 +54,14 @@ public interface ResponseHandler
     {
 
     }
+
+    /**
+     * Tells which fields of RECORD messages this response handler needs. Fields that are not needed are skipped while decoding.
+     *
+     * @return projection to apply to received records, or {@code null} when all fields are needed.
+     */
+    default RecordProjection recordProjection()
+    {
+        return null;
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ordered set of map keys shared by all maps with the same keys, like the property maps of nodes with the same label.
+ * Maps only keep their values in the order of the schema, see {@link SchemaMap}.
+ */
+public class KeySchema
+{
+    /**
+     * Schemas up to this size find keys with a linear scan, which is faster than hashing for few keys.
+     */
+    private static final int MAX_LINEAR_SCAN_SIZE = 8;
+
+    private final String[] keys;
+    private final Map<String,Integer> keyIndex;
+
+    private KeySchema( String[] keys, Map<String,Integer> keyIndex )
+    {
+        this.keys = keys;
+        this.keyIndex = keyIndex;
+    }
+
+    /**
+     * @param keys keys of the schema, the array is not copied and must not be modified afterwards.
+     * @return new schema, or {@code null} when the given keys contain duplicates.
+     */
+    public static KeySchema of( String[] keys )
+    {
+        if ( keys.length <= MAX_LINEAR_SCAN_SIZE )
+        {
+            for ( int i = 1; i < keys.length; i++ )
+            {
+                for ( int j = 0; j < i; j++ )
+                {
+                    if ( keys[i].equals( keys[j] ) )
+                    {
+                        return null;
+                    }
+                }
+            }
+            return new KeySchema( keys, null );
+        }
+
+        Map<String,Integer> keyIndex = Iterables.newHashMapWithSize( keys.length );
+        for ( int i = 0; i < keys.length; i++ )
+        {
+            if ( keyIndex.put( keys[i], i ) != null )
+            {
+                return null;
+            }
+        }
+        return new KeySchema( keys, keyIndex );
+    }
+
+    public int size()
+    {
+        return keys.length;
+    }
+
+    public String key( int index )
+    {
+        return keys[index];
+    }
+
+    public int indexOf( String key )
+    {
+        if ( keyIndex != null )
+        {
+            return keyIndex.getOrDefault( key, -1 );
+        }
+        for ( int i = 0; i < keys.length; i++ )
+        {
+            String candidate = keys[i];
+            if ( candidate == key || candidate.equals( key ) )
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param otherKeys keys to compare with, usually interned strings so that they are compared by reference.
+     * @return {@code true} when this schema has exactly the given keys in the given order.
+     */
+    public boolean matches( String[] otherKeys )
+    {
+        if ( keys.length != otherKeys.length )
+        {
+            return false;
+        }
+        for ( int i = 0; i < keys.length; i++ )
+        {
+            String key = keys[i];
+            String otherKey = otherKeys[i];
+            if ( key != otherKey && !key.equals( otherKey ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Small direct-mapped cache of recently used schemas, used while decoding many maps with the same keys.
+     * Not thread-safe, every decoder has its own.
+     */
+    public static class Cache
+    {
+        private static final int SLOTS = 16;
+
+        private final KeySchema[] schemas = new KeySchema[SLOTS];
+
+        /**
+         * @param keys keys of a decoded map, the array becomes part of the schema when no cached schema matches.
+         * @return schema with the given keys, or {@code null} when the given keys contain duplicates.
+         */
+        public KeySchema schemaFor( String[] keys )
+        {
+            int slot = (keys[0].hashCode() * 31 + keys.length) & (SLOTS - 1);
+            KeySchema cached = schemas[slot];
+            if ( cached != null && cached.matches( keys ) )
+            {
+                return cached;
+            }
+            KeySchema schema = of( keys );
+            if ( schema != null )
+            {
+                schemas[slot] = schema;
+            }
+            return schema;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.value.RetainedBytesValue;
+
+import static java.lang.String.format;
+
+/**
+ * Subset of the keys of a query result that records should be restricted to.
+ * <p>
+ * Projected fields keep the order they have in the query result. Fields that are not projected are skipped while
+ * decoding RECORD messages, see {@link org.neo4j.driver.internal.messaging.ValueUnpacker#unpackArray(RecordProjection)}.
+ */
+public class RecordProjection
+{
+    private final QueryKeys keys;
+    private final boolean[] included;
+
+    private RecordProjection( QueryKeys keys, boolean[] included )
+    {
+        this.keys = keys;
+        this.included = included;
+    }
+
+    public static RecordProjection of( QueryKeys queryKeys, List<String> projectedKeys )
+    {
+        List<String> allKeys = queryKeys.keys();
+        boolean[] included = new boolean[allKeys.size()];
+        for ( String key : projectedKeys )
+        {
+            Integer index = queryKeys.keyIndex().get( key );
+            if ( index == null )
+            {
+                throw new ClientException( format( "Unable to project unknown key '%s', available keys are: %s", key, allKeys ) );
+            }
+            included[index] = true;
+        }
+
+        List<String> keys = new ArrayList<>( projectedKeys.size() );
+        for ( int i = 0; i < included.length; i++ )
+        {
+            if ( included[i] )
+            {
+                keys.add( allKeys.get( i ) );
+            }
+        }
+        return new RecordProjection( new QueryKeys( keys ), included );
+    }
+
+    public QueryKeys keys()
+    {
+        return keys;
+    }
+
+    public int size()
+    {
+        return keys.keys().size();
+    }
+
+    public boolean includes( int index )
+    {
+        return index < included.length && included[index];
+    }
+
+    /**
+     * Create a record from the given fields. Fields are either already projected or contain all fields of the query result.
+     * The latter happens for records decoded before this projection was set, network buffers held by fields that are not projected are then released.
+     *
+     * @param fields projected or all fields.
+     * @return new projected record.
+     */
+    public Record newRecord( Value[] fields )
+    {
+        if ( fields.length == size() )
+        {
+            return new InternalRecord( keys, fields );
+        }
+        Value[] projected = new Value[size()];
+        int index = 0;
+        for ( int i = 0; i < fields.length; i++ )
+        {
+            if ( includes( i ) )
+            {
+                projected[index++] = fields[i];
+            }
+            else
+            {
+                RetainedBytesValue.release( fields[i] );
+            }
+        }
+        return new InternalRecord( keys, projected );
+    }
+
+    /**
+     * Restrict the given record to the projected keys.
+     *
+     * @param record record that contains projected or all fields.
+     * @return projected record.
+     */
+    public Record project( Record record )
+    {
+        if ( record == null || record.size() == size() )
+        {
+            return record;
+        }
+        Value[] projected = new Value[size()];
+        int index = 0;
+        for ( int i = 0; i < record.size(); i++ )
+        {
+            if ( includes( i ) )
+            {
+                projected[index++] = record.get( i );
+            }
+        }
+        return new InternalRecord( keys, projected );
+    }
+}
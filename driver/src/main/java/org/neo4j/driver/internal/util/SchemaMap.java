@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.neo4j.driver.Value;
+
+/**
+ * Immutable map that keeps its values in a plain array and shares its keys with all maps of the same {@link KeySchema}.
+ * It is much more compact than a {@link java.util.HashMap} when many maps have the same keys, like properties of nodes and relationships.
+ */
+public class SchemaMap extends AbstractMap<String,Value>
+{
+    private final KeySchema schema;
+    private final Value[] values;
+
+    /**
+     * @param schema keys of the map.
+     * @param values values of the map in the order of the schema keys, the array is not copied and must not be modified afterwards.
+     */
+    public SchemaMap( KeySchema schema, Value[] values )
+    {
+        if ( schema.size() != values.length )
+        {
+            throw new IllegalArgumentException( "Schema with " + schema.size() + " keys does not match " + values.length + " values" );
+        }
+        this.schema = schema;
+        this.values = values;
+    }
+
+    public KeySchema schema()
+    {
+        return schema;
+    }
+
+    @Override
+    public int size()
+    {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey( Object key )
+    {
+        return key instanceof String && schema.indexOf( (String) key ) >= 0;
+    }
+
+    @Override
+    public Value get( Object key )
+    {
+        if ( !(key instanceof String) )
+        {
+            return null;
+        }
+        int index = schema.indexOf( (String) key );
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public void forEach( BiConsumer<? super String,? super Value> action )
+    {
+        for ( int i = 0; i < values.length; i++ )
+        {
+            action.accept( schema.key( i ), values[i] );
+        }
+    }
+
+    @Override
+    public Set<Entry<String,Value>> entrySet()
+    {
+        return new AbstractSet<Entry<String,Value>>()
+        {
+            @Override
+            public Iterator<Entry<String,Value>> iterator()
+            {
+                return new Iterator<Entry<String,Value>>()
+                {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String,Value> next()
+                    {
+                        if ( !hasNext() )
+                        {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String,Value> entry = new SimpleImmutableEntry<>( schema.key( index ), values[index] );
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return values.length;
+            }
+        };
+    }
+}
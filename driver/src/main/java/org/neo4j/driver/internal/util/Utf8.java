@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+/**
+ * Computes UTF-8 encoded lengths of strings without encoding them. Lengths match {@link String#getBytes(java.nio.charset.Charset)}
+ * which replaces unpaired surrogates with a single {@code '?'} byte.
+ */
+public final class Utf8
+{
+    private Utf8()
+    {
+    }
+
+    /**
+     * @param value the string.
+     * @return number of bytes in the UTF-8 encoding of the given string.
+     */
+    public static int encodedLength( String value )
+    {
+        int length = value.length();
+        int index = 0;
+        // fast path for ASCII strings, one byte per character
+        while ( index < length && value.charAt( index ) < 0x80 )
+        {
+            index++;
+        }
+        int result = index;
+        while ( index < length )
+        {
+            int chars = codePointCharCount( value, index );
+            result += chars == 2 ? 4 : encodedLength( value.charAt( index ) );
+            index += chars;
+        }
+        return result;
+    }
+
+    /**
+     * @param value the string.
+     * @param index index of the first character of a code point.
+     * @return 2 if characters at the given index form a valid surrogate pair, 1 otherwise.
+     */
+    public static int codePointCharCount( String value, int index )
+    {
+        char c = value.charAt( index );
+        if ( Character.isHighSurrogate( c ) && index + 1 < value.length() && Character.isLowSurrogate( value.charAt( index + 1 ) ) )
+        {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * @param value the string.
+     * @param index index of the first character of a code point.
+     * @return number of bytes in the UTF-8 encoding of the code point at the given index.
+     */
+    public static int codePointEncodedLength( String value, int index )
+    {
+        return codePointCharCount( value, index ) == 2 ? 4 : encodedLength( value.charAt( index ) );
+    }
+
+    /**
+     * @param value the string.
+     * @param start index of the first character to check.
+     * @param end index after the last character to check.
+     * @return {@code true} when the given range contains a surrogate that is not part of a valid surrogate pair.
+     */
+    public static boolean hasUnpairedSurrogate( String value, int start, int end )
+    {
+        for ( int index = start; index < end; index++ )
+        {
+            char c = value.charAt( index );
+            if ( Character.isSurrogate( c ) )
+            {
+                if ( index + 1 < end && codePointCharCount( value, index ) == 2 )
+                {
+                    index++;
+                }
+                else
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int encodedLength( char c )
+    {
+        if ( c < 0x80 )
+        {
+            return 1;
+        }
+        else if ( c < 0x800 )
+        {
+            return 2;
+        }
+        else if ( Character.isSurrogate( c ) )
+        {
+            // unpaired surrogate is replaced with '?'
+            return 1;
+        }
+        return 3;
+    }
+}
@@ -18,6 +18,9 @@
  */
 package org.neo4j.driver.internal.value;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.neo4j.driver.internal.types.InternalTypeSystem;
@@ -60,6 +63,18 @@ public class BytesValue extends ValueAdapter
         return val;
     }
 
+    @Override
+    public ByteBuffer asByteBuffer()
+    {
+        return ByteBuffer.wrap( val ).asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream asInputStream()
+    {
+        return new ByteArrayInputStream( val );
+    }
+
     @Override
     public Type type()
     {
@@ -73,6 +88,11 @@ public class BytesValue extends ValueAdapter
         {
             return true;
         }
+        if ( o instanceof RetainedBytesValue )
+        {
+            // same content held in a network buffer
+            return o.equals( this );
+        }
         if ( o == null || getClass() != o.getClass() )
         {
             return false;
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.Entity;
+import org.neo4j.driver.types.IsoDuration;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Path;
+import org.neo4j.driver.types.Point;
+import org.neo4j.driver.types.Relationship;
+import org.neo4j.driver.types.Type;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A value that holds on to its PackStream encoding and is only decoded when first used.
+ * <p>
+ * Records materialize lazy values on access, so they are not expected to be seen outside of the driver.
+ * All methods still delegate to the decoded value to be safe when such a value escapes.
+ */
+public class LazyValue extends ValueAdapter
+{
+    private final byte[] encoded;
+    private final Decoder decoder;
+    private volatile Value decoded;
+
+    public LazyValue( byte[] encoded, Decoder decoder )
+    {
+        this.encoded = requireNonNull( encoded );
+        this.decoder = requireNonNull( decoder );
+    }
+
+    /**
+     * @return the decoded value, decoding happens at most once per thread that races to decode.
+     */
+    public Value decoded()
+    {
+        Value result = decoded;
+        if ( result == null )
+        {
+            result = decoder.decode( encoded );
+            decoded = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Value asValue()
+    {
+        return decoded();
+    }
+
+    @Override
+    public boolean isTrue()
+    {
+        return decoded().isTrue();
+    }
+
+    @Override
+    public boolean isFalse()
+    {
+        return decoded().isFalse();
+    }
+
+    @Override
+    public boolean isNull()
+    {
+        return decoded().isNull();
+    }
+
+    @Override
+    public boolean containsKey( String key )
+    {
+        return decoded().containsKey( key );
+    }
+
+    @Override
+    public String asString()
+    {
+        return decoded().asString();
+    }
+
+    @Override
+    public long asLong()
+    {
+        return decoded().asLong();
+    }
+
+    @Override
+    public int asInt()
+    {
+        return decoded().asInt();
+    }
+
+    @Override
+    public float asFloat()
+    {
+        return decoded().asFloat();
+    }
+
+    @Override
+    public double asDouble()
+    {
+        return decoded().asDouble();
+    }
+
+    @Override
+    public boolean asBoolean()
+    {
+        return decoded().asBoolean();
+    }
+
+    @Override
+    public long[] asLongArray()
+    {
+        return decoded().asLongArray();
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        return decoded().asDoubleArray();
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        return decoded().asBooleanArray();
+    }
+
+    @Override
+    public List<Object> asList()
+    {
+        return decoded().asList();
+    }
+
+    @Override
+    public <T> List<T> asList( Function<Value,T> mapFunction )
+    {
+        return decoded().asList( mapFunction );
+    }
+
+    @Override
+    public Map<String,Object> asMap()
+    {
+        return decoded().asMap();
+    }
+
+    @Override
+    public <T> Map<String,T> asMap( Function<Value,T> mapFunction )
+    {
+        return decoded().asMap( mapFunction );
+    }
+
+    @Override
+    public Object asObject()
+    {
+        return decoded().asObject();
+    }
+
+    @Override
+    public byte[] asByteArray()
+    {
+        return decoded().asByteArray();
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer()
+    {
+        return decoded().asByteBuffer();
+    }
+
+    @Override
+    public InputStream asInputStream()
+    {
+        return decoded().asInputStream();
+    }
+
+    @Override
+    public Number asNumber()
+    {
+        return decoded().asNumber();
+    }
+
+    @Override
+    public Entity asEntity()
+    {
+        return decoded().asEntity();
+    }
+
+    @Override
+    public Node asNode()
+    {
+        return decoded().asNode();
+    }
+
+    @Override
+    public Path asPath()
+    {
+        return decoded().asPath();
+    }
+
+    @Override
+    public Relationship asRelationship()
+    {
+        return decoded().asRelationship();
+    }
+
+    @Override
+    public LocalDate asLocalDate()
+    {
+        return decoded().asLocalDate();
+    }
+
+    @Override
+    public OffsetTime asOffsetTime()
+    {
+        return decoded().asOffsetTime();
+    }
+
+    @Override
+    public LocalTime asLocalTime()
+    {
+        return decoded().asLocalTime();
+    }
+
+    @Override
+    public LocalDateTime asLocalDateTime()
+    {
+        return decoded().asLocalDateTime();
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTime()
+    {
+        return decoded().asOffsetDateTime();
+    }
+
+    @Override
+    public ZonedDateTime asZonedDateTime()
+    {
+        return decoded().asZonedDateTime();
+    }
+
+    @Override
+    public IsoDuration asIsoDuration()
+    {
+        return decoded().asIsoDuration();
+    }
+
+    @Override
+    public Point asPoint()
+    {
+        return decoded().asPoint();
+    }
+
+    @Override
+    public Value get( int index )
+    {
+        return decoded().get( index );
+    }
+
+    @Override
+    public Value get( String key )
+    {
+        return decoded().get( key );
+    }
+
+    @Override
+    public int size()
+    {
+        return decoded().size();
+    }
+
+    @Override
+    public Iterable<String> keys()
+    {
+        return decoded().keys();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return decoded().isEmpty();
+    }
+
+    @Override
+    public Iterable<Value> values()
+    {
+        return decoded().values();
+    }
+
+    @Override
+    public <T> Iterable<T> values( Function<Value,T> mapFunction )
+    {
+        return decoded().values( mapFunction );
+    }
+
+    @Override
+    public Type type()
+    {
+        return decoded().type();
+    }
+
+    @Override
+    public boolean equals( Object obj )
+    {
+        if ( obj instanceof LazyValue )
+        {
+            obj = ((LazyValue) obj).decoded();
+        }
+        return decoded().equals( obj );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return decoded().hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return decoded().toString();
+    }
+
+    public interface Decoder
+    {
+        Value decode( byte[] encoded );
+    }
+}
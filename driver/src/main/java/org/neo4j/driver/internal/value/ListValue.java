@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.value;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -29,6 +30,7 @@ import org.neo4j.driver.Values;
 import org.neo4j.driver.types.Type;
 import java.util.function.Function;
 
+import static java.util.Collections.unmodifiableList;
 import static org.neo4j.driver.Values.ofObject;
 
 public class ListValue extends ValueAdapter
@@ -44,10 +46,35 @@ public class ListValue extends ValueAdapter
         this.values = values;
     }
 
+    /**
+     * Constructor for lists backed by primitive arrays. Such lists override {@link #size()} and {@link #element(int)}.
+     */
+    ListValue()
+    {
+        this.values = null;
+    }
+
+    /**
+     * @param index index of the element, between 0 and {@link #size()}.
+     * @return the element at the given index.
+     */
+    protected Value element( int index )
+    {
+        return values[index];
+    }
+
+    /**
+     * @return the backing array without copying, {@code null} for lists backed by primitive arrays.
+     */
+    Value[] elementArray()
+    {
+        return values;
+    }
+
     @Override
     public boolean isEmpty()
     {
-        return values.length == 0;
+        return size() == 0;
     }
 
     @Override
@@ -59,13 +86,56 @@ public class ListValue extends ValueAdapter
     @Override
     public List<Object> asList()
     {
-        return Extract.list( values, ofObject() );
+        return asList( ofObject() );
     }
 
     @Override
     public <T> List<T> asList( Function<Value,T> mapFunction )
     {
-        return Extract.list( values, mapFunction );
+        if ( values != null )
+        {
+            return Extract.list( values, mapFunction );
+        }
+        int size = size();
+        List<T> result = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            result.add( mapFunction.apply( element( i ) ) );
+        }
+        return unmodifiableList( result );
+    }
+
+    @Override
+    public long[] asLongArray()
+    {
+        long[] result = new long[size()];
+        for ( int i = 0; i < result.length; i++ )
+        {
+            result[i] = element( i ).asLong();
+        }
+        return result;
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        double[] result = new double[size()];
+        for ( int i = 0; i < result.length; i++ )
+        {
+            result[i] = element( i ).asDouble();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        boolean[] result = new boolean[size()];
+        for ( int i = 0; i < result.length; i++ )
+        {
+            result[i] = element( i ).asBoolean();
+        }
+        return result;
     }
 
     @Override
@@ -77,7 +147,7 @@ public class ListValue extends ValueAdapter
     @Override
     public Value get( int index )
     {
-        return index >= 0 && index < values.length ? values[index] : Values.NULL;
+        return index >= 0 && index < size() ? element( index ) : Values.NULL;
     }
 
     @Override
@@ -95,13 +165,13 @@ public class ListValue extends ValueAdapter
                     @Override
                     public boolean hasNext()
                     {
-                        return cursor < values.length;
+                        return cursor < size();
                     }
 
                     @Override
                     public T next()
                     {
-                        return mapFunction.apply( values[cursor++] );
+                        return mapFunction.apply( element( cursor++ ) );
                     }
 
                     @Override
@@ -122,7 +192,20 @@ public class ListValue extends ValueAdapter
     @Override
     public String toString()
     {
-        return Arrays.toString( values );
+        if ( values != null )
+        {
+            return Arrays.toString( values );
+        }
+        StringBuilder result = new StringBuilder( "[" );
+        for ( int i = 0; i < size(); i++ )
+        {
+            if ( i > 0 )
+            {
+                result.append( ", " );
+            }
+            result.append( element( i ) );
+        }
+        return result.append( ']' ).toString();
     }
 
     @Override
@@ -132,15 +215,35 @@ public class ListValue extends ValueAdapter
         {
             return true;
         }
-        if ( o == null || getClass() != o.getClass() )
+        if ( !(o instanceof ListValue) )
         {
             return false;
         }
 
         ListValue otherValues = (ListValue) o;
-        return Arrays.equals( values, otherValues.values );
+        if ( values != null && otherValues.values != null )
+        {
+            return Arrays.equals( values, otherValues.values );
+        }
+        int size = size();
+        if ( size != otherValues.size() )
+        {
+            return false;
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( !element( i ).equals( otherValues.element( i ) ) )
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Primitive lists compute the same hash code from their primitive elements,
+     * {@link Arrays#hashCode(long[])} and friends combine element hashes exactly like the corresponding values do.
+     */
     @Override
     public int hashCode()
     {
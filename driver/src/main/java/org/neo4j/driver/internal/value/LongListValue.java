@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import java.util.Arrays;
+
+import org.neo4j.driver.Value;
+
+/**
+ * List of longs backed by a primitive array. Elements are only turned into {@link Value values} when accessed one by one.
+ */
+public class LongListValue extends ListValue
+{
+    private final long[] values;
+
+    /**
+     * @param values elements of the list, the array is not copied and must not be modified afterwards.
+     */
+    public LongListValue( long[] values )
+    {
+        if ( values == null )
+        {
+            throw new IllegalArgumentException( "Cannot construct LongListValue from null" );
+        }
+        this.values = values;
+    }
+
+    @Override
+    protected Value element( int index )
+    {
+        return new IntegerValue( values[index] );
+    }
+
+    /**
+     * @return the backing array without copying, must not be modified.
+     */
+    public long[] array()
+    {
+        return values;
+    }
+
+    @Override
+    public int size()
+    {
+        return values.length;
+    }
+
+    @Override
+    public long[] asLongArray()
+    {
+        return values.clone();
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString( values );
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( o instanceof LongListValue )
+        {
+            return Arrays.equals( values, ((LongListValue) o).values );
+        }
+        return super.equals( o );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode( values );
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.Type;
+import org.neo4j.driver.util.Resource;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Byte array value that holds on to a retained slice of an inbound network buffer instead of a copy of the bytes.
+ * Network buffer is released when this value is {@link #close() closed}. Value can't be used after it has been closed.
+ */
+public class RetainedBytesValue extends ValueAdapter implements Resource
+{
+    // no instance is created unless the inbound retained bytes threshold is enabled, release walks are then skipped
+    private static volatile boolean created;
+
+    private final ByteBuf buf;
+    private final AtomicBoolean open = new AtomicBoolean( true );
+    private final int hashCode;
+
+    public RetainedBytesValue( ByteBuf buf )
+    {
+        this.buf = requireNonNull( buf );
+        this.hashCode = contentHashCode( buf );
+        if ( !created )
+        {
+            created = true;
+        }
+    }
+
+    /**
+     * @return {@code false} when no value of this type was ever created, dropped values then hold no network buffers and need no release.
+     */
+    public static boolean mayExist()
+    {
+        return created;
+    }
+
+    /**
+     * Release network buffers held by the fields of the given record, including values nested in lists and maps. Lazy fields are not decoded,
+     * they hold a copy of their encoding and no network buffer.
+     *
+     * @param record the record to release, can be {@code null}.
+     */
+    public static void releaseAll( Record record )
+    {
+        if ( record == null || !created )
+        {
+            return;
+        }
+        if ( record instanceof InternalRecord )
+        {
+            releaseAll( ((InternalRecord) record).rawValues() );
+        }
+        else
+        {
+            for ( Value value : record.values() )
+            {
+                release( value );
+            }
+        }
+    }
+
+    /**
+     * Release network buffers held by the given values, including values nested in lists and maps. Used when the driver drops
+     * received fields that were never handed over to the user. Values that are already released are skipped.
+     *
+     * @param values the values to release, can be {@code null}.
+     */
+    public static void releaseAll( Value[] values )
+    {
+        if ( values != null && created )
+        {
+            for ( Value value : values )
+            {
+                release( value );
+            }
+        }
+    }
+
+    /**
+     * Release network buffers held by the given value, including values nested in lists and maps. Lists backed by primitive arrays and lazy
+     * values are skipped without touching their elements, they can't hold network buffers.
+     *
+     * @param value the value to release, can be {@code null}.
+     */
+    public static void release( Value value )
+    {
+        if ( !created )
+        {
+            return;
+        }
+        if ( value instanceof RetainedBytesValue )
+        {
+            RetainedBytesValue bytes = (RetainedBytesValue) value;
+            if ( bytes.open.compareAndSet( true, false ) )
+            {
+                bytes.buf.release();
+            }
+        }
+        else if ( value instanceof ListValue )
+        {
+            releaseAll( ((ListValue) value).elementArray() );
+        }
+        else if ( value instanceof MapValue )
+        {
+            for ( Value element : value.values() )
+            {
+                release( element );
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return buf.readableBytes();
+    }
+
+    @Override
+    public byte[] asObject()
+    {
+        return asByteArray();
+    }
+
+    @Override
+    public byte[] asByteArray()
+    {
+        assertOpen();
+        return ByteBufUtil.getBytes( buf );
+    }
+
+    /**
+     * Returns a read-only view of the network buffer. Bytes are copied once when they span multiple chunks of the inbound message,
+     * use {@link #asInputStream()} to avoid this copy.
+     */
+    @Override
+    public ByteBuffer asByteBuffer()
+    {
+        assertOpen();
+        return buf.nioBuffer().asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream asInputStream()
+    {
+        assertOpen();
+        return new ByteBufInputStream( buf.duplicate() );
+    }
+
+    @Override
+    public Type type()
+    {
+        return InternalTypeSystem.TYPE_SYSTEM.BYTES();
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return open.get();
+    }
+
+    @Override
+    public void close()
+    {
+        if ( !open.compareAndSet( true, false ) )
+        {
+            throw new IllegalStateException( "Byte array value has already been released" );
+        }
+        buf.release();
+    }
+
+    /**
+     * Equal to any other byte array value with the same content, like {@link BytesValue}. Comparing a released value fails.
+     */
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( !(o instanceof Value) || !((Value) o).hasType( InternalTypeSystem.TYPE_SYSTEM.BYTES() ) )
+        {
+            return false;
+        }
+
+        assertOpen();
+        if ( o instanceof RetainedBytesValue )
+        {
+            RetainedBytesValue that = (RetainedBytesValue) o;
+            that.assertOpen();
+            return ByteBufUtil.equals( buf, that.buf );
+        }
+        return ByteBufUtil.equals( buf, Unpooled.wrappedBuffer( ((Value) o).asByteArray() ) );
+    }
+
+    /**
+     * Same as {@link BytesValue#hashCode()} for the same content, computed when created so that it does not change once released.
+     */
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return isOpen() ? "#" + ByteBufUtil.hexDump( buf ) : "#<released>";
+    }
+
+    // same as Arrays.hashCode(byte[]) of the readable bytes
+    private static int contentHashCode( ByteBuf buf )
+    {
+        int result = 1;
+        for ( int i = buf.readerIndex(); i < buf.writerIndex(); i++ )
+        {
+            result = 31 * result + buf.getByte( i );
+        }
+        return result;
+    }
+
+    private void assertOpen()
+    {
+        if ( !isOpen() )
+        {
+            throw new IllegalStateException( "Byte array value has already been released" );
+        }
+    }
+}
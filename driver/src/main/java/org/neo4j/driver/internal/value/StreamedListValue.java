@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.Type;
+
+/**
+ * List whose elements are produced by an iterator while the list is being sent, so that very large lists never have to be fully held in memory.
+ * The elements can only be consumed once and are never kept by this value.
+ */
+public class StreamedListValue extends ValueAdapter
+{
+    private final int size;
+    private final Iterator<?> elements;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    public StreamedListValue( int size, Iterator<?> elements )
+    {
+        if ( size < 0 )
+        {
+            throw new IllegalArgumentException( "Size of a streamed list should be >= 0, given: " + size );
+        }
+        if ( elements == null )
+        {
+            throw new IllegalArgumentException( "Cannot construct StreamedListValue from null" );
+        }
+        this.size = size;
+        this.elements = elements;
+    }
+
+    /**
+     * Take the elements of this list. The returned iterator converts elements to values one by one and produces exactly {@link #size()} of them.
+     *
+     * @return iterator over the elements.
+     * @throws ClientException when elements were already taken, or when the underlying iterator does not produce the declared number of elements.
+     */
+    public Iterator<Value> takeElements()
+    {
+        if ( !consumed.compareAndSet( false, true ) )
+        {
+            throw new ClientException( "Streamed list can only be sent once, its elements have already been consumed" );
+        }
+        return new Iterator<Value>()
+        {
+            private int produced;
+
+            @Override
+            public boolean hasNext()
+            {
+                boolean hasNext = elements.hasNext();
+                if ( hasNext && produced == size )
+                {
+                    throw new ClientException( "Streamed list produced more elements than its declared size " + size );
+                }
+                if ( !hasNext && produced < size )
+                {
+                    throw new ClientException( "Streamed list produced " + produced + " elements but its declared size is " + size );
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Value next()
+            {
+                if ( !hasNext() )
+                {
+                    throw new NoSuchElementException();
+                }
+                produced++;
+                return Values.value( elements.next() );
+            }
+        };
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public Type type()
+    {
+        return InternalTypeSystem.TYPE_SYSTEM.LIST();
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return System.identityHashCode( this );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[streamed list of " + size + " elements]";
+    }
+}
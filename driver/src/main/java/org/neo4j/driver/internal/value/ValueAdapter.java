@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.value;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -281,6 +283,36 @@ public abstract class ValueAdapter extends InternalMapAccessorWithDefaultValue i
         throw new Uncoercible( type().name(), "Byte array" );
     }
 
+    @Override
+    public ByteBuffer asByteBuffer()
+    {
+        throw new Uncoercible( type().name(), "Byte buffer" );
+    }
+
+    @Override
+    public InputStream asInputStream()
+    {
+        throw new Uncoercible( type().name(), "Input stream" );
+    }
+
+    @Override
+    public long[] asLongArray()
+    {
+        throw new Uncoercible( type().name(), "Java long array" );
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        throw new Uncoercible( type().name(), "Java double array" );
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        throw new Uncoercible( type().name(), "Java boolean array" );
+    }
+
     @Override
     public Number asNumber()
     {
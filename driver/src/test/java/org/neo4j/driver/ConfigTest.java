@@ -20,6 +20,7 @@ package org.neo4j.driver;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
@@ -221,6 +222,22 @@ class ConfigTest
         assertEquals( "Zero value is not supported", e.getMessage() );
     }
 
+    @Test
+    void shouldConfigureIdleConnectionValidationInterval()
+    {
+        assertEquals( -1, Config.defaultConfig().idleConnectionValidationIntervalMillis() );
+        assertEquals( 10_000, Config.builder().withIdleConnectionValidationInterval( 10, TimeUnit.SECONDS ).build().idleConnectionValidationIntervalMillis() );
+        assertEquals( -1, Config.builder().withIdleConnectionValidationInterval( 0, TimeUnit.SECONDS ).build().idleConnectionValidationIntervalMillis() );
+    }
+
+    @Test
+    void shouldConfigureMinIdleConnections()
+    {
+        assertEquals( 0, Config.defaultConfig().minIdleConnections() );
+        assertEquals( 5, Config.builder().withMinIdleConnections( 5 ).build().minIdleConnections() );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withMinIdleConnections( -1 ) );
+    }
+
     @Test
     void shouldHaveCorrectDefaultConnectionAcquisitionTimeout()
     {
@@ -316,6 +333,124 @@ class ConfigTest
         assertThrows( IllegalArgumentException.class, () -> Config.builder().withEventLoopThreads( value ).build() );
     }
 
+    @Test
+    void shouldUseNioTransportByDefault()
+    {
+        assertThat( Config.defaultConfig().networkTransport(), equalTo( Config.NetworkTransport.NIO ) );
+    }
+
+    @ParameterizedTest
+    @EnumSource( Config.NetworkTransport.class )
+    void shouldChangeNetworkTransport( Config.NetworkTransport transport )
+    {
+        Config config = Config.builder().withNetworkTransport( transport ).build();
+        assertThat( config.networkTransport(), equalTo( transport ) );
+    }
+
+    @Test
+    void shouldUseDefaultSocketSettings()
+    {
+        Config config = Config.defaultConfig();
+        assertTrue( config.tcpNoDelay() );
+        assertEquals( 0, config.socketReceiveBufferSize() );
+        assertEquals( 0, config.socketSendBufferSize() );
+        assertEquals( 0, config.writeBufferLowWatermark() );
+        assertEquals( 0, config.writeBufferHighWatermark() );
+        assertEquals( 0, config.readBufferMaximumSize() );
+        assertEquals( Config.BufferAllocator.DEFAULT, config.bufferAllocator() );
+        assertEquals( Config.BufferLeakDetection.DEFAULT, config.bufferLeakDetection() );
+    }
+
+    @Test
+    void shouldChangeSocketSettings()
+    {
+        Config config = Config.builder()
+                .withTcpNoDelay( false )
+                .withSocketReceiveBufferSize( 1024 )
+                .withSocketSendBufferSize( 2048 )
+                .withWriteBufferWatermarks( 8192, 65536 )
+                .withAdaptiveReadBufferSize( 64, 1024, 4096 )
+                .withBufferAllocator( Config.BufferAllocator.UNPOOLED_HEAP )
+                .withBufferLeakDetection( Config.BufferLeakDetection.PARANOID )
+                .build();
+
+        assertFalse( config.tcpNoDelay() );
+        assertEquals( 1024, config.socketReceiveBufferSize() );
+        assertEquals( 2048, config.socketSendBufferSize() );
+        assertEquals( 8192, config.writeBufferLowWatermark() );
+        assertEquals( 65536, config.writeBufferHighWatermark() );
+        assertEquals( 64, config.readBufferMinimumSize() );
+        assertEquals( 1024, config.readBufferInitialSize() );
+        assertEquals( 4096, config.readBufferMaximumSize() );
+        assertEquals( Config.BufferAllocator.UNPOOLED_HEAP, config.bufferAllocator() );
+        assertEquals( Config.BufferLeakDetection.PARANOID, config.bufferLeakDetection() );
+    }
+
+    @Test
+    void shouldUseSameSizesForFixedReadBuffer()
+    {
+        Config config = Config.builder().withFixedReadBufferSize( 16384 ).build();
+        assertEquals( 16384, config.readBufferMinimumSize() );
+        assertEquals( 16384, config.readBufferInitialSize() );
+        assertEquals( 16384, config.readBufferMaximumSize() );
+    }
+
+    @Test
+    void shouldErrorWithInvalidSocketSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withSocketReceiveBufferSize( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withSocketSendBufferSize( -1 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withWriteBufferWatermarks( 0, 10 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withWriteBufferWatermarks( 20, 10 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withFixedReadBufferSize( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withAdaptiveReadBufferSize( 64, 32, 128 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withAdaptiveReadBufferSize( 64, 128, 96 ) );
+        assertThrows( NullPointerException.class, () -> Config.builder().withBufferAllocator( null ) );
+    }
+
+    @Test
+    void shouldDisableFlushConsolidationByDefault()
+    {
+        assertFalse( Config.defaultConfig().flushConsolidation() );
+        assertTrue( Config.builder().withFlushConsolidation( true ).build().flushConsolidation() );
+    }
+
+    @Test
+    void shouldNotPipelineTransactionFunctionsByDefault()
+    {
+        assertFalse( Config.defaultConfig().pipelinedTransactionFunctions() );
+        assertTrue( Config.builder().withPipelinedTransactionFunctions( true ).build().pipelinedTransactionFunctions() );
+    }
+
+    @Test
+    void shouldConfigureRecordBufferWatermarks()
+    {
+        Config defaultConfig = Config.defaultConfig();
+        assertEquals( 1024 * 1024, defaultConfig.recordBufferLowWatermark() );
+        assertEquals( 4 * 1024 * 1024, defaultConfig.recordBufferHighWatermark() );
+
+        Config config = Config.builder().withRecordBufferWatermarks( 0, 1024 ).build();
+        assertEquals( 0, config.recordBufferLowWatermark() );
+        assertEquals( 1024, config.recordBufferHighWatermark() );
+
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRecordBufferWatermarks( -1, 1024 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRecordBufferWatermarks( 0, 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRecordBufferWatermarks( 2048, 1024 ) );
+    }
+
+    @Test
+    void shouldConfigureCompression()
+    {
+        assertFalse( Config.defaultConfig().isCompressionEnabled() );
+
+        Config config = Config.builder().withCompression( 512 ).build();
+        assertTrue( config.isCompressionEnabled() );
+        assertEquals( 512, config.compressionMinimumMessageSize() );
+
+        assertFalse( Config.builder().withCompression( 512 ).withoutCompression().build().isCompressionEnabled() );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withCompression( -1 ) );
+    }
+
     @Test
     void shouldChangeUserAgent()
     {
@@ -23,7 +23,11 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.neo4j.driver.internal.InternalPreparedQuery;
+
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.driver.Values.parameters;
@@ -114,6 +118,33 @@ class QueryTest
         assertThat( query.parameters(), equalTo( parameters( "a", 0, "c", 3 ) ) );
     }
 
+    @Test
+    void shouldKeepQueryPreparedWhenReplacingParameters()
+    {
+        // Given
+        Query query = new Query( "MATCH (n) WHERE n.name = $name RETURN n" ).prepare();
+
+        // When
+        Query withParameters = query.withParameters( parameters( "name", "Alice" ) );
+        Query withUpdatedParameters = withParameters.withUpdatedParameters( parameters( "age", 42 ) );
+
+        // Then
+        assertThat( withParameters, instanceOf( InternalPreparedQuery.class ) );
+        assertThat( withUpdatedParameters, instanceOf( InternalPreparedQuery.class ) );
+        assertThat( ((InternalPreparedQuery) withUpdatedParameters).encodedText(), sameInstance( ((InternalPreparedQuery) query).encodedText() ) );
+        assertThat( withUpdatedParameters.parameters(), equalTo( parameters( "name", "Alice", "age", 42 ) ) );
+    }
+
+    @Test
+    void shouldBeEqualToUnpreparedQuery()
+    {
+        Query query = new Query( "RETURN $x", parameters( "x", 1 ) );
+
+        assertThat( query.prepare(), equalTo( query ) );
+        assertThat( query, equalTo( query.prepare() ) );
+        assertThat( query.prepare().hashCode(), equalTo( query.hashCode() ) );
+    }
+
     @Test
     void shouldProhibitNullQuery()
     {
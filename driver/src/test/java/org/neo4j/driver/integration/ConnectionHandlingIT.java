@@ -454,7 +454,7 @@ class ConnectionHandlingIT
                     config.connectionAcquisitionTimeoutMillis(), config.maxConnectionLifetimeMillis(),
                     config.idleTimeBeforeConnectionTest() );
             Clock clock = createClock();
-            ChannelConnector connector = super.createConnector( connectionSettings, securityPlan, config, clock, routingContext );
+            ChannelConnector connector = super.createConnector( connectionSettings, securityPlan, config, clock, routingContext, DEV_NULL_METRICS );
             connectionPool = new MemorizingConnectionPool( connector, bootstrap, poolSettings, config.logging(), clock, ownsEventLoopGroup );
             return connectionPool;
         }
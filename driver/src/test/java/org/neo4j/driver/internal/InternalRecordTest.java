@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.neo4j.driver.internal.util.Extract;
+import org.neo4j.driver.internal.value.LazyValue;
 import org.neo4j.driver.internal.value.NullValue;
 import org.neo4j.driver.Value;
 import java.util.function.Function;
@@ -35,6 +36,7 @@ import java.util.function.Function;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -221,6 +223,19 @@ class InternalRecordTest
         assertThat( appendedValues, equalTo( Arrays.asList( values ) ) );
     }
 
+    @Test
+    void shouldMaterializeLazyValuesOnAccess()
+    {
+        Value list = value( Arrays.asList( 1, 2 ) );
+        LazyValue lazy = new LazyValue( new byte[0], encoded -> list );
+        InternalRecord record = new InternalRecord( Arrays.asList( "k1", "k2" ), new Value[]{lazy, lazy} );
+
+        assertThat( record.get( 0 ), sameInstance( list ) );
+        assertThat( record.get( "k2" ), sameInstance( list ) );
+        assertThat( record.values(), contains( list, list ) );
+        assertThat( record, equalTo( new InternalRecord( Arrays.asList( "k1", "k2" ), new Value[]{list, list} ) ) );
+    }
+
     private InternalRecord createRecord()
     {
         List<String> keys = Arrays.asList( "k1", "k2" );
@@ -29,6 +29,7 @@ import java.util.function.Function;
 
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Query;
+import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
@@ -81,6 +82,35 @@ class AsyncResultCursorImplTest
         assertEquals( keys, cursor.keys() );
     }
 
+    @Test
+    void shouldReturnProjectedRecords()
+    {
+        RunResponseHandler runHandler = newRunResponseHandler();
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+        runHandler.onSuccess( singletonMap( "fields", value( asList( "key1", "key2", "key3" ) ) ) );
+
+        Record bufferedRecord = new InternalRecord( asList( "key1", "key2", "key3" ), values( 1, 2, 3 ) );
+        when( pullAllHandler.nextAsync() ).thenReturn( completedFuture( bufferedRecord ) );
+
+        AsyncResultCursorImpl cursor = newCursor( runHandler, pullAllHandler );
+        cursor.project( "key3", "key1" );
+
+        assertEquals( asList( "key1", "key3" ), cursor.keys() );
+        assertEquals( new InternalRecord( asList( "key1", "key3" ), values( 1, 3 ) ), await( cursor.nextAsync() ) );
+    }
+
+    @Test
+    void shouldNotAllowProjectingTwice()
+    {
+        RunResponseHandler runHandler = newRunResponseHandler();
+        runHandler.onSuccess( singletonMap( "fields", value( asList( "key1", "key2" ) ) ) );
+
+        AsyncResultCursorImpl cursor = newCursor( runHandler, mock( PullAllResponseHandler.class ) );
+        cursor.project( "key1" );
+
+        assertThrows( ClientException.class, () -> cursor.project( "key2" ) );
+    }
+
     @Test
     void shouldReturnSummary()
     {
@@ -218,6 +218,19 @@ class NetworkConnectionTest
         assertEquals( PULL_ALL, single( channel.outboundMessages() ) );
     }
 
+    @Test
+    void shouldWriteAndFlushWithoutSubmittingTaskWhenCalledInEventLoop()
+    {
+        EmbeddedChannel channel = newChannel();
+        NetworkConnection connection = newConnection( channel );
+
+        // embedded channel considers every thread to be its event loop
+        connection.writeAndFlush( PULL_ALL, NO_OP_HANDLER );
+
+        assertEquals( 1, channel.outboundMessages().size() );
+        assertEquals( PULL_ALL, single( channel.outboundMessages() ) );
+    }
+
     @Test
     void shouldWriteAndFlushMultipleMessage()
     {
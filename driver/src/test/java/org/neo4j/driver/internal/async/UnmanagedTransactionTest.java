@@ -18,11 +18,13 @@
  */
 package org.neo4j.driver.internal.async;
 
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InOrder;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import org.neo4j.driver.Bookmark;
@@ -31,8 +33,13 @@ import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.DefaultBookmarkHolder;
 import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
 import org.neo4j.driver.internal.messaging.request.PullAllMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.messaging.request.RunMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
@@ -50,6 +57,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.util.TestUtil.await;
 import static org.neo4j.driver.util.TestUtil.connectionMock;
 import static org.neo4j.driver.util.TestUtil.runMessageWithQueryMatcher;
@@ -131,6 +139,69 @@ class UnmanagedTransactionTest
         verify( connection, never() ).write( any(), any(), any(), any() );
     }
 
+    @Test
+    void shouldOnlyQueueBeginOfPipelinedTransactionWhenBookmarkGiven()
+    {
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarkHolder(), 1000, true );
+
+        await( tx.beginAsync( InternalBookmark.parse( "SomeBookmark" ), TransactionConfig.empty() ) );
+
+        verify( connection ).write( any( BeginMessage.class ), any() );
+        verify( connection, never() ).writeAndFlush( any(), any() );
+    }
+
+    @Test
+    void shouldSendCommitOfPipelinedTransactionBeforeResultsAreConsumed()
+    {
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarkHolder(), 1000, true );
+        await( tx.beginAsync( InternalBookmark.empty(), TransactionConfig.empty() ) );
+        await( tx.runAsync( new Query( "RETURN 1" ), false ) );
+
+        CompletionStage<Void> commitStage = tx.commitAsync();
+
+        assertFalse( commitStage.toCompletableFuture().isDone() );
+        InOrder order = inOrder( connection );
+        order.verify( connection ).write( any( BeginMessage.class ), any() );
+        order.verify( connection ).write( any( RunWithMetadataMessage.class ), any() );
+        order.verify( connection ).writeAndFlush( eq( PullMessage.PULL_ALL ), any() );
+        order.verify( connection ).writeAndFlush( eq( CommitMessage.COMMIT ), any() );
+    }
+
+    @Test
+    void shouldFailCommitOfPipelinedTransactionWithBeginErrorWhenFollowingRequestsAreIgnored()
+    {
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        InboundMessageDispatcher dispatcher = new InboundMessageDispatcher( new EmbeddedChannel(), DEV_NULL_LOGGING );
+        doAnswer( invocation ->
+        {
+            dispatcher.enqueue( invocation.getArgument( 1 ) );
+            return null;
+        } ).when( connection ).write( any(), any() );
+        doAnswer( invocation ->
+        {
+            dispatcher.enqueue( invocation.getArgument( 1 ) );
+            return null;
+        } ).when( connection ).writeAndFlush( any(), any() );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarkHolder(), 1000, true );
+        await( tx.beginAsync( InternalBookmark.parse( "SomeBookmark" ), TransactionConfig.empty() ) );
+        await( tx.runAsync( new Query( "RETURN 1" ), false ) );
+        CompletionStage<Void> commitStage = tx.commitAsync();
+
+        // BEGIN fails, the pipelined RUN, PULL and COMMIT are ignored
+        dispatcher.handleFailureMessage( "Neo.ClientError.Transaction.InvalidBookmark", "Wrong bookmark!" );
+        dispatcher.handleIgnoredMessage();
+        dispatcher.handleIgnoredMessage();
+        dispatcher.handleIgnoredMessage();
+
+        ClientException e = assertThrows( ClientException.class, () -> await( commitStage ) );
+        assertEquals( "Neo.ClientError.Transaction.InvalidBookmark", e.code() );
+        assertEquals( "Wrong bookmark!", e.getMessage() );
+        assertFalse( tx.isOpen() );
+        verify( connection ).release();
+    }
+
     @Test
     void shouldBeOpenAfterConstruction()
     {
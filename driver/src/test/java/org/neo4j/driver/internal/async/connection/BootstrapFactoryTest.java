@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.ResourceLeakDetector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import org.neo4j.driver.Config;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BootstrapFactoryTest
+{
+    private final NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup( 1 );
+
+    @AfterEach
+    void tearDown()
+    {
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    @Test
+    void shouldOnlyDisableNagleByDefault()
+    {
+        Bootstrap bootstrap = BootstrapFactory.newBootstrap( eventLoopGroup );
+
+        BootstrapFactory.configure( bootstrap, Config.defaultConfig() );
+
+        Map<ChannelOption<?>,Object> options = bootstrap.config().options();
+        assertEquals( true, options.get( ChannelOption.TCP_NODELAY ) );
+        assertFalse( options.containsKey( ChannelOption.SO_RCVBUF ) );
+        assertFalse( options.containsKey( ChannelOption.SO_SNDBUF ) );
+        assertFalse( options.containsKey( ChannelOption.WRITE_BUFFER_WATER_MARK ) );
+        assertFalse( options.containsKey( ChannelOption.RCVBUF_ALLOCATOR ) );
+        assertFalse( options.containsKey( ChannelOption.ALLOCATOR ) );
+    }
+
+    @Test
+    void shouldApplyConfiguredSocketSettings()
+    {
+        Bootstrap bootstrap = BootstrapFactory.newBootstrap( eventLoopGroup );
+        Config config = Config.builder()
+                .withTcpNoDelay( false )
+                .withSocketReceiveBufferSize( 1024 )
+                .withSocketSendBufferSize( 2048 )
+                .withWriteBufferWatermarks( 8192, 65536 )
+                .withFixedReadBufferSize( 16384 )
+                .withBufferAllocator( Config.BufferAllocator.UNPOOLED_HEAP )
+                .build();
+
+        BootstrapFactory.configure( bootstrap, config );
+
+        Map<ChannelOption<?>,Object> options = bootstrap.config().options();
+        assertEquals( false, options.get( ChannelOption.TCP_NODELAY ) );
+        assertEquals( 1024, options.get( ChannelOption.SO_RCVBUF ) );
+        assertEquals( 2048, options.get( ChannelOption.SO_SNDBUF ) );
+        WriteBufferWaterMark waterMark = (WriteBufferWaterMark) options.get( ChannelOption.WRITE_BUFFER_WATER_MARK );
+        assertEquals( 8192, waterMark.low() );
+        assertEquals( 65536, waterMark.high() );
+        assertThat( options.get( ChannelOption.RCVBUF_ALLOCATOR ), instanceOf( FixedRecvByteBufAllocator.class ) );
+        ByteBufAllocator allocator = (ByteBufAllocator) options.get( ChannelOption.ALLOCATOR );
+        assertThat( allocator, instanceOf( UnpooledByteBufAllocator.class ) );
+        assertFalse( allocator.isDirectBufferPooled() );
+    }
+
+    @Test
+    void shouldApplyBufferLeakDetectionLevel()
+    {
+        ResourceLeakDetector.Level originalLevel = ResourceLeakDetector.getLevel();
+        try
+        {
+            BootstrapFactory.configure( BootstrapFactory.newBootstrap( eventLoopGroup ),
+                    Config.builder().withBufferLeakDetection( Config.BufferLeakDetection.PARANOID ).build() );
+            assertEquals( ResourceLeakDetector.Level.PARANOID, ResourceLeakDetector.getLevel() );
+
+            // default config keeps the current level
+            BootstrapFactory.configure( BootstrapFactory.newBootstrap( eventLoopGroup ), Config.defaultConfig() );
+            assertEquals( ResourceLeakDetector.Level.PARANOID, ResourceLeakDetector.getLevel() );
+        }
+        finally
+        {
+            ResourceLeakDetector.setLevel( originalLevel );
+        }
+    }
+
+    @Test
+    void shouldCreateDirectAllocators()
+    {
+        assertTrue( BootstrapFactory.newAllocator( Config.BufferAllocator.POOLED_DIRECT ).isDirectBufferPooled() );
+        assertNull( BootstrapFactory.newAllocator( Config.BufferAllocator.DEFAULT ) );
+    }
+}
@@ -27,15 +27,21 @@ import java.util.Map;
 
 import org.neo4j.driver.internal.async.inbound.ChannelErrorHandler;
 import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
+import org.neo4j.driver.internal.async.inbound.CompressionDecoder;
+import org.neo4j.driver.internal.async.inbound.InboundMessageDecoder;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.CompressionEncoder;
+import org.neo4j.driver.internal.async.outbound.FlushConsolidationHandler;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.messaging.v1.MessageFormatV1;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 
 class ChannelPipelineBuilderImplTest
@@ -59,4 +65,66 @@ class ChannelPipelineBuilderImplTest
 
         assertFalse( iterator.hasNext() );
     }
+
+    @Test
+    void shouldBuildPipelineWithFusedInboundDecoder()
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelAttributes.setMessageDispatcher( channel, new InboundMessageDispatcher( channel, DEV_NULL_LOGGING ) );
+
+        new ChannelPipelineBuilderImpl( true ).build( new MessageFormatV1(), channel.pipeline(), DEV_NULL_LOGGING );
+
+        Iterator<Map.Entry<String,ChannelHandler>> iterator = channel.pipeline().iterator();
+        assertThat( iterator.next().getValue(), instanceOf( InboundMessageDecoder.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( OutboundMessageHandler.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( ChannelErrorHandler.class ) );
+
+        assertFalse( iterator.hasNext() );
+    }
+
+    @Test
+    void shouldBuildPipelineWithFlushConsolidation()
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelAttributes.setMessageDispatcher( channel, new InboundMessageDispatcher( channel, DEV_NULL_LOGGING ) );
+
+        new ChannelPipelineBuilderImpl( false, mock( MetricsListener.class ) ).build( new MessageFormatV1(), channel.pipeline(), DEV_NULL_LOGGING );
+
+        Iterator<Map.Entry<String,ChannelHandler>> iterator = channel.pipeline().iterator();
+        assertThat( iterator.next().getValue(), instanceOf( ChunkDecoder.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( MessageDecoder.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( InboundMessageHandler.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( OutboundMessageHandler.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( FlushConsolidationHandler.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( ChannelErrorHandler.class ) );
+
+        assertFalse( iterator.hasNext() );
+    }
+
+    @Test
+    void shouldBuildPipelineWithCompression()
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelAttributes.setMessageDispatcher( channel, new InboundMessageDispatcher( channel, DEV_NULL_LOGGING ) );
+
+        new ChannelPipelineBuilderImpl( false, null, 1024 ).build( new MessageFormatV1(), channel.pipeline(), DEV_NULL_LOGGING );
+
+        Iterator<Map.Entry<String,ChannelHandler>> iterator = channel.pipeline().iterator();
+        assertThat( iterator.next().getValue(), instanceOf( CompressionDecoder.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( CompressionEncoder.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( ChunkDecoder.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( MessageDecoder.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( InboundMessageHandler.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( OutboundMessageHandler.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( ChannelErrorHandler.class ) );
+
+        assertFalse( iterator.hasNext() );
+    }
 }
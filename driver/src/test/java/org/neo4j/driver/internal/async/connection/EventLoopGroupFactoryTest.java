@@ -19,6 +19,9 @@
 package org.neo4j.driver.internal.async.connection;
 
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.Future;
@@ -27,6 +30,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.ExecutionException;
 
+import org.neo4j.driver.Config.NetworkTransport;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -35,6 +40,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.neo4j.driver.internal.util.Iterables.count;
 import static org.neo4j.driver.internal.util.Matchers.blockingOperationInEventLoopError;
 
@@ -112,6 +119,47 @@ class EventLoopGroupFactoryTest
         }
     }
 
+    @Test
+    void shouldCreateNioEventLoopGroupForNioTransport() throws Exception
+    {
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup( 1, NetworkTransport.NIO );
+
+        assertThat( eventLoopGroup, instanceOf( NioEventLoopGroup.class ) );
+        assertEquals( NioSocketChannel.class, EventLoopGroupFactory.channelClass( eventLoopGroup ) );
+        assertTrue( EventLoopGroupFactory.isEventLoopThread( getThread( eventLoopGroup ) ) );
+    }
+
+    @Test
+    void shouldCreateBestAvailableEventLoopGroupForAutoTransport() throws Exception
+    {
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup( 1, NetworkTransport.AUTO );
+
+        Class<?> expectedChannelClass = Epoll.isAvailable() ? EpollSocketChannel.class : NioSocketChannel.class;
+        assertEquals( expectedChannelClass, EventLoopGroupFactory.channelClass( eventLoopGroup ) );
+        assertTrue( EventLoopGroupFactory.isEventLoopThread( getThread( eventLoopGroup ) ) );
+    }
+
+    @Test
+    void shouldCreateEpollEventLoopGroupForEpollTransport() throws Exception
+    {
+        assumeTrue( Epoll.isAvailable() );
+
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup( 2, NetworkTransport.EPOLL );
+
+        assertThat( eventLoopGroup, instanceOf( EpollEventLoopGroup.class ) );
+        assertEquals( 2, count( eventLoopGroup ) );
+        assertEquals( EpollSocketChannel.class, EventLoopGroupFactory.channelClass( eventLoopGroup ) );
+        assertTrue( EventLoopGroupFactory.isEventLoopThread( getThread( eventLoopGroup ) ) );
+    }
+
+    @Test
+    void shouldFailToCreateEpollEventLoopGroupWhenNotAvailable()
+    {
+        assumeFalse( Epoll.isAvailable() );
+
+        assertThrows( IllegalStateException.class, () -> EventLoopGroupFactory.newEventLoopGroup( 1, NetworkTransport.EPOLL ) );
+    }
+
     private static Thread getThread( EventLoopGroup eventLoopGroup ) throws Exception
     {
         return eventLoopGroup.submit( Thread::currentThread ).get( 10, SECONDS );
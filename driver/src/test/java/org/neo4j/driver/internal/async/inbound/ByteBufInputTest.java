@@ -19,10 +19,21 @@
 package org.neo4j.driver.internal.async.inbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.value.BytesValue;
+import org.neo4j.driver.internal.value.RetainedBytesValue;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -124,4 +135,89 @@ class ByteBufInputTest
 
         assertEquals( (byte) 42, input.peekByte() );
     }
+
+    @Test
+    void shouldReadUtf8Strings()
+    {
+        ByteBufInput input = new ByteBufInput();
+        ByteBuf buf = Unpooled.copiedBuffer( "ascii_Größe_", StandardCharsets.UTF_8 );
+        input.start( buf );
+
+        assertEquals( "ascii_", input.readUtf8( 6 ) );
+        assertEquals( "Größe", input.readUtf8( 7 ) );
+        assertEquals( "", input.readUtf8( 0 ) );
+        assertEquals( "_", input.readUtf8( 1 ) );
+        assertEquals( 0, buf.readableBytes() );
+    }
+
+    @Test
+    void shouldReadDirectBufferUtf8Strings()
+    {
+        ByteBufInput input = new ByteBufInput();
+        ByteBuf buf = Unpooled.directBuffer().writeBytes( "Größe".getBytes( StandardCharsets.UTF_8 ) );
+        input.start( buf );
+
+        assertEquals( "Größe", input.readUtf8( 7 ) );
+        buf.release();
+    }
+
+    @Test
+    void shouldReturnCachedInternedStrings()
+    {
+        ByteBufInput input = new ByteBufInput();
+        input.start( Unpooled.copiedBuffer( "namename", StandardCharsets.UTF_8 ) );
+
+        String first = input.readInternedUtf8( 4 );
+        String second = input.readInternedUtf8( 4 );
+
+        assertEquals( "name", first );
+        assertSame( first, second );
+    }
+
+    @Test
+    void shouldNotCacheInternedStringsWhenCacheDisabled()
+    {
+        ByteBufInput input = new ByteBufInput( 0, ByteBufInput.RETAINED_BYTES_DISABLED );
+        input.start( Unpooled.copiedBuffer( "namename", StandardCharsets.UTF_8 ) );
+
+        String first = input.readInternedUtf8( 4 );
+        String second = input.readInternedUtf8( 4 );
+
+        assertEquals( first, second );
+        assertNotSame( first, second );
+    }
+
+    @Test
+    void shouldCopyBytesValueWhenRetainingDisabled()
+    {
+        ByteBufInput input = new ByteBufInput();
+        ByteBuf buf = Unpooled.wrappedBuffer( new byte[]{1, 2, 3, 4} );
+        input.start( buf );
+
+        Value value = input.readBytesValue( 3 );
+
+        assertTrue( value instanceof BytesValue );
+        assertArrayEquals( new byte[]{1, 2, 3}, value.asByteArray() );
+        assertEquals( 1, buf.readableBytes() );
+        assertEquals( 1, buf.refCnt() );
+    }
+
+    @Test
+    void shouldRetainBytesValueAboveThreshold()
+    {
+        ByteBufInput input = new ByteBufInput( 0, 3 );
+        ByteBuf buf = Unpooled.wrappedBuffer( new byte[]{1, 2, 3, 4, 5, 6} );
+        input.start( buf );
+
+        Value small = input.readBytesValue( 2 );
+        Value large = input.readBytesValue( 3 );
+
+        assertTrue( small instanceof BytesValue );
+        assertTrue( large instanceof RetainedBytesValue );
+        assertArrayEquals( new byte[]{3, 4, 5}, large.asByteArray() );
+        assertEquals( 2, buf.refCnt() );
+
+        ((RetainedBytesValue) large).close();
+        assertEquals( 1, buf.refCnt() );
+    }
 }
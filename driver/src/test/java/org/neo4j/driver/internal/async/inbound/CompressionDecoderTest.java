@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.connection.ChannelAttributes;
+import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilderImpl;
+import org.neo4j.driver.internal.async.outbound.CompressionEncoder;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.messaging.v1.MessageFormatV1;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.io.MessageToByteBufWriter;
+import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class CompressionDecoderTest
+{
+    // plays the role of a proxy that compresses traffic sent to the driver
+    private final EmbeddedChannel proxy = new EmbeddedChannel( new CompressionEncoder( 64 ) );
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+
+    @AfterEach
+    void tearDown()
+    {
+        proxy.finishAndReleaseAll();
+        channel.finishAndReleaseAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource( ints = {10, 1000, 100_000} )
+    void shouldDecodeCompressedAndRawFrames( int size )
+    {
+        channel.pipeline().addLast( new CompressionDecoder() );
+        byte[] bytes = new byte[size];
+        Random random = new Random( 42 );
+        for ( int i = 0; i < size; i++ )
+        {
+            // half of the bytes are random, so that some blocks do not compress
+            bytes[i] = i % 2 == 0 ? (byte) random.nextInt() : (byte) (i % 7);
+        }
+
+        ByteBuf frames = compress( Unpooled.wrappedBuffer( bytes ) );
+        // deliver frames in small pieces to make sure partial frames are handled
+        while ( frames.isReadable() )
+        {
+            channel.writeInbound( frames.readRetainedSlice( Math.min( 1000, frames.readableBytes() ) ) );
+        }
+        frames.release();
+
+        ByteBuf decoded = Unpooled.buffer();
+        ByteBuf part;
+        while ( (part = channel.readInbound()) != null )
+        {
+            decoded.writeBytes( part );
+            part.release();
+        }
+        assertEquals( Unpooled.wrappedBuffer( bytes ), decoded );
+    }
+
+    @Test
+    void shouldFailOnUnknownFrameType()
+    {
+        channel.pipeline().addLast( new CompressionDecoder() );
+
+        ByteBuf frame = Unpooled.buffer().writeByte( 42 ).writeInt( 1 ).writeByte( 1 );
+
+        assertThrows( DecoderException.class, () -> channel.writeInbound( frame ) );
+    }
+
+    @Test
+    void shouldDispatchMessagesReceivedThroughCompressedPipeline()
+    {
+        InboundMessageDispatcher messageDispatcher = new InboundMessageDispatcher( channel, DEV_NULL_LOGGING );
+        ChannelAttributes.setMessageDispatcher( channel, messageDispatcher );
+        new ChannelPipelineBuilderImpl( false, null, 64 ).build( new MessageFormatV1(), channel.pipeline(), DEV_NULL_LOGGING );
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        messageDispatcher.enqueue( responseHandler );
+
+        Value[] fields = {value( "a long string value that is repeated, a long string value that is repeated" ), value( 42 )};
+        ByteBuf body = new MessageToByteBufWriter( new KnowledgeableMessageFormat() ).asByteBuf( new RecordMessage( fields ) );
+        // single chunk followed by the message boundary
+        ByteBuf message = Unpooled.buffer().writeShort( body.readableBytes() ).writeBytes( body ).writeShort( 0 );
+        body.release();
+        channel.writeInbound( compress( message ) );
+
+        verify( responseHandler ).onRecord( fields );
+        assertNull( channel.readInbound() );
+    }
+
+    private ByteBuf compress( ByteBuf message )
+    {
+        proxy.writeOutbound( message );
+        ByteBuf frames = Unpooled.buffer();
+        ByteBuf part;
+        while ( (part = proxy.readOutbound()) != null )
+        {
+            frames.writeBytes( part );
+            part.release();
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.connection.ChannelAttributes;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.MessageFormat.Reader;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.messaging.response.SuccessMessage;
+import org.neo4j.driver.internal.messaging.v1.MessageFormatV1;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.io.MessageToByteBufWriter;
+import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class InboundMessageDecoderTest
+{
+    private EmbeddedChannel channel;
+    private InboundMessageDispatcher messageDispatcher;
+    private InboundFlowControl flowControl;
+    private MessageToByteBufWriter writer;
+
+    @BeforeEach
+    void setUp()
+    {
+        channel = new EmbeddedChannel();
+        messageDispatcher = new InboundMessageDispatcher( channel, DEV_NULL_LOGGING );
+        writer = new MessageToByteBufWriter( new KnowledgeableMessageFormat() );
+        ChannelAttributes.setMessageDispatcher( channel, messageDispatcher );
+        flowControl = new InboundFlowControl( 0, 1024 );
+        ChannelAttributes.setInboundFlowControl( channel, flowControl );
+
+        channel.pipeline().addFirst( new InboundMessageDecoder( new MessageFormatV1(), DEV_NULL_LOGGING ) );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        if ( channel != null )
+        {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( ints = {1, 3, 16, 1000} )
+    void shouldReadRecordMessageInChunks( int maxChunkSize )
+    {
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        messageDispatcher.enqueue( responseHandler );
+
+        Value[] fields = {value( 1 ), value( "a somewhat longer string value" ), value( new double[]{1.5, 2.5} )};
+        channel.writeInbound( chunked( new RecordMessage( fields ), maxChunkSize ) );
+
+        verify( responseHandler ).onRecord( fields );
+    }
+
+    @Test
+    void shouldReadMessageArrivingByteByByte()
+    {
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        messageDispatcher.enqueue( responseHandler );
+
+        Value[] fields = {value( 1 ), value( "hello" )};
+        ByteBuf message = chunked( new RecordMessage( fields ), 4 );
+        while ( message.readableBytes() > 1 )
+        {
+            channel.writeInbound( message.readRetainedSlice( 1 ) );
+            verify( responseHandler, never() ).onRecord( any() );
+        }
+        channel.writeInbound( message );
+
+        verify( responseHandler ).onRecord( fields );
+    }
+
+    @Test
+    void shouldReadMultipleMessagesFromSingleBuffer()
+    {
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        messageDispatcher.enqueue( responseHandler );
+
+        Value[] fields1 = {value( 1 )};
+        Value[] fields2 = {value( 2 )};
+        channel.writeInbound( Unpooled.wrappedBuffer( chunked( new RecordMessage( fields1 ), 100 ), chunked( new RecordMessage( fields2 ), 2 ),
+                chunked( new SuccessMessage( singletonMap( "has_more", value( false ) ) ), 100 ) ) );
+
+        InOrder inOrder = inOrder( responseHandler );
+        inOrder.verify( responseHandler ).onRecord( fields1 );
+        inOrder.verify( responseHandler ).onRecord( fields2 );
+        inOrder.verify( responseHandler ).onSuccess( singletonMap( "has_more", value( false ) ) );
+        assertEquals( 0, messageDispatcher.queuedHandlersCount() );
+    }
+
+    @Test
+    void shouldIgnoreNoOpChunks()
+    {
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        messageDispatcher.enqueue( responseHandler );
+
+        Value[] fields = {value( 42 )};
+        channel.writeInbound( Unpooled.wrappedBuffer( new byte[]{0, 0, 0, 0} ) );
+        channel.writeInbound( chunked( new RecordMessage( fields ), 100 ) );
+
+        verify( responseHandler ).onRecord( fields );
+    }
+
+    @ParameterizedTest
+    @ValueSource( ints = {3, 1000} )
+    void shouldReportMessageSizeToFlowControl( int maxChunkSize )
+    {
+        List<Integer> sizes = new ArrayList<>();
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        doAnswer( invocation -> sizes.add( flowControl.currentMessageSize() ) ).when( responseHandler ).onRecord( any() );
+        messageDispatcher.enqueue( responseHandler );
+
+        RecordMessage message = new RecordMessage( new Value[]{value( "a somewhat longer string value" )} );
+        ByteBuf body = writer.asByteBuf( message );
+        int bodySize = body.readableBytes();
+        body.release();
+
+        channel.writeInbound( chunked( message, maxChunkSize ) );
+
+        assertEquals( singletonList( bodySize ), sizes );
+    }
+
+    @Test
+    void shouldRethrowReadErrors() throws IOException
+    {
+        MessageFormat messageFormat = mock( MessageFormat.class );
+        Reader reader = mock( Reader.class );
+        RuntimeException error = new RuntimeException( "Unable to decode!" );
+        doThrow( error ).when( reader ).read( any() );
+        when( messageFormat.newReader( any() ) ).thenReturn( reader );
+
+        channel.pipeline().remove( InboundMessageDecoder.class );
+        channel.pipeline().addFirst( new InboundMessageDecoder( messageFormat, DEV_NULL_LOGGING ) );
+
+        DecoderException e = assertThrows( DecoderException.class, () -> channel.writeInbound( chunked( new RecordMessage( new Value[0] ), 100 ) ) );
+        assertThat( e.getMessage(), startsWith( "Failed to read inbound message" ) );
+    }
+
+    private ByteBuf chunked( Message message, int maxChunkSize )
+    {
+        ByteBuf body = writer.asByteBuf( message );
+        ByteBuf result = Unpooled.buffer();
+        while ( body.isReadable() )
+        {
+            int chunkSize = Math.min( maxChunkSize, body.readableBytes() );
+            result.writeShort( chunkSize );
+            result.writeBytes( body, chunkSize );
+        }
+        result.writeShort( 0 );
+        body.release();
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.async.inbound;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.DecoderException;
 import org.junit.jupiter.api.AfterEach;
@@ -133,6 +134,35 @@ class InboundMessageHandlerTest
         assertEquals( 0, messageDispatcher.queuedHandlersCount() );
     }
 
+    @Test
+    void shouldReleaseMessageBufferAfterDispatch()
+    {
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        messageDispatcher.enqueue( responseHandler );
+
+        ByteBuf message = writer.asByteBuf( new RecordMessage( new Value[]{value( 1 )} ) );
+        channel.writeInbound( message );
+
+        verify( responseHandler ).onRecord( new Value[]{value( 1 )} );
+        assertEquals( 0, message.refCnt() );
+    }
+
+    @Test
+    void shouldReleaseMessageBufferWhenReadFails() throws IOException
+    {
+        MessageFormat messageFormat = mock( MessageFormat.class );
+        Reader reader = mock( Reader.class );
+        doThrow( new RuntimeException( "Unable to decode!" ) ).when( reader ).read( any() );
+        when( messageFormat.newReader( any() ) ).thenReturn( reader );
+
+        channel.pipeline().remove( InboundMessageHandler.class );
+        channel.pipeline().addLast( new InboundMessageHandler( messageFormat, DEV_NULL_LOGGING ) );
+
+        ByteBuf message = writer.asByteBuf( RESET );
+        assertThrows( DecoderException.class, () -> channel.writeInbound( message ) );
+        assertEquals( 0, message.refCnt() );
+    }
+
     @Test
     void shouldRethrowReadErrors() throws IOException
     {
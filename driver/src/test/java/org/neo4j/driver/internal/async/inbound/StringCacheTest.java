@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringCacheTest
+{
+    private static final StringCache.Decoder DECODER = ( buf, index, size ) -> buf.toString( index, size, StandardCharsets.UTF_8 );
+
+    @Test
+    void shouldRejectSizeThatIsNotPowerOfTwo()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new StringCache( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> new StringCache( -8 ) );
+        assertThrows( IllegalArgumentException.class, () -> new StringCache( 100 ) );
+    }
+
+    @Test
+    void shouldReturnSameInstanceForRepeatedString()
+    {
+        StringCache cache = new StringCache( 16 );
+
+        String first = get( cache, Unpooled.copiedBuffer( "createdAt", StandardCharsets.UTF_8 ) );
+        String second = get( cache, Unpooled.copiedBuffer( "createdAt", StandardCharsets.UTF_8 ) );
+
+        assertEquals( "createdAt", first );
+        assertSame( first, second );
+    }
+
+    @Test
+    void shouldDecodeRegionOfBuffer()
+    {
+        StringCache cache = new StringCache( 16 );
+        ByteBuf buf = Unpooled.copiedBuffer( "__name__", StandardCharsets.UTF_8 );
+
+        assertEquals( "name", cache.get( buf, 2, 4, DECODER ) );
+        assertEquals( 0, buf.readerIndex() );
+    }
+
+    @Test
+    void shouldEvictOnCollision()
+    {
+        // single slot, every string collides
+        StringCache cache = new StringCache( 1 );
+
+        String name = get( cache, Unpooled.copiedBuffer( "name", StandardCharsets.UTF_8 ) );
+        assertEquals( "id", get( cache, Unpooled.copiedBuffer( "id", StandardCharsets.UTF_8 ) ) );
+        String nameAgain = get( cache, Unpooled.copiedBuffer( "name", StandardCharsets.UTF_8 ) );
+
+        assertEquals( name, nameAgain );
+        assertNotSame( name, nameAgain );
+    }
+
+    @Test
+    void shouldDecodeNonAsciiStrings()
+    {
+        StringCache cache = new StringCache( 16 );
+
+        assertEquals( "Größe", get( cache, Unpooled.copiedBuffer( "Größe", StandardCharsets.UTF_8 ) ) );
+        assertEquals( "Größe", get( cache, Unpooled.copiedBuffer( "Größe", StandardCharsets.UTF_8 ) ) );
+    }
+
+    @Test
+    void shouldOnlyCacheShortStrings()
+    {
+        assertTrue( StringCache.isCacheable( 0 ) );
+        assertTrue( StringCache.isCacheable( StringCache.MAX_CACHED_STRING_BYTES ) );
+        assertFalse( StringCache.isCacheable( StringCache.MAX_CACHED_STRING_BYTES + 1 ) );
+    }
+
+    private static String get( StringCache cache, ByteBuf buf )
+    {
+        return cache.get( buf, buf.readerIndex(), buf.readableBytes(), DECODER );
+    }
+}
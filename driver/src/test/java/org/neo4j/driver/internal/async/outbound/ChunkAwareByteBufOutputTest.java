@@ -24,10 +24,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.neo4j.driver.internal.packstream.PackOutput;
+import org.neo4j.driver.internal.util.Utf8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.util.TestUtil.assertByteBufContains;
 
@@ -40,6 +52,13 @@ class ChunkAwareByteBufOutputTest
                 .mapToObj( Unpooled::buffer );
     }
 
+    private static Stream<String> testStrings()
+    {
+        return Stream.of( "", "a", "Hello, World!", "Mjölnir", "€uro", "\uD83D\uDE00 smile \uD83D\uDE00",
+                "lone \uD800 high", "lone \uDC00 low", "end \uD800", "\uD800é", "\uD800\uD83D\uDE00",
+                "\uD800\uD800 twice", "é\uDC00€", new String( new char[100] ).replace( '\0', 'ä' ) );
+    }
+
     @Test
     void shouldThrowForIllegalMaxChunkSize()
     {
@@ -413,4 +432,80 @@ class ChunkAwareByteBufOutputTest
                 (short) 5, (byte) 6, (byte) 7, (byte) 8, (byte) 9, (byte) 10 // chunk 6
         );
     }
+
+    @ParameterizedTest
+    @MethodSource( "testStrings" )
+    void shouldWriteUtf8AcrossChunks( String value )
+    {
+        byte[] expected = value.getBytes( StandardCharsets.UTF_8 );
+
+        for ( int maxChunkSize = 3; maxChunkSize <= 40; maxChunkSize++ )
+        {
+            ByteBuf buf = Unpooled.buffer();
+            ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( maxChunkSize );
+
+            output.start( buf );
+            output.writeByte( (byte) 1 );
+            output.writeUtf8( value, Utf8.encodedLength( value ) );
+            output.stop();
+
+            byte[] written = readChunkBodies( buf, maxChunkSize );
+            assertArrayEquals( expected, Arrays.copyOfRange( written, 1, written.length ) );
+        }
+    }
+
+    @Test
+    void shouldWriteIncrementalContentRightAwayWhenNotDeferring() throws IOException
+    {
+        ByteBuf buf = Unpooled.buffer();
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        int[] steps = {0};
+
+        output.start( buf );
+        output.writeIncrementally( () ->
+        {
+            output.writeByte( (byte) steps[0] );
+            return ++steps[0] < 3;
+        } );
+        output.stop();
+
+        assertByteBufContains( buf, (short) 3, (byte) 0, (byte) 1, (byte) 2 );
+        assertTrue( output.takeDeferredParts().isEmpty() );
+    }
+
+    @Test
+    void shouldDeferIncrementalContent() throws IOException
+    {
+        ByteBuf buf = Unpooled.buffer();
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        PackOutput.IncrementalContent content = () -> false;
+
+        output.start( buf, true );
+        output.writeByte( (byte) 1 );
+        output.writeIncrementally( content );
+        output.writeByte( (byte) 2 );
+        ByteBuf lastBuf = output.stop();
+        List<Object> parts = output.takeDeferredParts();
+
+        assertEquals( 2, parts.size() );
+        assertSame( buf, parts.get( 0 ) );
+        assertSame( content, parts.get( 1 ) );
+        assertByteBufContains( buf, (short) 1, (byte) 1 );
+        assertByteBufContains( lastBuf, (short) 1, (byte) 2 );
+        assertTrue( output.takeDeferredParts().isEmpty() );
+    }
+
+    private static byte[] readChunkBodies( ByteBuf buf, int maxChunkSize )
+    {
+        ByteArrayOutputStream bodies = new ByteArrayOutputStream();
+        while ( buf.isReadable() )
+        {
+            int size = buf.readUnsignedShort();
+            assertTrue( size + 2 <= maxChunkSize );
+            byte[] body = new byte[size];
+            buf.readBytes( body );
+            bodies.write( body, 0, size );
+        }
+        return bodies.toByteArray();
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.FRAME_HEADER_SIZE;
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.MAX_BLOCK_SIZE;
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.RAW_FRAME;
+import static org.neo4j.driver.internal.async.outbound.CompressionEncoder.SNAPPY_FRAME;
+
+class CompressionEncoderTest
+{
+    private final EmbeddedChannel channel = new EmbeddedChannel( new CompressionEncoder( 1024 ) );
+
+    @AfterEach
+    void tearDown()
+    {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldSendSmallMessagesWithoutCompression()
+    {
+        ByteBuf message = Unpooled.wrappedBuffer( new byte[]{1, 2, 3} );
+
+        channel.writeOutbound( message );
+
+        ByteBuf header = channel.readOutbound();
+        assertEquals( RAW_FRAME, header.readByte() );
+        assertEquals( 3, header.readInt() );
+        header.release();
+        // message itself is sent without copying
+        ByteBuf body = channel.readOutbound();
+        assertSame( message, body );
+        body.release();
+        assertNull( channel.readOutbound() );
+    }
+
+    @Test
+    void shouldCompressLargeMessages()
+    {
+        byte[] bytes = new byte[4096];
+        Arrays.fill( bytes, (byte) 42 );
+
+        channel.writeOutbound( Unpooled.wrappedBuffer( bytes ) );
+
+        ByteBuf frames = channel.readOutbound();
+        assertEquals( SNAPPY_FRAME, frames.readByte() );
+        int length = frames.readInt();
+        assertThat( length, lessThan( bytes.length ) );
+        assertEquals( length, frames.readableBytes() );
+        frames.release();
+    }
+
+    @Test
+    void shouldSendIncompressibleBlocksWithoutCompression()
+    {
+        byte[] bytes = new byte[4096];
+        new Random( 42 ).nextBytes( bytes );
+
+        channel.writeOutbound( Unpooled.wrappedBuffer( bytes ) );
+
+        ByteBuf frames = channel.readOutbound();
+        assertEquals( RAW_FRAME, frames.readByte() );
+        assertEquals( bytes.length, frames.readInt() );
+        assertEquals( Unpooled.wrappedBuffer( bytes ), frames );
+        frames.release();
+    }
+
+    @Test
+    void shouldSplitLargeMessagesIntoBlocks()
+    {
+        byte[] bytes = new byte[MAX_BLOCK_SIZE * 2 + 100];
+        Arrays.fill( bytes, (byte) 42 );
+
+        channel.writeOutbound( Unpooled.wrappedBuffer( bytes ) );
+
+        ByteBuf frames = channel.readOutbound();
+        int blocks = 0;
+        while ( frames.isReadable() )
+        {
+            assertEquals( SNAPPY_FRAME, frames.readByte() );
+            frames.skipBytes( frames.readInt() );
+            blocks++;
+        }
+        assertEquals( 3, blocks );
+        assertThat( frames.writerIndex(), lessThan( bytes.length + 3 * FRAME_HEADER_SIZE ) );
+        frames.release();
+    }
+}
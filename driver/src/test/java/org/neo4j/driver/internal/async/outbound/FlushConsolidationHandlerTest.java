@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.internal.async.connection.ChannelAttributes;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class FlushConsolidationHandlerTest
+{
+    private final MetricsListener metricsListener = mock( MetricsListener.class );
+    private final FlushCounter flushCounter = new FlushCounter();
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp()
+    {
+        channel = new EmbeddedChannel( flushCounter, new FlushConsolidationHandler( metricsListener ) );
+        ChannelAttributes.setPoolId( channel, "pool" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldMergeFlushesOfSameEventLoopIteration() throws Exception
+    {
+        // embedded channel runs pending tasks on every write, so a real event loop is needed to keep the flush task pending
+        EventLoopGroup group = new DefaultEventLoopGroup( 1 );
+        try
+        {
+            LocalAddress address = new LocalAddress( "flush-consolidation" );
+            Channel server = new ServerBootstrap().group( group )
+                    .channel( LocalServerChannel.class )
+                    .childHandler( new ChannelInboundHandlerAdapter() )
+                    .bind( address ).sync().channel();
+            FlushCounter counter = new FlushCounter();
+            Channel client = new Bootstrap().group( group )
+                    .channel( LocalChannel.class )
+                    .handler( new ChannelInboundHandlerAdapter() )
+                    .connect( address ).sync().channel();
+            ChannelAttributes.setPoolId( client, "pool" );
+            client.pipeline().addLast( counter, new FlushConsolidationHandler( metricsListener ) );
+
+            int flushesInIteration = client.eventLoop().submit( () ->
+            {
+                for ( int i = 0; i < 3; i++ )
+                {
+                    client.write( wrappedBuffer( new byte[]{(byte) i} ) );
+                    client.flush();
+                }
+                return counter.flushes;
+            } ).get();
+            // the consolidated flush task was queued before this one
+            client.eventLoop().submit( () -> {} ).get();
+
+            assertEquals( 0, flushesInIteration );
+            assertEquals( 1, counter.flushes );
+            verify( metricsListener ).afterFlushesConsolidated( "pool", 2 );
+
+            client.close().sync();
+            server.close().sync();
+        }
+        finally
+        {
+            group.shutdownGracefully().sync();
+        }
+    }
+
+    @Test
+    void shouldNotReportSingleFlush()
+    {
+        channel.write( wrappedBuffer( new byte[]{1} ) );
+        channel.flush();
+        channel.runPendingTasks();
+
+        assertEquals( 1, flushCounter.flushes );
+        verify( metricsListener, never() ).afterFlushesConsolidated( anyString(), anyInt() );
+    }
+
+    @Test
+    void shouldFlushPendingWritesBeforeClose()
+    {
+        channel.write( wrappedBuffer( new byte[]{1} ) );
+        channel.flush();
+
+        channel.close();
+
+        assertEquals( 1, flushCounter.flushes );
+        assertEquals( 1, channel.outboundMessages().size() );
+    }
+
+    @Test
+    void shouldFlushWhenRemoved()
+    {
+        channel.write( wrappedBuffer( new byte[]{1} ) );
+        channel.flush();
+
+        channel.pipeline().remove( FlushConsolidationHandler.class );
+
+        assertEquals( 1, flushCounter.flushes );
+        channel.runPendingTasks();
+        assertEquals( 1, flushCounter.flushes );
+    }
+
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter
+    {
+        int flushes;
+
+        @Override
+        public void flush( ChannelHandlerContext ctx )
+        {
+            flushes++;
+            ctx.flush();
+        }
+    }
+}
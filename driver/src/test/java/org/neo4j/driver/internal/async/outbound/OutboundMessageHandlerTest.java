@@ -20,13 +20,18 @@ package org.neo4j.driver.internal.async.outbound;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.EncoderException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
@@ -37,8 +42,12 @@ import org.neo4j.driver.internal.messaging.v1.MessageFormatV1;
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.Value;
 
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +57,8 @@ import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.messaging.MessageFormat.Writer;
 import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
+import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
+import static org.neo4j.driver.Values.streamedList;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.util.TestUtil.assertByteBufContains;
 
@@ -101,6 +112,127 @@ class OutboundMessageHandlerTest
         assertTrue( channel.finish() );
     }
 
+    @Test
+    void shouldEncodeStreamedListIncrementally()
+    {
+        List<Object> rows = new ArrayList<>();
+        for ( int i = 0; i < 100_000; i++ )
+        {
+            rows.add( i );
+        }
+        String query = "UNWIND $rows AS row RETURN row";
+
+        channel.pipeline().addLast( newHandler( new MessageFormatV1() ) );
+        assertTrue( channel.writeOutbound( new RunMessage( query, singletonMap( "rows", streamedList( rows.size(), rows.iterator() ) ) ) ) );
+        assertThat( channel.outboundMessages().size(), greaterThan( 2 ) );
+
+        EmbeddedChannel eagerChannel = new EmbeddedChannel( newHandler( new MessageFormatV1() ) );
+        try
+        {
+            assertTrue( eagerChannel.writeOutbound( new RunMessage( query, singletonMap( "rows", value( rows ) ) ) ) );
+            assertEquals( 1, eagerChannel.outboundMessages().size() );
+
+            assertArrayEquals( readMessage( eagerChannel ), readMessage( channel ) );
+        }
+        finally
+        {
+            eagerChannel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void shouldFailAndCloseChannelWhenStreamedListIsShorterThanDeclared()
+    {
+        channel.pipeline().addLast( newHandler( new MessageFormatV1() ) );
+
+        Map<String,Value> params = singletonMap( "rows", streamedList( 10, Stream.of( 1, 2, 3 ) ) );
+
+        assertThrows( EncoderException.class, () -> channel.writeOutbound( new RunMessage( "UNWIND $rows AS row RETURN row", params ) ) );
+        assertFalse( channel.isOpen() );
+    }
+
+    @Test
+    void shouldShareEncodingOfConstantMessagesBetweenConnections()
+    {
+        WriteCountingMessageFormat messageFormat = new WriteCountingMessageFormat();
+        channel.pipeline().addLast( newHandler( messageFormat ) );
+        EmbeddedChannel otherChannel = new EmbeddedChannel( newHandler( messageFormat ) );
+        try
+        {
+            assertTrue( channel.writeOutbound( RESET ) );
+            byte[] encoded = readMessage( channel );
+
+            assertTrue( otherChannel.writeOutbound( RESET ) );
+            assertArrayEquals( encoded, readMessage( otherChannel ) );
+            assertTrue( otherChannel.writeOutbound( RESET ) );
+            assertArrayEquals( encoded, readMessage( otherChannel ) );
+
+            assertEquals( 1, messageFormat.writes );
+        }
+        finally
+        {
+            otherChannel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void shouldEncodeRegularMessagesEveryTime()
+    {
+        WriteCountingMessageFormat messageFormat = new WriteCountingMessageFormat();
+        channel.pipeline().addLast( newHandler( messageFormat ) );
+
+        assertTrue( channel.writeOutbound( new RunMessage( "RETURN 1" ) ) );
+        assertTrue( channel.writeOutbound( new RunMessage( "RETURN 1" ) ) );
+
+        assertEquals( 2, messageFormat.writes );
+    }
+
+    @Test
+    void shouldSizeBufferFromPreviousMessagesOfSameType()
+    {
+        channel.pipeline().addLast( newHandler( new MessageFormatV1() ) );
+        RunMessage message = new RunMessage( "RETURN $bytes", singletonMap( "bytes", value( new byte[100_000] ) ) );
+
+        assertTrue( channel.writeOutbound( message ) );
+        ByteBuf first = channel.readOutbound();
+        assertTrue( channel.writeOutbound( message ) );
+        ByteBuf second = channel.readOutbound();
+        try
+        {
+            assertEquals( first.readableBytes(), second.readableBytes() );
+            assertEquals( second.readableBytes(), second.capacity() );
+        }
+        finally
+        {
+            first.release();
+            second.release();
+        }
+    }
+
+    private static byte[] readMessage( EmbeddedChannel channel )
+    {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        ByteBuf buf;
+        while ( (buf = channel.readOutbound()) != null )
+        {
+            try
+            {
+                while ( buf.isReadable() )
+                {
+                    int chunkSize = buf.readUnsignedShort();
+                    byte[] chunk = new byte[chunkSize];
+                    buf.readBytes( chunk );
+                    message.write( chunk, 0, chunkSize );
+                }
+            }
+            finally
+            {
+                buf.release();
+            }
+        }
+        return message.toByteArray();
+    }
+
     private static MessageFormat mockMessageFormatWithWriter( final int... bytesToWrite )
     {
         MessageFormat messageFormat = mock( MessageFormat.class );
@@ -130,6 +262,22 @@ class OutboundMessageHandlerTest
         return writer;
     }
 
+    private static class WriteCountingMessageFormat extends MessageFormatV1
+    {
+        int writes;
+
+        @Override
+        public Writer newWriter( PackOutput output )
+        {
+            Writer delegate = super.newWriter( output );
+            return message ->
+            {
+                writes++;
+                delegate.write( message );
+            };
+        }
+    }
+
     private static OutboundMessageHandler newHandler( MessageFormat messageFormat )
     {
         return new OutboundMessageHandler( messageFormat, DEV_NULL_LOGGING );
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.channel.pool.ChannelHealthChecker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.ChannelConnector;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.metrics.InternalAbstractMetrics.DEV_NULL_METRICS;
+
+/**
+ * Channel pools whose channels are connected to an in-VM server instead of a database. Channels do not speak Bolt, they only exist to be pooled.
+ */
+public class LocalChannelPools implements AutoCloseable
+{
+    private static final AtomicInteger SERVER_IDS = new AtomicInteger();
+
+    private final BoltServerAddress address = BoltServerAddress.LOCAL_DEFAULT;
+    private final LocalAddress localAddress = new LocalAddress( "local-channel-pools-" + SERVER_IDS.incrementAndGet() );
+    private final AtomicInteger createdChannels = new AtomicInteger();
+    private final EventLoopGroup eventLoopGroup;
+    private final Channel serverChannel;
+    private final Bootstrap bootstrap;
+    private final NettyChannelTracker tracker;
+
+    public LocalChannelPools( int eventLoopThreads )
+    {
+        eventLoopGroup = new DefaultEventLoopGroup( eventLoopThreads );
+        serverChannel = new ServerBootstrap()
+                .group( eventLoopGroup )
+                .channel( LocalServerChannel.class )
+                .childHandler( new ChannelInitializer<Channel>()
+                {
+                    @Override
+                    protected void initChannel( Channel channel )
+                    {
+                        // server side of pooled channels does not handle any messages, the shared initializer accepts every connection
+                    }
+                } )
+                .bind( localAddress )
+                .syncUninterruptibly()
+                .channel();
+        bootstrap = new Bootstrap().group( eventLoopGroup ).channel( LocalChannel.class );
+        tracker = new NettyChannelTracker( DEV_NULL_METRICS, eventLoopGroup.next(), DEV_NULL_LOGGING );
+    }
+
+    public ExtendedChannelPool newLockFreePool( int maxConnections, long acquireTimeoutMillis )
+    {
+        return new LockFreeChannelPool( address, this::connect, bootstrap, tracker, ChannelHealthChecker.ACTIVE, acquireTimeoutMillis, maxConnections );
+    }
+
+    public ExtendedChannelPool newLockFreePool( int maxConnections, long acquireTimeoutMillis, int maxPendingAcquires )
+    {
+        return new LockFreeChannelPool( address, this::connect, bootstrap, tracker, ChannelHealthChecker.ACTIVE, acquireTimeoutMillis, maxConnections,
+                maxPendingAcquires );
+    }
+
+    public ExtendedChannelPool newLockFreePool( int maxConnections, long acquireTimeoutMillis, int maxPendingAcquires, int minIdleConnections )
+    {
+        return new LockFreeChannelPool( address, this::connect, bootstrap, tracker, ChannelHealthChecker.ACTIVE, acquireTimeoutMillis, maxConnections,
+                maxPendingAcquires, minIdleConnections );
+    }
+
+    public ExtendedChannelPool newNettyPool( int maxConnections, long acquireTimeoutMillis )
+    {
+        return new NettyChannelPool( address, this::connect, bootstrap, tracker, ChannelHealthChecker.ACTIVE, acquireTimeoutMillis, maxConnections );
+    }
+
+    public BoltServerAddress address()
+    {
+        return address;
+    }
+
+    public EventLoopGroup eventLoopGroup()
+    {
+        return eventLoopGroup;
+    }
+
+    public NettyChannelTracker tracker()
+    {
+        return tracker;
+    }
+
+    public int createdChannels()
+    {
+        return createdChannels.get();
+    }
+
+    @Override
+    public void close()
+    {
+        serverChannel.close().syncUninterruptibly();
+        eventLoopGroup.shutdownGracefully( 0, 10, TimeUnit.SECONDS ).syncUninterruptibly();
+    }
+
+    private ChannelFuture connect( BoltServerAddress address, Bootstrap bootstrap )
+    {
+        createdChannels.incrementAndGet();
+        bootstrap.handler( new ChannelInboundHandlerAdapter() );
+        ChannelFuture channelFuture = bootstrap.connect( localAddress );
+        setServerAddress( channelFuture.channel(), address );
+        return channelFuture;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.Promise;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.util.TestUtil.await;
+
+class LockFreeChannelPoolTest
+{
+    private static final long NO_TIMEOUT = -1;
+
+    private final LocalChannelPools pools = new LocalChannelPools( 2 );
+
+    @AfterEach
+    void tearDown()
+    {
+        pools.close();
+    }
+
+    @Test
+    void shouldReuseMostRecentlyReleasedChannel()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+
+        Channel first = await( pool.acquire() );
+        Channel second = await( pool.acquire() );
+        assertNotSame( first, second );
+        await( pool.release( first ) );
+        await( pool.release( second ) );
+
+        assertSame( second, await( pool.acquire() ) );
+        assertSame( first, await( pool.acquire() ) );
+        assertEquals( 2, pools.createdChannels() );
+        assertEquals( 2, pools.tracker().inUseChannelCount( pools.address() ) );
+    }
+
+    @Test
+    void shouldCompleteOnCallingThreadWhenIdleChannelAvailable()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        await( pool.release( await( pool.acquire() ) ) );
+
+        CompletableFuture<Channel> acquisition = pool.acquire().toCompletableFuture();
+
+        assertTrue( acquisition.isDone() );
+    }
+
+    @Test
+    void shouldPreferChannelsOfCallingEventLoop() throws Exception
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        EventLoop firstEventLoop = pools.eventLoopGroup().next();
+        EventLoop secondEventLoop = pools.eventLoopGroup().next();
+
+        Channel first = await( acquireInEventLoop( pool, firstEventLoop ) );
+        Channel second = await( acquireInEventLoop( pool, secondEventLoop ) );
+        assertSame( firstEventLoop, first.eventLoop() );
+        assertSame( secondEventLoop, second.eventLoop() );
+
+        await( pool.release( first ) );
+        await( pool.release( second ) );
+
+        // most recently released channel belongs to the other event loop
+        assertSame( first, await( acquireInEventLoop( pool, firstEventLoop ) ) );
+        assertEquals( 2, pools.createdChannels() );
+    }
+
+    @Test
+    void shouldServePendingAcquisitionWhenChannelReleased()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 1, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+
+        CompletableFuture<Channel> pending = pool.acquire().toCompletableFuture();
+        assertFalse( pending.isDone() );
+
+        await( pool.release( channel ) );
+        assertSame( channel, await( pending ) );
+        assertEquals( 1, pools.createdChannels() );
+    }
+
+    @Test
+    void shouldTimeOutPendingAcquisition()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 1, 10 );
+        Channel channel = await( pool.acquire() );
+
+        assertThrows( TimeoutException.class, () -> await( pool.acquire() ) );
+
+        // timed out acquisition does not take the released channel
+        await( pool.release( channel ) );
+        assertSame( channel, await( pool.acquire() ) );
+    }
+
+    @Test
+    void shouldLimitPendingAcquisitions()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 1, NO_TIMEOUT, 1 );
+        await( pool.acquire() );
+
+        CompletableFuture<Channel> pending = pool.acquire().toCompletableFuture();
+        assertThrows( IllegalStateException.class, () -> await( pool.acquire() ) );
+        assertFalse( pending.isDone() );
+    }
+
+    @Test
+    void shouldReplaceClosedIdleChannel()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+        await( pool.release( channel ) );
+        channel.close().syncUninterruptibly();
+
+        Channel newChannel = await( pool.acquire() );
+
+        assertNotSame( channel, newChannel );
+        assertTrue( newChannel.isActive() );
+        assertEquals( 0, pools.tracker().idleChannelCount( pools.address() ) );
+        assertEquals( 1, pools.tracker().inUseChannelCount( pools.address() ) );
+    }
+
+    @Test
+    void shouldWarmUpToMinIdleConnections()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT, Integer.MAX_VALUE, 3 );
+
+        await( pool.warmUp() );
+        await( pool.warmUp() );
+
+        assertEquals( 3, pools.createdChannels() );
+        assertEquals( 3, pools.tracker().idleChannelCount( pools.address() ) );
+        assertEquals( 0, pools.tracker().inUseChannelCount( pools.address() ) );
+    }
+
+    @Test
+    void shouldStopCountingWarmUpChannelsWhenClosed()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT, Integer.MAX_VALUE, 2 );
+        await( pool.warmUp() );
+        assertEquals( 2, pools.tracker().idleChannelCount( pools.address() ) );
+
+        await( pool.close() );
+
+        assertEquals( 0, pools.tracker().idleChannelCount( pools.address() ) );
+        assertEquals( 0, pools.tracker().inUseChannelCount( pools.address() ) );
+    }
+
+    @Test
+    void shouldNotWarmUpBeyondMaxConnections()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 2, NO_TIMEOUT, Integer.MAX_VALUE, 5 );
+        Channel channel = await( pool.acquire() );
+
+        await( pool.warmUp() );
+        await( pool.warmUp() );
+
+        assertEquals( 2, pools.createdChannels() );
+        await( pool.release( channel ) );
+        assertEquals( 2, pools.tracker().idleChannelCount( pools.address() ) );
+    }
+
+    @Test
+    void shouldReplaceClosedIdleChannelsOnWarmUp()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT, Integer.MAX_VALUE, 1 );
+        await( pool.warmUp() );
+        Channel channel = await( pool.acquire() );
+        await( pool.release( channel ) );
+        channel.close().syncUninterruptibly();
+
+        await( pool.warmUp() );
+
+        assertEquals( 2, pools.createdChannels() );
+        Channel replacement = await( pool.acquire() );
+        assertNotSame( channel, replacement );
+        assertTrue( replacement.isActive() );
+    }
+
+    @Test
+    void shouldCloseIdleChannelsThatFailValidation()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+        await( pool.release( channel ) );
+
+        await( pool.validateIdleChannels( newValidator( true, false ) ) );
+
+        assertFalse( channel.isActive() );
+        assertNotSame( channel, await( pool.acquire() ) );
+    }
+
+    @Test
+    void shouldKeepIdleChannelsThatPassValidation()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+        await( pool.release( channel ) );
+
+        await( pool.validateIdleChannels( newValidator( true, true ) ) );
+
+        assertSame( channel, await( pool.acquire() ) );
+        assertEquals( 1, pools.createdChannels() );
+    }
+
+    @Test
+    void shouldNotExceedMaxConnectionsWhileValidating()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 1, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+        await( pool.release( channel ) );
+        Promise<Boolean> healthy = channel.eventLoop().newPromise();
+        NettyChannelHealthChecker validator = mock( NettyChannelHealthChecker.class );
+        when( validator.needsValidation( any() ) ).thenReturn( true );
+        when( validator.validate( channel ) ).thenReturn( healthy );
+
+        CompletionStage<Void> validation = pool.validateIdleChannels( validator );
+        CompletableFuture<Channel> acquire = pool.acquire().toCompletableFuture();
+        assertFalse( acquire.isDone() );
+
+        healthy.setSuccess( true );
+        await( validation );
+
+        assertSame( channel, await( acquire ) );
+        assertEquals( 1, pools.createdChannels() );
+    }
+
+    @Test
+    void shouldOnlyValidateIdleChannelsDueForValidation()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        Channel idle = await( pool.acquire() );
+        Channel inUse = await( pool.acquire() );
+        await( pool.release( idle ) );
+        NettyChannelHealthChecker validator = newValidator( false, false );
+
+        await( pool.validateIdleChannels( validator ) );
+
+        verify( validator ).needsValidation( idle );
+        verify( validator, never() ).needsValidation( inUse );
+        verify( validator, never() ).validate( any() );
+        assertSame( idle, await( pool.acquire() ) );
+    }
+
+    @Test
+    void shouldFailToReleaseChannelTwice()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+        await( pool.release( channel ) );
+
+        assertThrows( IllegalArgumentException.class, () -> await( pool.release( channel ) ) );
+    }
+
+    @Test
+    void shouldCloseIdleChannelsOnClose()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 10, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+        await( pool.release( channel ) );
+
+        await( pool.close() );
+
+        assertTrue( pool.isClosed() );
+        assertFalse( channel.isActive() );
+        assertThrows( IllegalStateException.class, () -> await( pool.acquire() ) );
+    }
+
+    @Test
+    void shouldFailPendingAcquisitionsAndReleasesOnClose()
+    {
+        ExtendedChannelPool pool = pools.newLockFreePool( 1, NO_TIMEOUT );
+        Channel channel = await( pool.acquire() );
+        CompletableFuture<Channel> pending = pool.acquire().toCompletableFuture();
+
+        await( pool.close() );
+
+        assertThrows( IllegalStateException.class, () -> await( pending ) );
+        assertThrows( IllegalStateException.class, () -> await( pool.release( channel ) ) );
+        channel.closeFuture().syncUninterruptibly();
+    }
+
+    @Test
+    void shouldNeverExceedMaxConnectionsUnderContention() throws Exception
+    {
+        int maxConnections = 4;
+        int threadCount = 16;
+        int iterations = 2_000;
+        ExtendedChannelPool pool = pools.newLockFreePool( maxConnections, NO_TIMEOUT );
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+        CountDownLatch start = new CountDownLatch( 1 );
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for ( int i = 0; i < threadCount; i++ )
+            {
+                futures.add( executor.submit( () ->
+                {
+                    start.await();
+                    for ( int j = 0; j < iterations; j++ )
+                    {
+                        Channel channel = await( pool.acquire() );
+                        assertTrue( pools.tracker().inUseChannelCount( pools.address() ) <= maxConnections );
+                        await( pool.release( channel ) );
+                    }
+                    return null;
+                } ) );
+            }
+            start.countDown();
+            for ( Future<?> future : futures )
+            {
+                future.get( 1, MINUTES );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertTrue( pools.createdChannels() <= maxConnections );
+        assertEquals( 0, pools.tracker().inUseChannelCount( pools.address() ) );
+        assertEquals( pools.createdChannels(), pools.tracker().idleChannelCount( pools.address() ) );
+    }
+
+    private static NettyChannelHealthChecker newValidator( boolean needsValidation, boolean healthy )
+    {
+        NettyChannelHealthChecker validator = mock( NettyChannelHealthChecker.class );
+        when( validator.needsValidation( any() ) ).thenReturn( needsValidation );
+        when( validator.validate( any() ) ).thenAnswer( invocation ->
+        {
+            Channel channel = invocation.getArgument( 0 );
+            return channel.eventLoop().newSucceededFuture( healthy );
+        } );
+        return validator;
+    }
+
+    private static CompletionStage<Channel> acquireInEventLoop( ExtendedChannelPool pool, EventLoop eventLoop ) throws Exception
+    {
+        return eventLoop.submit( pool::acquire ).get();
+    }
+}
@@ -29,18 +29,22 @@ import java.util.Collections;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.request.ResetMessage;
 import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.internal.util.FakeClock;
 import org.neo4j.driver.Value;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setCreationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
+import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_MIN_IDLE_CONNECTIONS;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.NOT_CONFIGURED;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Iterables.single;
@@ -115,6 +119,59 @@ class NettyChannelHealthCheckerTest
         testActiveConnectionCheck( false );
     }
 
+    @Test
+    void shouldSelectChannelsIdleForValidationInterval()
+    {
+        int validationInterval = 1000;
+        FakeClock clock = new FakeClock();
+        NettyChannelHealthChecker healthChecker = newHealthChecker( newSettings( validationInterval ), clock );
+        setLastUsedTimestamp( channel, clock.millis() );
+
+        clock.progress( validationInterval - 1 );
+        assertFalse( healthChecker.needsValidation( channel ) );
+
+        clock.progress( 1 );
+        assertTrue( healthChecker.needsValidation( channel ) );
+    }
+
+    @Test
+    void shouldNotSelectChannelsWhenValidationDisabled()
+    {
+        NettyChannelHealthChecker healthChecker = newHealthChecker( newSettings( NOT_CONFIGURED ), Clock.SYSTEM );
+        setLastUsedTimestamp( channel, 0 );
+
+        assertFalse( healthChecker.needsValidation( channel ) );
+    }
+
+    @Test
+    void shouldRefreshLastUsedTimestampWhenValidationPingSucceeds()
+    {
+        FakeClock clock = new FakeClock();
+        NettyChannelHealthChecker healthChecker = newHealthChecker( newSettings( 1000 ), clock );
+        setCreationTimestamp( channel, clock.millis() );
+        setLastUsedTimestamp( channel, clock.millis() );
+        clock.progress( 5000 );
+
+        Future<Boolean> healthy = healthChecker.validate( channel );
+        assertEquals( ResetMessage.RESET, single( channel.outboundMessages() ) );
+        dispatcher.handleSuccessMessage( Collections.<String,Value>emptyMap() );
+
+        assertThat( await( healthy ), is( true ) );
+        assertEquals( clock.millis(), lastUsedTimestamp( channel ).longValue() );
+        assertFalse( healthChecker.needsValidation( channel ) );
+    }
+
+    @Test
+    void shouldFailValidationOfInactiveChannelsWithoutPing()
+    {
+        NettyChannelHealthChecker healthChecker = newHealthChecker( newSettings( 1000 ), Clock.SYSTEM );
+        setCreationTimestamp( channel, Clock.SYSTEM.millis() );
+        channel.close().syncUninterruptibly();
+
+        assertThat( await( healthChecker.validate( channel ) ), is( false ) );
+        assertTrue( channel.outboundMessages().isEmpty() );
+    }
+
     private void testPing( boolean resetMessageSuccessful )
     {
         int idleTimeBeforeConnectionTest = 1000;
@@ -165,6 +222,12 @@ class NettyChannelHealthCheckerTest
         }
     }
 
+    private static PoolSettings newSettings( long idleConnectionValidationInterval )
+    {
+        return new PoolSettings( DEFAULT_MAX_CONNECTION_POOL_SIZE, DEFAULT_CONNECTION_ACQUISITION_TIMEOUT, NOT_CONFIGURED,
+                DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST, DEFAULT_MIN_IDLE_CONNECTIONS, idleConnectionValidationInterval );
+    }
+
     private NettyChannelHealthChecker newHealthChecker( PoolSettings settings, Clock clock )
     {
         return new NettyChannelHealthChecker( settings, clock, DEV_NULL_LOGGING );
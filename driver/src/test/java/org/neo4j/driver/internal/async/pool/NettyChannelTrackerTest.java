@@ -24,11 +24,18 @@ import io.netty.channel.group.ChannelGroup;
 import org.bouncycastle.util.Arrays;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.request.GoodbyeMessage;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
@@ -188,6 +195,42 @@ class NettyChannelTrackerTest
         assertEquals( 0, tracker.inUseChannelCount( address ) );
     }
 
+    @Test
+    void shouldCountChannelsAcquiredAndReleasedConcurrently() throws Exception
+    {
+        int threadCount = 8;
+        int iterations = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for ( int i = 0; i < threadCount; i++ )
+            {
+                Channel channel = newChannel();
+                tracker.channelCreated( channel, null );
+                futures.add( executor.submit( () ->
+                {
+                    for ( int j = 0; j < iterations; j++ )
+                    {
+                        tracker.channelAcquired( channel );
+                        tracker.channelReleased( channel );
+                    }
+                } ) );
+            }
+            for ( Future<?> future : futures )
+            {
+                future.get( 1, MINUTES );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals( 0, tracker.inUseChannelCount( address ) );
+        assertEquals( threadCount, tracker.idleChannelCount( address ) );
+    }
+
     @Test
     void shouldAddChannelToGroupWhenChannelCreated()
     {
@@ -106,6 +106,18 @@ public class TestConnectionPool extends ConnectionPoolImpl
                 isClosed.set( true );
                 return completedWithNull();
             }
+
+            @Override
+            public CompletionStage<Void> warmUp()
+            {
+                return completedWithNull();
+            }
+
+            @Override
+            public CompletionStage<Void> validateIdleChannels( NettyChannelHealthChecker validator )
+            {
+                return completedWithNull();
+            }
         };
         channelPoolsByAddress.put( address, channelPool );
         return channelPool;
@@ -194,6 +194,23 @@ class RoutingTableHandlerTest
         verify( connectionPool ).retainAll( new HashSet<>( asList( A, B, C ) ) );
     }
 
+    @Test
+    void shouldWarmUpReadersAndWritersAfterFetchingOfRoutingTable()
+    {
+        RoutingTable routingTable = new ClusterRoutingTable( defaultDatabase(), new FakeClock() );
+        ConnectionPool connectionPool = newConnectionPoolMock();
+
+        Rediscovery rediscovery = newRediscoveryMock();
+        when( rediscovery.lookupClusterComposition( any(), any(), any() ) ).thenReturn( completedFuture(
+                new ClusterComposition( 42, asOrderedSet( A, B ), asOrderedSet( C ), asOrderedSet( D, E ) ) ) );
+
+        RoutingTableHandler handler = newRoutingTableHandler( routingTable, rediscovery, connectionPool );
+
+        await( handler.ensureRoutingTable( simple( false ) ) );
+
+        verify( connectionPool ).warmUp( new HashSet<>( asList( A, B, C ) ) );
+    }
+
     @Test
     void shouldRemoveRoutingTableHandlerIfFailedToLookup() throws Throwable
     {
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.handlers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -26,13 +28,18 @@ import java.util.function.Function;
 
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Query;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.RetainedBytesValue;
 import org.neo4j.driver.summary.ResultSummary;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -48,20 +55,140 @@ import static org.neo4j.driver.util.TestUtil.await;
 
 class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<LegacyPullAllResponseHandler>
 {
+    private static final int RECORD_SIZE = 100;
+    private static final int LOW_WATERMARK_RECORDS = 300;
+    private static final int HIGH_WATERMARK_RECORDS = 1000;
+
+    private final InboundFlowControl flowControl =
+            new InboundFlowControl( LOW_WATERMARK_RECORDS * RECORD_SIZE, HIGH_WATERMARK_RECORDS * RECORD_SIZE );
+
     @Test
-    void shouldDisableAutoReadWhenTooManyRecordsArrive()
+    void shouldDisableAutoReadWhenTooManyBytesArrive()
     {
         Connection connection = connectionMock();
         LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
 
-        for ( int i = 0; i < LegacyPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 1; i++ )
+        for ( int i = 0; i < HIGH_WATERMARK_RECORDS + 1; i++ )
+        {
+            receiveRecord( handler, RECORD_SIZE, values( 100, 200 ) );
+        }
+
+        verify( connection ).disableAutoRead();
+        assertEquals( (HIGH_WATERMARK_RECORDS + 1) * RECORD_SIZE, flowControl.bufferedBytes() );
+    }
+
+    @Test
+    void shouldDisableAutoReadWhenSingleRecordExceedsHighWatermark()
+    {
+        Connection connection = connectionMock();
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
+
+        receiveRecord( handler, RECORD_SIZE, values( 1, 2 ) );
+        verify( connection, never() ).disableAutoRead();
+
+        receiveRecord( handler, HIGH_WATERMARK_RECORDS * RECORD_SIZE, values( 3, 4 ) );
+        verify( connection ).disableAutoRead();
+
+        // buffer is not empty and over the low watermark
+        assertNotNull( await( handler.nextAsync() ) );
+        verify( connection, never() ).enableAutoRead();
+
+        // buffer is empty
+        assertNotNull( await( handler.nextAsync() ) );
+        verify( connection ).enableAutoRead();
+        assertEquals( 0, flowControl.bufferedBytes() );
+    }
+
+    @Test
+    void shouldDisableAutoReadWhenRecordsOfOtherResultsFillTheBudget()
+    {
+        Connection connection = connectionMock();
+        LegacyPullAllResponseHandler handler1 = newHandler( asList( "key1", "key2" ), connection );
+        LegacyPullAllResponseHandler handler2 = newHandler( asList( "key1", "key2" ), connection );
+
+        for ( int i = 0; i < HIGH_WATERMARK_RECORDS; i++ )
         {
-            handler.onRecord( values( 100, 200 ) );
+            receiveRecord( handler1, RECORD_SIZE, values( 1, 2 ) );
         }
+        verify( connection, never() ).disableAutoRead();
 
+        receiveRecord( handler2, RECORD_SIZE, values( 3, 4 ) );
         verify( connection ).disableAutoRead();
     }
 
+    @Test
+    void shouldReleaseBytesOfDiscardedRecords()
+    {
+        Connection connection = connectionMock();
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
+
+        receiveRecord( handler, RECORD_SIZE, values( 1, 2 ) );
+        receiveRecord( handler, RECORD_SIZE, values( 3, 4 ) );
+        assertEquals( 2 * RECORD_SIZE, flowControl.bufferedBytes() );
+
+        handler.consumeAsync();
+        assertEquals( 0, flowControl.bufferedBytes() );
+
+        // records are ignored after consume
+        receiveRecord( handler, RECORD_SIZE, values( 5, 6 ) );
+        assertEquals( 0, flowControl.bufferedBytes() );
+    }
+
+    @Test
+    void shouldReleaseRetainedBytesOfDiscardedRecords()
+    {
+        Connection connection = connectionMock();
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
+
+        ByteBuf buffered = Unpooled.wrappedBuffer( new byte[]{1, 2, 3} );
+        ByteBuf nested = Unpooled.wrappedBuffer( new byte[]{4, 5, 6} );
+        receiveRecord( handler, RECORD_SIZE, new Value[]{new RetainedBytesValue( buffered ), new ListValue( new RetainedBytesValue( nested ) )} );
+
+        handler.consumeAsync();
+        assertEquals( 0, buffered.refCnt() );
+        assertEquals( 0, nested.refCnt() );
+
+        // records are ignored after consume
+        ByteBuf ignored = Unpooled.wrappedBuffer( new byte[]{7, 8, 9} );
+        receiveRecord( handler, RECORD_SIZE, new Value[]{new RetainedBytesValue( ignored ), value( 1 )} );
+        assertEquals( 0, ignored.refCnt() );
+    }
+
+    @Test
+    void shouldNotReleaseRetainedBytesOfPeekedRecord()
+    {
+        Connection connection = connectionMock();
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
+
+        ByteBuf peeked = Unpooled.wrappedBuffer( new byte[]{1, 2, 3} );
+        ByteBuf discarded = Unpooled.wrappedBuffer( new byte[]{4, 5, 6} );
+        receiveRecord( handler, RECORD_SIZE, new Value[]{new RetainedBytesValue( peeked ), value( 1 )} );
+        receiveRecord( handler, RECORD_SIZE, new Value[]{new RetainedBytesValue( discarded ), value( 2 )} );
+
+        Record record = await( handler.peekAsync() );
+        handler.consumeAsync();
+
+        assertEquals( 1, peeked.refCnt() );
+        assertEquals( 0, discarded.refCnt() );
+        assertArrayEquals( new byte[]{1, 2, 3}, record.get( "key1" ).asByteArray() );
+    }
+
+    @Test
+    void shouldNotReleaseRetainedBytesOfAwaitedRecord()
+    {
+        Connection connection = connectionMock();
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
+
+        CompletableFuture<Record> peekFuture = handler.peekAsync().toCompletableFuture();
+        ByteBuf awaited = Unpooled.wrappedBuffer( new byte[]{1, 2, 3} );
+        receiveRecord( handler, RECORD_SIZE, new Value[]{new RetainedBytesValue( awaited ), value( 1 )} );
+
+        handler.consumeAsync();
+
+        assertEquals( 1, awaited.refCnt() );
+        assertArrayEquals( new byte[]{1, 2, 3}, await( peekFuture ).get( "key1" ).asByteArray() );
+    }
+
     @Test
     void shouldEnableAutoReadWhenRecordsRetrievedFromBuffer()
     {
@@ -70,15 +197,15 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
         LegacyPullAllResponseHandler handler = newHandler( keys, connection );
 
         int i;
-        for ( i = 0; i < LegacyPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 1; i++ )
+        for ( i = 0; i < HIGH_WATERMARK_RECORDS + 1; i++ )
         {
-            handler.onRecord( values( 100, 200 ) );
+            receiveRecord( handler, RECORD_SIZE, values( 100, 200 ) );
         }
 
         verify( connection, never() ).enableAutoRead();
         verify( connection ).disableAutoRead();
 
-        while ( i-- > LegacyPullAllResponseHandler.RECORD_BUFFER_LOW_WATERMARK - 1 )
+        while ( i-- > LOW_WATERMARK_RECORDS )
         {
             Record record = await( handler.nextAsync() );
             assertNotNull( record );
@@ -99,10 +226,10 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
         CompletableFuture<ResultSummary> summaryFuture = handler.consumeAsync().toCompletableFuture();
         assertFalse( summaryFuture.isDone() );
 
-        int recordCount = LegacyPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 10;
+        int recordCount = HIGH_WATERMARK_RECORDS + 10;
         for ( int i = 0; i < recordCount; i++ )
         {
-            handler.onRecord( values( "a", "b" ) );
+            receiveRecord( handler, RECORD_SIZE, values( "a", "b" ) );
         }
 
         verify( connection, never() ).disableAutoRead();
@@ -125,10 +252,10 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
         CompletableFuture<Throwable> failureFuture = handler.pullAllFailureAsync().toCompletableFuture();
         assertFalse( failureFuture.isDone() );
 
-        int recordCount = LegacyPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 5;
+        int recordCount = HIGH_WATERMARK_RECORDS + 5;
         for ( int i = 0; i < recordCount; i++ )
         {
-            handler.onRecord( values( 123, 456 ) );
+            receiveRecord( handler, RECORD_SIZE, values( 123, 456 ) );
         }
 
         verify( connection, never() ).disableAutoRead();
@@ -186,9 +313,9 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
         LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
         handler.disableAutoReadManagement();
 
-        for ( int i = 0; i < LegacyPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 1; i++ )
+        for ( int i = 0; i < HIGH_WATERMARK_RECORDS + 1; i++ )
         {
-            handler.onRecord( values( 100, 200 ) );
+            receiveRecord( handler, RECORD_SIZE, values( 100, 200 ) );
         }
 
         verify( connection, never() ).disableAutoRead();
@@ -239,6 +366,13 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
     {
         RunResponseHandler runResponseHandler = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR );
         runResponseHandler.onSuccess( singletonMap( "fields", value( queryKeys ) ) );
-        return new LegacyPullAllResponseHandler(query, runResponseHandler, connection, METADATA_EXTRACTOR, mock( PullResponseCompletionListener.class ) );
+        return new LegacyPullAllResponseHandler( query, runResponseHandler, connection, METADATA_EXTRACTOR, mock( PullResponseCompletionListener.class ),
+                                                 flowControl );
+    }
+
+    private void receiveRecord( LegacyPullAllResponseHandler handler, int size, Value[] fields )
+    {
+        flowControl.messageReceived( size );
+        handler.onRecord( fields );
     }
 }
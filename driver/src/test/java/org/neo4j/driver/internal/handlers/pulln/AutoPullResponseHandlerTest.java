@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandlerTestBase;
 import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
@@ -39,6 +40,7 @@ import org.neo4j.driver.internal.value.BooleanValue;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -192,4 +194,125 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
 
         inOrder.verify( connection ).writeAndFlush( any( PullMessage.class ), any() );
     }
+
+    @Test
+    void shouldInterleavePullsOfMultipleResultsOnSameConnection()
+    {
+        Connection connection = connectionMock();
+        InOrder inOrder = Mockito.inOrder( connection );
+
+        //highwatermark=2, lowwatermark=1
+        RunResponseHandler runHandler1 = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR );
+        AutoPullResponseHandler handler1 = new AutoPullResponseHandler( new Query( "RETURN 1" ), runHandler1, connection, METADATA_EXTRACTOR,
+                                                                        mock( PullResponseCompletionListener.class ), 4 );
+        handler1.prePopulateRecords();
+        runHandler1.onSuccess( singletonMap( "qid", value( 0 ) ) );
+
+        RunResponseHandler runHandler2 = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR );
+        AutoPullResponseHandler handler2 = new AutoPullResponseHandler( new Query( "RETURN 2" ), runHandler2, connection, METADATA_EXTRACTOR,
+                                                                        mock( PullResponseCompletionListener.class ), 4 );
+        handler2.prePopulateRecords();
+        runHandler2.onSuccess( singletonMap( "qid", value( 1 ) ) );
+
+        // first batches are requested together with RUN and address the last query
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( 4, -1 ) ), eq( handler1 ) );
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( 4, -1 ) ), eq( handler2 ) );
+
+        Map<String,Value> metaData = singletonMap( "has_more", BooleanValue.TRUE );
+
+        handler1.onRecord( values( 1 ) );
+        handler1.onSuccess( metaData );
+        handler2.onRecord( values( 2 ) );
+        handler2.onSuccess( metaData );
+
+        // following batches address their own query
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( 4, 0 ) ), eq( handler1 ) );
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( 4, 1 ) ), eq( handler2 ) );
+
+        handler2.onRecord( values( 3 ) );
+        handler2.onRecord( values( 4 ) );
+        handler2.onRecord( values( 5 ) );
+        handler2.onSuccess( metaData );
+        inOrder.verify( connection, never() ).writeAndFlush( any(), any() );
+
+        // consuming records of the second result resumes its stream while the first result stays open
+        handler2.nextAsync();
+        handler2.nextAsync();
+        handler2.nextAsync();
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( 4, 1 ) ), eq( handler2 ) );
+    }
+
+    @Test
+    void shouldStopRequestingWhenOverHighWatermarkOfBytes()
+    {
+        Connection connection = connectionMock();
+        InboundFlowControl flowControl = new InboundFlowControl( 100, 1000 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 10, flowControl );
+
+        verify( connection ).writeAndFlush( eq( new PullMessage( 10, -1 ) ), any() );
+
+        receiveRecord( handler, flowControl, 600, values( 1 ) );
+        receiveRecord( handler, flowControl, 600, values( 2 ) );
+        handler.onSuccess( singletonMap( "has_more", BooleanValue.TRUE ) );
+
+        // only two records arrived, but they are over the byte budget
+        verify( connection, times( 1 ) ).writeAndFlush( any( PullMessage.class ), any() );
+
+        handler.nextAsync();
+        verify( connection, times( 1 ) ).writeAndFlush( any( PullMessage.class ), any() );
+
+        handler.nextAsync();
+        verify( connection, times( 2 ) ).writeAndFlush( any( PullMessage.class ), any() );
+    }
+
+    @Test
+    void shouldRequestSmallerBatchesWhenRecordsAreBig()
+    {
+        Connection connection = connectionMock();
+        InboundFlowControl flowControl = new InboundFlowControl( 0, 1000 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 100, flowControl );
+
+        verify( connection ).writeAndFlush( eq( new PullMessage( 100, -1 ) ), any() );
+
+        receiveRecord( handler, flowControl, 300, values( 1 ) );
+        handler.onSuccess( singletonMap( "has_more", BooleanValue.TRUE ) );
+
+        // 700 bytes left in the budget fit two more records of 300 bytes
+        verify( connection ).writeAndFlush( eq( new PullMessage( 2, -1 ) ), any() );
+    }
+
+    @Test
+    void shouldResumeWhenBufferIsEmptyAndBudgetTakenByOtherResults()
+    {
+        Connection connection = connectionMock();
+        InboundFlowControl flowControl = new InboundFlowControl( 100, 1000 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 10, flowControl );
+
+        // records of another result on the same connection
+        flowControl.recordsBuffered( 2000 );
+
+        receiveRecord( handler, flowControl, 10, values( 1 ) );
+        handler.onSuccess( singletonMap( "has_more", BooleanValue.TRUE ) );
+        verify( connection, times( 1 ) ).writeAndFlush( any( PullMessage.class ), any() );
+
+        handler.nextAsync();
+        verify( connection ).writeAndFlush( eq( new PullMessage( 1, -1 ) ), any() );
+    }
+
+    private AutoPullResponseHandler newHandler( Query query, Connection connection, long fetchSize, InboundFlowControl flowControl )
+    {
+        RunResponseHandler runResponseHandler = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR );
+        runResponseHandler.onSuccess( emptyMap() );
+        AutoPullResponseHandler handler =
+                new AutoPullResponseHandler( query, runResponseHandler, connection, METADATA_EXTRACTOR, mock( PullResponseCompletionListener.class ),
+                                             fetchSize, flowControl );
+        handler.prePopulateRecords();
+        return handler;
+    }
+
+    private static void receiveRecord( AutoPullResponseHandler handler, InboundFlowControl flowControl, int size, Value[] fields )
+    {
+        flowControl.messageReceived( size );
+        handler.onRecord( fields );
+    }
 }
@@ -33,17 +33,23 @@ import org.neo4j.driver.Query;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.messaging.ValuePacker;
+import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 
 import static java.util.Collections.singletonMap;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
 import static org.neo4j.driver.internal.messaging.request.DiscardAllMessage.DISCARD_ALL;
 import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.autoCommitTxRunMessage;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.unmanagedTxRunMessage;
 
 class RunWithMetadataMessageEncoderTest
 {
@@ -85,6 +91,21 @@ class RunWithMetadataMessageEncoderTest
         order.verify( packer ).pack( expectedMetadata );
     }
 
+    @Test
+    void shouldEncodePreparedQueryText() throws Exception
+    {
+        Map<String,Value> params = singletonMap( "answer", value( 42 ) );
+        Query query = new Query( "RETURN $answer" ).prepare().withParameters( value( params ) );
+
+        encoder.encode( unmanagedTxRunMessage( query ), packer );
+
+        InOrder order = inOrder( packer );
+        order.verify( packer ).packStructHeader( 3, RunWithMetadataMessage.SIGNATURE );
+        order.verify( packer ).packEncoded( aryEq( PackStream.encodeString( "RETURN $answer" ) ) );
+        order.verify( packer ).pack( params );
+        verify( packer, never() ).pack( anyString() );
+    }
+
     @Test
     void shouldFailToEncodeWrongMessage()
     {
@@ -85,6 +85,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.WRITE;
@@ -211,6 +212,19 @@ public class BoltProtocolV3Test
         assertNull( await( stage ) );
     }
 
+    @Test
+    void shouldQueuePipelinedBeginTransactionWithBookmarks()
+    {
+        Connection connection = connectionMock( protocol );
+        Bookmark bookmark = InternalBookmark.parse( "neo4j:bookmark:v1:tx100" );
+
+        CompletionStage<Void> stage = protocol.beginPipelinedTransaction( connection, bookmark, TransactionConfig.empty() );
+
+        verify( connection ).write( eq( new BeginMessage( bookmark, TransactionConfig.empty(), defaultDatabase(), WRITE ) ), eq( NoOpResponseHandler.INSTANCE ) );
+        verify( connection, never() ).writeAndFlush( any(), any() );
+        assertNull( await( stage ) );
+    }
+
     @Test
     void shouldBeginTransactionWithConfig()
     {
@@ -412,6 +412,130 @@ public class PackStreamTest
         assertThat( unpacker.unpackString(), equalTo( code ));
     }
 
+    @Test
+    void testCanPackAndUnpackInternedStrings() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+
+        // When
+        PackStream.Packer packer = machine.packer();
+        packer.pack( "" );
+        packer.pack( "name" );
+        packer.pack( "Mjölnir" );
+
+        // Then
+        PackStream.Unpacker unpacker = newUnpacker( machine.output() );
+        assertThat( unpacker.unpackInternedString(), equalTo( "" ) );
+        assertThat( unpacker.unpackInternedString(), equalTo( "name" ) );
+        assertThat( unpacker.unpackInternedString(), equalTo( "Mjölnir" ) );
+    }
+
+    @Test
+    void testCanSkipValues() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+        PackStream.Packer packer = machine.packer();
+        packer.pack( asList( 1L, 300L, 70000L, 5000000000L, 1.5, "a", null, true ) );
+        Map<String,Object> map = new HashMap<>();
+        map.put( "key", new byte[1000] );
+        map.put( "nested", asList( "x", asList( "y" ) ) );
+        packer.pack( map );
+        packer.packStructHeader( 2, (byte) 'N' );
+        packer.pack( "Mjölnir" );
+        packer.pack( 42L );
+        packer.pack( "last" );
+
+        // When
+        PackStream.Unpacker unpacker = newUnpacker( machine.output() );
+        unpacker.skip();
+        unpacker.skip();
+        unpacker.skip();
+
+        // Then
+        assertThat( unpacker.unpackString(), equalTo( "last" ) );
+    }
+
+    @Test
+    void testCanUnpackRawValues() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+        PackStream.Packer packer = machine.packer();
+        packer.pack( asList( 1L, "two", asList( 3.0, new byte[]{4} ) ) );
+        byte[] listEncoding = machine.output();
+        machine.reset();
+        packer.packStructHeader( 1, (byte) 'X' );
+        packer.pack( new String( new char[300] ).replace( '\0', 'a' ) );
+        byte[] structEncoding = machine.output();
+
+        byte[] both = new byte[listEncoding.length + structEncoding.length];
+        System.arraycopy( listEncoding, 0, both, 0, listEncoding.length );
+        System.arraycopy( structEncoding, 0, both, listEncoding.length, structEncoding.length );
+
+        // When
+        PackStream.Unpacker unpacker = newUnpacker( both );
+
+        // Then
+        assertArrayEquals( listEncoding, unpacker.unpackRaw() );
+        assertArrayEquals( structEncoding, unpacker.unpackRaw() );
+    }
+
+    @Test
+    void testCanPackEncodedStrings() throws Throwable
+    {
+        for ( int size : new int[]{0, 15, 16, 127, 128, 65535, 65536} )
+        {
+            // Given
+            String value = new String( new char[size] ).replace( '\0', 'ä' ).substring( 0, size / 2 );
+            Machine machine = new Machine();
+            machine.packer().pack( value );
+            byte[] expected = machine.output();
+
+            // When
+            byte[] encoded = PackStream.encodeString( value );
+            machine.reset();
+            machine.packer().packEncoded( encoded );
+
+            // Then
+            assertArrayEquals( expected, encoded );
+            assertArrayEquals( expected, machine.output() );
+            assertThat( newUnpacker( encoded ).unpackString(), equalTo( value ) );
+        }
+    }
+
+    @Test
+    void testCanPackPrimitiveArrays() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+        PackStream.Packer packer = machine.packer();
+
+        // When
+        packer.pack( (Object) new long[]{1, Long.MIN_VALUE} );
+        packer.pack( (Object) new int[]{2} );
+        packer.pack( (Object) new double[]{1.5} );
+        packer.pack( (Object) new boolean[]{true, false} );
+        packer.pack( (Object) new String[]{"a", "b"} );
+
+        // Then
+        PackStream.Unpacker unpacker = newUnpacker( machine.output() );
+        assertThat( unpacker.unpackListHeader(), equalTo( 2L ) );
+        assertThat( unpacker.unpackLong(), equalTo( 1L ) );
+        assertThat( unpacker.unpackLong(), equalTo( Long.MIN_VALUE ) );
+        assertThat( unpacker.unpackListHeader(), equalTo( 1L ) );
+        assertThat( unpacker.unpackLong(), equalTo( 2L ) );
+        assertThat( unpacker.unpackListHeader(), equalTo( 1L ) );
+        assertThat( unpacker.unpackDouble(), equalTo( 1.5 ) );
+        assertThat( unpacker.unpackListHeader(), equalTo( 2L ) );
+        assertThat( unpacker.unpackBoolean(), equalTo( true ) );
+        assertThat( unpacker.unpackBoolean(), equalTo( false ) );
+        assertThat( unpacker.unpackListHeader(), equalTo( 2L ) );
+        assertThat( unpacker.unpackString(), equalTo( "a" ) );
+        assertThat( unpacker.unpackString(), equalTo( "b" ) );
+    }
+
     @Test
     void testCanPackAndUnpackListOneItemAtATime() throws Throwable
     {
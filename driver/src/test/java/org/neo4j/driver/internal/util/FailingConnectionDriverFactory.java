@@ -27,6 +27,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DriverFactory;
+import org.neo4j.driver.internal.async.inbound.InboundFlowControl;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
@@ -81,6 +82,12 @@ public class FailingConnectionDriverFactory extends DriverFactory
             delegate.retainAll( addressesToRetain );
         }
 
+        @Override
+        public CompletionStage<Void> warmUp( Set<BoltServerAddress> addresses )
+        {
+            return delegate.warmUp( addresses );
+        }
+
         @Override
         public int inUseConnections( BoltServerAddress address )
         {
@@ -136,6 +143,12 @@ public class FailingConnectionDriverFactory extends DriverFactory
             delegate.disableAutoRead();
         }
 
+        @Override
+        public InboundFlowControl inboundFlowControl()
+        {
+            return delegate.inboundFlowControl();
+        }
+
         @Override
         public void write( Message message, ResponseHandler handler )
         {
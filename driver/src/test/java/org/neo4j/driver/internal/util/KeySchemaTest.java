@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeySchemaTest
+{
+    @Test
+    void shouldFindKeysOfSmallSchema()
+    {
+        KeySchema schema = KeySchema.of( new String[]{"name", "age"} );
+
+        assertEquals( 2, schema.size() );
+        assertEquals( 0, schema.indexOf( "name" ) );
+        assertEquals( 1, schema.indexOf( "age" ) );
+        assertEquals( -1, schema.indexOf( "email" ) );
+    }
+
+    @Test
+    void shouldFindKeysOfLargeSchema()
+    {
+        String[] keys = new String[20];
+        for ( int i = 0; i < keys.length; i++ )
+        {
+            keys[i] = "key" + i;
+        }
+        KeySchema schema = KeySchema.of( keys );
+
+        for ( int i = 0; i < keys.length; i++ )
+        {
+            assertEquals( i, schema.indexOf( "key" + i ) );
+            assertEquals( keys[i], schema.key( i ) );
+        }
+        assertEquals( -1, schema.indexOf( "key20" ) );
+    }
+
+    @Test
+    void shouldNotCreateSchemaWithDuplicateKeys()
+    {
+        assertNull( KeySchema.of( new String[]{"a", "b", "a"} ) );
+        assertNull( KeySchema.of( new String[]{"a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "a"} ) );
+    }
+
+    @Test
+    void shouldMatchSameKeysInSameOrder()
+    {
+        KeySchema schema = KeySchema.of( new String[]{"name", "age"} );
+
+        assertTrue( schema.matches( new String[]{"name", new String( "age" )} ) );
+        assertFalse( schema.matches( new String[]{"age", "name"} ) );
+        assertFalse( schema.matches( new String[]{"name"} ) );
+    }
+
+    @Test
+    void shouldReuseCachedSchema()
+    {
+        KeySchema.Cache cache = new KeySchema.Cache();
+
+        KeySchema schema1 = cache.schemaFor( new String[]{"name", "age"} );
+        KeySchema schema2 = cache.schemaFor( new String[]{"name", "age"} );
+        KeySchema schema3 = cache.schemaFor( new String[]{"name", "email"} );
+
+        assertSame( schema1, schema2 );
+        assertNotSame( schema1, schema3 );
+        assertNull( cache.schemaFor( new String[]{"name", "name"} ) );
+    }
+}
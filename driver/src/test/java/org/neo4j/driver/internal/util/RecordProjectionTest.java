@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalRecord;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.Values.values;
+
+class RecordProjectionTest
+{
+    private static final QueryKeys QUERY_KEYS = new QueryKeys( asList( "a", "b", "c", "d" ) );
+
+    @Test
+    void shouldKeepQueryKeyOrder()
+    {
+        RecordProjection projection = RecordProjection.of( QUERY_KEYS, asList( "d", "b" ) );
+
+        assertEquals( asList( "b", "d" ), projection.keys().keys() );
+        assertEquals( 2, projection.size() );
+        assertFalse( projection.includes( 0 ) );
+        assertTrue( projection.includes( 1 ) );
+        assertFalse( projection.includes( 2 ) );
+        assertTrue( projection.includes( 3 ) );
+        assertFalse( projection.includes( 4 ) );
+    }
+
+    @Test
+    void shouldFailForUnknownKey()
+    {
+        ClientException e = assertThrows( ClientException.class, () -> RecordProjection.of( QUERY_KEYS, singletonList( "x" ) ) );
+
+        assertTrue( e.getMessage().contains( "'x'" ) );
+    }
+
+    @Test
+    void shouldCreateRecordFromProjectedFields()
+    {
+        RecordProjection projection = RecordProjection.of( QUERY_KEYS, asList( "a", "c" ) );
+
+        Record record = projection.newRecord( values( 1, 3 ) );
+
+        assertEquals( asList( "a", "c" ), record.keys() );
+        assertEquals( value( 3 ), record.get( "c" ) );
+    }
+
+    @Test
+    void shouldCreateRecordFromAllFields()
+    {
+        RecordProjection projection = RecordProjection.of( QUERY_KEYS, asList( "a", "c" ) );
+
+        Record record = projection.newRecord( values( 1, 2, 3, 4 ) );
+
+        assertEquals( new InternalRecord( asList( "a", "c" ), values( 1, 3 ) ), record );
+    }
+
+    @Test
+    void shouldProjectRecord()
+    {
+        RecordProjection projection = RecordProjection.of( QUERY_KEYS, singletonList( "b" ) );
+        Record projected = new InternalRecord( singletonList( "b" ), values( 2 ) );
+
+        assertEquals( projected, projection.project( new InternalRecord( QUERY_KEYS, values( 1, 2, 3, 4 ) ) ) );
+        assertSame( projected, projection.project( projected ) );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.neo4j.driver.Value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.Values.value;
+
+class SchemaMapTest
+{
+    private final KeySchema schema = KeySchema.of( new String[]{"name", "age"} );
+
+    @Test
+    void shouldGetValues()
+    {
+        SchemaMap map = new SchemaMap( schema, new Value[]{value( "Alice" ), value( 42 )} );
+
+        assertEquals( 2, map.size() );
+        assertEquals( value( "Alice" ), map.get( "name" ) );
+        assertEquals( value( 42 ), map.get( "age" ) );
+        assertNull( map.get( "email" ) );
+        assertNull( map.get( 42 ) );
+        assertTrue( map.containsKey( "age" ) );
+        assertFalse( map.containsKey( "email" ) );
+    }
+
+    @Test
+    void shouldBeEqualToRegularMap()
+    {
+        SchemaMap map = new SchemaMap( schema, new Value[]{value( "Alice" ), value( 42 )} );
+        Map<String,Value> expected = new HashMap<>();
+        expected.put( "age", value( 42 ) );
+        expected.put( "name", value( "Alice" ) );
+
+        assertEquals( expected, map );
+        assertEquals( map, expected );
+        assertEquals( expected.hashCode(), map.hashCode() );
+    }
+
+    @Test
+    void shouldIterateInSchemaOrder()
+    {
+        SchemaMap map = new SchemaMap( schema, new Value[]{value( "Alice" ), value( 42 )} );
+
+        Map<String,Value> copy = new LinkedHashMap<>( map );
+        Map<String,Value> forEachCopy = new LinkedHashMap<>();
+        map.forEach( forEachCopy::put );
+
+        assertEquals( "[name, age]", copy.keySet().toString() );
+        assertEquals( "[name, age]", forEachCopy.keySet().toString() );
+    }
+
+    @Test
+    void shouldBeImmutable()
+    {
+        SchemaMap map = new SchemaMap( schema, new Value[]{value( "Alice" ), value( 42 )} );
+
+        assertThrows( UnsupportedOperationException.class, () -> map.put( "email", value( "alice@example.com" ) ) );
+        assertThrows( UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue( value( "Bob" ) ) );
+    }
+
+    @Test
+    void shouldRejectValuesNotMatchingSchema()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new SchemaMap( schema, new Value[]{value( "Alice" )} ) );
+    }
+}
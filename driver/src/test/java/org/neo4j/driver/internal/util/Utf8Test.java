@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Utf8Test
+{
+    @ParameterizedTest
+    @ValueSource( strings = {"", "ascii", "Mjölnir", "€", "😀", "a😀b", "\uD800", "\uDC00", "\uD800x", "x\uD800", "\uDC00\uD800", "\uD800é", "\uD800\uD83D\uDE00"} )
+    void shouldComputeEncodedLength( String value )
+    {
+        assertEquals( value.getBytes( StandardCharsets.UTF_8 ).length, Utf8.encodedLength( value ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = {"", "ascii", "Mjölnir", "😀", "a😀b"} )
+    void shouldFindNoUnpairedSurrogates( String value )
+    {
+        assertFalse( Utf8.hasUnpairedSurrogate( value, 0, value.length() ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = {"\uD800", "\uDC00", "\uD800x", "x\uD800", "\uDC00\uD800", "\uD800é", "\uD800\uD83D\uDE00"} )
+    void shouldFindUnpairedSurrogates( String value )
+    {
+        assertTrue( Utf8.hasUnpairedSurrogate( value, 0, value.length() ) );
+    }
+}
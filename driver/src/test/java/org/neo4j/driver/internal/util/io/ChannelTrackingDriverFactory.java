@@ -30,6 +30,7 @@ import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.cluster.RoutingContext;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.spi.ConnectionPool;
@@ -38,6 +39,8 @@ import org.neo4j.driver.internal.util.DriverFactoryWithClock;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
 
+import static org.neo4j.driver.internal.metrics.InternalAbstractMetrics.DEV_NULL_METRICS;
+
 public class ChannelTrackingDriverFactory extends DriverFactoryWithClock
 {
     private final List<Channel> channels = new CopyOnWriteArrayList<>();
@@ -68,7 +71,7 @@ public class ChannelTrackingDriverFactory extends DriverFactoryWithClock
 
     @Override
     protected final ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-                                                      Config config, Clock clock, RoutingContext routingContext )
+                                                      Config config, Clock clock, RoutingContext routingContext, MetricsListener metricsListener )
     {
         return createChannelTrackingConnector( createRealConnector( settings, securityPlan, config, clock, routingContext ) );
     }
@@ -84,7 +87,7 @@ public class ChannelTrackingDriverFactory extends DriverFactoryWithClock
     protected ChannelConnector createRealConnector( ConnectionSettings settings, SecurityPlan securityPlan,
             Config config, Clock clock, RoutingContext routingContext )
     {
-        return super.createConnector( settings, securityPlan, config, clock, routingContext );
+        return super.createConnector( settings, securityPlan, config, clock, routingContext, DEV_NULL_METRICS );
     }
 
     private ChannelTrackingConnector createChannelTrackingConnector( ChannelConnector connector )
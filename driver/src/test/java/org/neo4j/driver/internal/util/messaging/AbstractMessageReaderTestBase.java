@@ -21,10 +21,13 @@ package org.neo4j.driver.internal.util.messaging;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
+import org.neo4j.driver.internal.InternalNode;
 import org.neo4j.driver.internal.async.inbound.ByteBufInput;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
@@ -36,13 +39,27 @@ import org.neo4j.driver.internal.messaging.response.IgnoredMessage;
 import org.neo4j.driver.internal.messaging.response.RecordMessage;
 import org.neo4j.driver.internal.messaging.response.SuccessMessage;
 import org.neo4j.driver.internal.packstream.PackInput;
+import org.neo4j.driver.internal.util.QueryKeys;
+import org.neo4j.driver.internal.util.RecordProjection;
 import org.neo4j.driver.internal.util.io.ByteBufOutput;
+import org.neo4j.driver.internal.value.BooleanListValue;
+import org.neo4j.driver.internal.value.DoubleListValue;
+import org.neo4j.driver.internal.value.LongListValue;
+import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.Value;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.Values.ofValue;
 import static org.neo4j.driver.Values.value;
 
 public abstract class AbstractMessageReaderTestBase
@@ -83,6 +100,63 @@ public abstract class AbstractMessageReaderTestBase
         verify( handler ).handleRecordMessage( fields );
     }
 
+    @Test
+    void shouldReadRecordMessageWithPrimitiveLists() throws Exception
+    {
+        Value[] fields = {value( new long[]{1, 2, Long.MAX_VALUE} ), value( new double[]{1.5, -2.5} ), value( new boolean[]{true, false} ),
+                value( asList( 1L, 2.5, true, "a" ) ), value( asList( 1L, 2L, "a" ) )};
+
+        ResponseMessageHandler handler = mock( ResponseMessageHandler.class );
+        newReader( newInputWith( new RecordMessage( fields ) ) ).read( handler );
+
+        ArgumentCaptor<Value[]> captor = ArgumentCaptor.forClass( Value[].class );
+        verify( handler ).handleRecordMessage( captor.capture() );
+        Value[] received = captor.getValue();
+        assertArrayEquals( fields, received );
+        assertThat( received[0], instanceOf( LongListValue.class ) );
+        assertThat( received[1], instanceOf( DoubleListValue.class ) );
+        assertThat( received[2], instanceOf( BooleanListValue.class ) );
+        assertArrayEquals( new long[]{1, 2, Long.MAX_VALUE}, received[0].asLongArray() );
+    }
+
+    @Test
+    void shouldReadRecordMessageWithNodesSharingLabelsAndPropertyKeys() throws Exception
+    {
+        Map<String,Value> properties1 = new HashMap<>();
+        properties1.put( "name", value( "Alice" ) );
+        properties1.put( "age", value( 42 ) );
+        Map<String,Value> properties2 = new HashMap<>();
+        properties2.put( "name", value( "Bob" ) );
+        properties2.put( "age", value( 24 ) );
+        Value[] fields = {new NodeValue( new InternalNode( 1, asList( "Person", "Employee" ), properties1 ) ),
+                new NodeValue( new InternalNode( 2, asList( "Person", "Employee" ), properties2 ) ), value( properties1 )};
+
+        ResponseMessageHandler handler = mock( ResponseMessageHandler.class );
+        newReader( newInputWith( new RecordMessage( fields ) ) ).read( handler );
+
+        ArgumentCaptor<Value[]> captor = ArgumentCaptor.forClass( Value[].class );
+        verify( handler ).handleRecordMessage( captor.capture() );
+        Value[] received = captor.getValue();
+        assertArrayEquals( fields, received );
+        assertEquals( properties1, received[0].asNode().asMap( ofValue() ) );
+        assertEquals( properties2, received[1].asNode().asMap( ofValue() ) );
+        assertEquals( properties1, received[2].asMap( ofValue() ) );
+        assertSame( received[0].asNode().labels(), received[1].asNode().labels() );
+    }
+
+    @Test
+    void shouldReadProjectedRecordMessage() throws Exception
+    {
+        Value[] fields = {value( 1 ), value( asList( "a", singletonMap( "b", new byte[]{1, 2} ) ) ), value( "42" )};
+        RecordProjection projection = RecordProjection.of( new QueryKeys( asList( "k1", "k2", "k3" ) ), asList( "k3", "k1" ) );
+
+        ResponseMessageHandler handler = mock( ResponseMessageHandler.class );
+        when( handler.recordProjection() ).thenReturn( projection );
+        newReader( newInputWith( new RecordMessage( fields ) ) ).read( handler );
+
+        verify( handler ).handleRecordMessage( new Value[]{value( 1 ), value( "42" )} );
+    }
+
     @Test
     void shouldFailToReadUnknownMessage()
     {
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BooleanListValueTest
+{
+    @Test
+    void shouldHaveSameStringRepresentationAsListOfValues()
+    {
+        BooleanListValue list = new BooleanListValue( new boolean[]{true, false} );
+
+        assertThat( list.toString(), equalTo( new ListValue( BooleanValue.TRUE, BooleanValue.FALSE ).toString() ) );
+    }
+
+    @Test
+    void shouldBeEqualToListOfValues()
+    {
+        BooleanListValue list = new BooleanListValue( new boolean[]{true, false} );
+        ListValue values = new ListValue( BooleanValue.TRUE, BooleanValue.FALSE );
+
+        assertEquals( values, list );
+        assertEquals( list, values );
+        assertEquals( values.hashCode(), list.hashCode() );
+        assertArrayEquals( new boolean[]{true, false}, list.asBooleanArray() );
+    }
+}
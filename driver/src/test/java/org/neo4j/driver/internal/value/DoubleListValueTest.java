@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.value;
+
+class DoubleListValueTest
+{
+    @Test
+    void shouldHaveSensibleToString()
+    {
+        assertThat( new DoubleListValue( new double[]{1.5, -2.0} ).toString(), equalTo( "[1.5, -2.0]" ) );
+    }
+
+    @Test
+    void shouldAccessElements()
+    {
+        DoubleListValue list = new DoubleListValue( new double[]{1.5, 2.5} );
+
+        assertThat( list.get( 0 ), equalTo( value( 1.5 ) ) );
+        assertArrayEquals( new double[]{1.5, 2.5}, list.asDoubleArray() );
+    }
+
+    @Test
+    void shouldBeEqualToListOfValues()
+    {
+        DoubleListValue list = new DoubleListValue( new double[]{1.5, 2.5} );
+        ListValue values = new ListValue( value( 1.5 ), value( 2.5 ) );
+
+        assertEquals( values, list );
+        assertEquals( list, values );
+        assertEquals( values.hashCode(), list.hashCode() );
+    }
+
+    @Test
+    void shouldNotCoerceFractionsToLongArray()
+    {
+        assertThrows( LossyCoercion.class, () -> new DoubleListValue( new double[]{1.5} ).asLongArray() );
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.neo4j.driver.Values.value;
+
+class LazyValueTest
+{
+    @Test
+    void shouldDecodeOnlyOnce()
+    {
+        AtomicInteger decodes = new AtomicInteger();
+        Value list = value( asList( 1, 2, 3 ) );
+        LazyValue lazy = new LazyValue( new byte[0], encoded ->
+        {
+            decodes.incrementAndGet();
+            return list;
+        } );
+
+        assertEquals( 0, decodes.get() );
+        assertSame( list, lazy.decoded() );
+        assertSame( list, lazy.decoded() );
+        assertEquals( 1, decodes.get() );
+    }
+
+    @Test
+    void shouldPassEncodedBytesToDecoder()
+    {
+        byte[] encoded = {1, 2, 3};
+        LazyValue lazy = new LazyValue( encoded, bytes -> value( bytes.length ) );
+
+        assertThat( lazy.asInt(), equalTo( 3 ) );
+    }
+
+    @Test
+    void shouldDelegateToDecodedValue()
+    {
+        Value list = value( asList( 1, 2, 3 ) );
+        LazyValue lazy = new LazyValue( new byte[0], encoded -> list );
+
+        assertThat( lazy.type(), equalTo( InternalTypeSystem.TYPE_SYSTEM.LIST() ) );
+        assertThat( lazy.size(), equalTo( 3 ) );
+        assertThat( lazy.get( 1 ), equalTo( value( 2 ) ) );
+        assertThat( lazy.asList(), equalTo( list.asList() ) );
+        assertThat( lazy.toString(), equalTo( list.toString() ) );
+        assertSame( list, lazy.asValue() );
+    }
+
+    @Test
+    void shouldBeEqualToDecodedValue()
+    {
+        Value map = value( singletonMap( "key", "value" ) );
+        LazyValue lazy = new LazyValue( new byte[0], encoded -> map );
+
+        assertEquals( lazy, map );
+        assertEquals( lazy, new LazyValue( new byte[0], encoded -> map ) );
+        assertEquals( map.hashCode(), lazy.hashCode() );
+    }
+}
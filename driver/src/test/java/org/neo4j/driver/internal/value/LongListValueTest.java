@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.exceptions.value.Uncoercible;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.NULL;
+import static org.neo4j.driver.Values.value;
+
+class LongListValueTest
+{
+    @Test
+    void shouldHaveSensibleToString()
+    {
+        assertThat( new LongListValue( new long[]{1, 2, 3} ).toString(), equalTo( "[1, 2, 3]" ) );
+    }
+
+    @Test
+    void shouldHaveCorrectType()
+    {
+        assertThat( new LongListValue( new long[0] ).type(), equalTo( InternalTypeSystem.TYPE_SYSTEM.LIST() ) );
+    }
+
+    @Test
+    void shouldAccessElements()
+    {
+        LongListValue list = new LongListValue( new long[]{1, 2, 3} );
+
+        assertThat( list.size(), equalTo( 3 ) );
+        assertThat( list.get( 1 ), equalTo( value( 2 ) ) );
+        assertThat( list.get( 3 ), equalTo( NULL ) );
+        assertThat( list.asList(), equalTo( asList( 1L, 2L, 3L ) ) );
+        assertArrayEquals( new double[]{1, 2, 3}, list.asDoubleArray() );
+    }
+
+    @Test
+    void shouldReturnCopyOfLongArray()
+    {
+        long[] longs = {1, 2, 3};
+        LongListValue list = new LongListValue( longs );
+
+        assertArrayEquals( longs, list.asLongArray() );
+        assertNotSame( longs, list.asLongArray() );
+    }
+
+    @Test
+    void shouldBeEqualToListOfValues()
+    {
+        LongListValue list = new LongListValue( new long[]{1, 2, 3} );
+        ListValue values = new ListValue( value( 1 ), value( 2 ), value( 3 ) );
+
+        assertEquals( values, list );
+        assertEquals( list, values );
+        assertEquals( values.hashCode(), list.hashCode() );
+    }
+
+    @Test
+    void shouldNotCoerceToBooleanArray()
+    {
+        assertThrows( Uncoercible.class, () -> new LongListValue( new long[]{1} ).asBooleanArray() );
+    }
+}
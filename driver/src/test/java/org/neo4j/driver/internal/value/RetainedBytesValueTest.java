@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetainedBytesValueTest
+{
+    private static final byte[] TEST_BYTES = "0123".getBytes();
+
+    @Test
+    void shouldBeBytes()
+    {
+        RetainedBytesValue value = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+
+        assertThat( InternalTypeSystem.TYPE_SYSTEM.BYTES().isTypeOf( value ), equalTo( true ) );
+        assertEquals( TEST_BYTES.length, value.size() );
+        assertFalse( value.isEmpty() );
+    }
+
+    @Test
+    void shouldCopyToByteArray()
+    {
+        RetainedBytesValue value = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+
+        assertArrayEquals( TEST_BYTES, value.asByteArray() );
+        assertArrayEquals( TEST_BYTES, value.asObject() );
+    }
+
+    @Test
+    void shouldExposeReadOnlyByteBuffer()
+    {
+        RetainedBytesValue value = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+
+        ByteBuffer buffer = value.asByteBuffer();
+
+        assertTrue( buffer.isReadOnly() );
+        assertEquals( TEST_BYTES.length, buffer.remaining() );
+        assertEquals( TEST_BYTES[0], buffer.get( 0 ) );
+    }
+
+    @Test
+    void shouldExposeIndependentInputStreams() throws IOException
+    {
+        RetainedBytesValue value = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+
+        try ( InputStream first = value.asInputStream(); InputStream second = value.asInputStream() )
+        {
+            assertEquals( TEST_BYTES[0], first.read() );
+            assertEquals( TEST_BYTES[0], second.read() );
+        }
+    }
+
+    @Test
+    void shouldReleaseBufferOnClose()
+    {
+        ByteBuf buf = Unpooled.wrappedBuffer( TEST_BYTES );
+        RetainedBytesValue value = new RetainedBytesValue( buf );
+
+        value.close();
+
+        assertFalse( value.isOpen() );
+        assertEquals( 0, buf.refCnt() );
+    }
+
+    @Test
+    void shouldFailToUseOrCloseAfterClose()
+    {
+        RetainedBytesValue value = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+        value.close();
+
+        assertThrows( IllegalStateException.class, value::asByteArray );
+        assertThrows( IllegalStateException.class, value::asByteBuffer );
+        assertThrows( IllegalStateException.class, value::asInputStream );
+        assertThrows( IllegalStateException.class, value::close );
+    }
+
+    @Test
+    void shouldReleaseNestedValues()
+    {
+        ByteBuf inList = Unpooled.wrappedBuffer( TEST_BYTES );
+        ByteBuf inMap = Unpooled.wrappedBuffer( TEST_BYTES );
+        RetainedBytesValue closed = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+        closed.close();
+        Value list = new ListValue( new RetainedBytesValue( inList ), closed );
+        Value map = new MapValue( singletonMap( "key", new RetainedBytesValue( inMap ) ) );
+
+        RetainedBytesValue.releaseAll( new Value[]{list, map, Values.value( 42 ), null} );
+
+        assertEquals( 0, inList.refCnt() );
+        assertEquals( 0, inMap.refCnt() );
+    }
+
+    @Test
+    void shouldReleaseRecordFieldsWithoutDecodingLazyFields()
+    {
+        ByteBuf buffer = Unpooled.wrappedBuffer( TEST_BYTES );
+        Value lazy = new LazyValue( new byte[]{1}, encoded ->
+        {
+            throw new AssertionError( "Lazy field decoded" );
+        } );
+        Record record = new InternalRecord( asList( "bytes", "lazy" ), new Value[]{new RetainedBytesValue( buffer ), lazy} );
+
+        RetainedBytesValue.releaseAll( record );
+
+        assertEquals( 0, buffer.refCnt() );
+    }
+
+    @Test
+    void shouldNotBoxElementsOfPrimitiveLists()
+    {
+        ByteBuf buffer = Unpooled.wrappedBuffer( TEST_BYTES );
+        Value longs = new LongListValue( new long[]{1, 2, 3} )
+        {
+            @Override
+            protected Value element( int index )
+            {
+                throw new AssertionError( "Element boxed" );
+            }
+        };
+
+        RetainedBytesValue.releaseAll( new Value[]{longs, new RetainedBytesValue( buffer )} );
+
+        assertEquals( 0, buffer.refCnt() );
+    }
+
+    @Test
+    void shouldBeEqualToValueWithSameBytes()
+    {
+        RetainedBytesValue first = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+        RetainedBytesValue second = new RetainedBytesValue( Unpooled.copiedBuffer( TEST_BYTES ) );
+
+        assertEquals( first, second );
+        assertEquals( first.hashCode(), second.hashCode() );
+    }
+
+    @Test
+    void shouldBeEqualToBytesValueWithSameBytes()
+    {
+        RetainedBytesValue retained = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+        Value bytes = Values.value( TEST_BYTES );
+
+        assertEquals( retained, bytes );
+        assertEquals( bytes, retained );
+        assertEquals( bytes.hashCode(), retained.hashCode() );
+        assertNotEquals( retained, Values.value( new byte[]{9} ) );
+        assertNotEquals( retained, Values.value( "0123" ) );
+        assertEquals( new InternalRecord( asList( "blob" ), new Value[]{retained} ), new InternalRecord( asList( "blob" ), new Value[]{bytes} ) );
+    }
+
+    @Test
+    void shouldKeepHashCodeAfterClose()
+    {
+        RetainedBytesValue value = new RetainedBytesValue( Unpooled.wrappedBuffer( TEST_BYTES ) );
+        int hashCode = value.hashCode();
+
+        value.close();
+
+        assertEquals( hashCode, value.hashCode() );
+        assertThrows( IllegalStateException.class, () -> value.equals( Values.value( TEST_BYTES ) ) );
+    }
+}